@@ -1,5 +1,7 @@
 package com.petshop.api.endpoints;
 
+import com.petshop.api.payloads.ApiResponse;
+import com.petshop.api.response.ApiResult;
 import io.restassured.response.Response;
 
 /**
@@ -36,5 +38,52 @@ public interface IApiEndpoint<T> {
      * @return Response
      */
     Response delete(Object id);
-}
 
+    /**
+     * Base URI the requests are sent to
+     * @return Base URI, base.url unless the endpoint targets another deployment
+     */
+    String getBaseUri();
+
+    /**
+     * Payload class that response bodies bind to
+     * @return Payload class
+     */
+    Class<T> getPayloadType();
+
+    /**
+     * Create a new resource and wrap the response for single-parse access
+     * @param payload Request payload
+     * @return Typed result
+     */
+    default ApiResult<T> createTyped(T payload) {
+        return ApiResult.of(create(payload), getPayloadType());
+    }
+
+    /**
+     * Get resource by ID and wrap the response for single-parse access
+     * @param id Resource ID
+     * @return Typed result
+     */
+    default ApiResult<T> getByIdTyped(Object id) {
+        return ApiResult.of(getById(id), getPayloadType());
+    }
+
+    /**
+     * Update existing resource and wrap the response for single-parse access
+     * @param payload Request payload
+     * @return Typed result
+     */
+    default ApiResult<T> updateTyped(T payload) {
+        return ApiResult.of(update(payload), getPayloadType());
+    }
+
+    /**
+     * Delete resource by ID and wrap the response for single-parse access
+     * @param id Resource ID
+     * @return Typed result with the API's status message body
+     */
+    default ApiResult<ApiResponse> deleteTyped(Object id) {
+        return ApiResult.of(delete(id), ApiResponse.class);
+    }
+}
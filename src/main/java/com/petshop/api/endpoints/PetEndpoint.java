@@ -1,9 +1,21 @@
 package com.petshop.api.endpoints;
 
 import com.petshop.api.payloads.Pet;
+import com.petshop.api.response.ApiResult;
 import com.petshop.api.specifications.RequestSpecifications;
 import com.petshop.config.ConfigFactory;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 import static io.restassured.RestAssured.given;
 
@@ -15,24 +27,58 @@ import static io.restassured.RestAssured.given;
 public class PetEndpoint implements IApiEndpoint<Pet> {
 
     private final String basePath;
+    private final String baseUri;
 
     public PetEndpoint() {
+        this(null);
+    }
+
+    /**
+     * Create an endpoint that targets another deployment than base.url, e.g. a second environment
+     * @param baseUri Base URI, or null to follow base.url
+     */
+    public PetEndpoint(String baseUri) {
         this.basePath = ConfigFactory.getConfig().petEndpoint();
+        this.baseUri = baseUri;
+    }
+
+    @Override
+    public String getBaseUri() {
+        return baseUri == null ? ConfigFactory.getConfig().baseUrl() : baseUri;
+    }
+
+    @Override
+    public Class<Pet> getPayloadType() {
+        return Pet.class;
     }
 
     @Override
     public Response create(Pet payload) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .body(payload)
                 .when()
                 .post(basePath);
     }
 
+    /**
+     * Add a pet from an already serialized Pet JSON body, e.g. from CompactJsonWriter
+     * The pet is tracked for cleanup by the id in the response.
+     * @param json JSON bytes
+     * @return Response
+     */
+    public Response createRaw(byte[] json) {
+        return given()
+                .spec(requestSpec())
+                .body(json)
+                .when()
+                .post(basePath);
+    }
+
     @Override
     public Response getById(Object id) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .pathParam("petId", id)
                 .when()
                 .get(basePath + "/{petId}");
@@ -41,7 +87,7 @@ public class PetEndpoint implements IApiEndpoint<Pet> {
     @Override
     public Response update(Pet payload) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .body(payload)
                 .when()
                 .put(basePath);
@@ -50,7 +96,7 @@ public class PetEndpoint implements IApiEndpoint<Pet> {
     @Override
     public Response delete(Object id) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .pathParam("petId", id)
                 .when()
                 .delete(basePath + "/{petId}");
@@ -63,12 +109,21 @@ public class PetEndpoint implements IApiEndpoint<Pet> {
      */
     public Response findByStatus(String status) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .queryParam("status", status)
                 .when()
                 .get(basePath + "/findByStatus");
     }
 
+    /**
+     * Find pets by status and wrap the response for single-parse access
+     * @param status Pet status (available, pending, sold)
+     * @return Typed result
+     */
+    public ApiResult<Pet[]> findByStatusTyped(String status) {
+        return ApiResult.of(findByStatus(status), Pet[].class);
+    }
+
     /**
      * Find pets by tags
      * @param tags Array of tags
@@ -76,7 +131,7 @@ public class PetEndpoint implements IApiEndpoint<Pet> {
      */
     public Response findByTags(String[] tags) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .queryParam("tags", String.join(",", tags))
                 .when()
                 .get(basePath + "/findByTags");
@@ -89,12 +144,45 @@ public class PetEndpoint implements IApiEndpoint<Pet> {
      * @return Response
      */
     public Response uploadImage(Long petId, String filePath) {
-        return given()
-                .spec(RequestSpecifications.getMultipartRequestSpec())
-                .pathParam("petId", petId)
-                .multiPart("file", filePath)
-                .when()
-                .post(basePath + "/{petId}/uploadImage");
+        return uploadImage(petId, Paths.get(filePath));
     }
-}
 
+    /**
+     * Upload pet image, streaming the file from a FileChannel
+     * The part has no declared length, so it is sent with chunked transfer encoding and only a small
+     * copy buffer is held on the heap regardless of file size.
+     * @param petId Pet ID
+     * @param file Image file
+     * @return Response
+     */
+    public Response uploadImage(Long petId, Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             InputStream content = Channels.newInputStream(channel)) {
+            return given()
+                    .spec(multipartRequestSpec())
+                    .pathParam("petId", petId)
+                    .multiPart("file", file.getFileName().toString(), content, contentTypeOf(file))
+                    .when()
+                    .post(basePath + "/{petId}/uploadImage");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read image file: " + file, e);
+        }
+    }
+
+    private static String contentTypeOf(Path file) throws IOException {
+        String contentType = Files.probeContentType(file);
+        return contentType != null ? contentType : "application/octet-stream";
+    }
+
+    private RequestSpecification requestSpec() {
+        return baseUri == null
+                ? RequestSpecifications.getBasicRequestSpec()
+                : RequestSpecifications.getCustomBaseUriSpec(baseUri);
+    }
+
+    private RequestSpecification multipartRequestSpec() {
+        return baseUri == null
+                ? RequestSpecifications.getMultipartRequestSpec()
+                : RequestSpecifications.getMultipartRequestSpec(baseUri);
+    }
+}
@@ -4,6 +4,7 @@ import com.petshop.api.payloads.Order;
 import com.petshop.api.specifications.RequestSpecifications;
 import com.petshop.config.ConfigFactory;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
 import static io.restassured.RestAssured.given;
 
@@ -14,24 +15,58 @@ import static io.restassured.RestAssured.given;
 public class StoreEndpoint implements IApiEndpoint<Order> {
 
     private final String basePath;
+    private final String baseUri;
 
     public StoreEndpoint() {
+        this(null);
+    }
+
+    /**
+     * Create an endpoint that targets another deployment than base.url, e.g. a second environment
+     * @param baseUri Base URI, or null to follow base.url
+     */
+    public StoreEndpoint(String baseUri) {
         this.basePath = ConfigFactory.getConfig().storeEndpoint();
+        this.baseUri = baseUri;
+    }
+
+    @Override
+    public String getBaseUri() {
+        return baseUri == null ? ConfigFactory.getConfig().baseUrl() : baseUri;
+    }
+
+    @Override
+    public Class<Order> getPayloadType() {
+        return Order.class;
     }
 
     @Override
     public Response create(Order payload) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .body(payload)
                 .when()
                 .post(basePath + "/order");
     }
 
+    /**
+     * Place an order from an already serialized Order JSON body, e.g. from CompactJsonWriter
+     * The order is tracked for cleanup by the id in the response.
+     * @param json JSON bytes
+     * @return Response
+     */
+    public Response createRaw(byte[] json) {
+        return given()
+                .spec(requestSpec())
+                .body(json)
+                .when()
+                .post(basePath + "/order");
+    }
+
     @Override
     public Response getById(Object orderId) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .pathParam("orderId", orderId)
                 .when()
                 .get(basePath + "/order/{orderId}");
@@ -46,7 +81,7 @@ public class StoreEndpoint implements IApiEndpoint<Order> {
     @Override
     public Response delete(Object orderId) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .pathParam("orderId", orderId)
                 .when()
                 .delete(basePath + "/order/{orderId}");
@@ -58,9 +93,14 @@ public class StoreEndpoint implements IApiEndpoint<Order> {
      */
     public Response getInventory() {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .when()
                 .get(basePath + "/inventory");
     }
-}
 
+    private RequestSpecification requestSpec() {
+        return baseUri == null
+                ? RequestSpecifications.getBasicRequestSpec()
+                : RequestSpecifications.getCustomBaseUriSpec(baseUri);
+    }
+}
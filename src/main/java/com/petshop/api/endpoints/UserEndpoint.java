@@ -4,6 +4,7 @@ import com.petshop.api.payloads.User;
 import com.petshop.api.specifications.RequestSpecifications;
 import com.petshop.config.ConfigFactory;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
 import java.util.List;
 
@@ -16,24 +17,58 @@ import static io.restassured.RestAssured.given;
 public class UserEndpoint implements IApiEndpoint<User> {
 
     private final String basePath;
+    private final String baseUri;
 
     public UserEndpoint() {
+        this(null);
+    }
+
+    /**
+     * Create an endpoint that targets another deployment than base.url, e.g. a second environment
+     * @param baseUri Base URI, or null to follow base.url
+     */
+    public UserEndpoint(String baseUri) {
         this.basePath = ConfigFactory.getConfig().userEndpoint();
+        this.baseUri = baseUri;
+    }
+
+    @Override
+    public String getBaseUri() {
+        return baseUri == null ? ConfigFactory.getConfig().baseUrl() : baseUri;
+    }
+
+    @Override
+    public Class<User> getPayloadType() {
+        return User.class;
     }
 
     @Override
     public Response create(User payload) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .body(payload)
                 .when()
                 .post(basePath);
     }
 
+    /**
+     * Create a user from an already serialized User JSON body, e.g. from CompactJsonWriter
+     * The user is tracked for cleanup by the username in the body, so the body must have one.
+     * @param json JSON bytes
+     * @return Response
+     */
+    public Response createRaw(byte[] json) {
+        return given()
+                .spec(requestSpec())
+                .body(json)
+                .when()
+                .post(basePath);
+    }
+
     @Override
     public Response getById(Object username) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .pathParam("username", username)
                 .when()
                 .get(basePath + "/{username}");
@@ -42,7 +77,7 @@ public class UserEndpoint implements IApiEndpoint<User> {
     @Override
     public Response update(User payload) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .pathParam("username", payload.getUsername())
                 .body(payload)
                 .when()
@@ -52,7 +87,7 @@ public class UserEndpoint implements IApiEndpoint<User> {
     @Override
     public Response delete(Object username) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .pathParam("username", username)
                 .when()
                 .delete(basePath + "/{username}");
@@ -65,7 +100,7 @@ public class UserEndpoint implements IApiEndpoint<User> {
      */
     public Response createWithArray(List<User> users) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .body(users)
                 .when()
                 .post(basePath + "/createWithArray");
@@ -78,7 +113,7 @@ public class UserEndpoint implements IApiEndpoint<User> {
      */
     public Response createWithList(List<User> users) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .body(users)
                 .when()
                 .post(basePath + "/createWithList");
@@ -92,7 +127,7 @@ public class UserEndpoint implements IApiEndpoint<User> {
      */
     public Response login(String username, String password) {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .queryParam("username", username)
                 .queryParam("password", password)
                 .when()
@@ -105,9 +140,14 @@ public class UserEndpoint implements IApiEndpoint<User> {
      */
     public Response logout() {
         return given()
-                .spec(RequestSpecifications.getBasicRequestSpec())
+                .spec(requestSpec())
                 .when()
                 .get(basePath + "/logout");
     }
-}
 
+    private RequestSpecification requestSpec() {
+        return baseUri == null
+                ? RequestSpecifications.getBasicRequestSpec()
+                : RequestSpecifications.getCustomBaseUriSpec(baseUri);
+    }
+}
@@ -0,0 +1,88 @@
+package com.petshop.api.filters;
+
+import com.petshop.config.ConfigFactory;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Request body compression and wire-size measurement filter
+ * Bodies at or above the configured threshold are gzip-encoded before sending.
+ * For every call the bytes on the wire and the decoded bytes are recorded in CompressionStats.
+ * Runs after all other filters except the transport, so logging filters still see the uncompressed body.
+ */
+public class CompressionFilter implements OrderedFilter {
+
+    private final int threshold;
+
+    public CompressionFilter() {
+        this.threshold = ConfigFactory.getConfig().compressionRequestThresholdBytes();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        byte[] body = bodyBytes(requestSpec.getBody());
+        long requestDecoded = body == null ? 0 : body.length;
+        long requestWire = requestDecoded;
+
+        if (body != null && threshold >= 0 && body.length >= threshold
+                && requestSpec.getHeaders().getValue("Content-Encoding") == null) {
+            byte[] compressed = gzip(body);
+            requestSpec.body(compressed);
+            requestSpec.header("Content-Encoding", "gzip");
+            requestWire = compressed.length;
+        }
+
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long responseDecoded = response.asByteArray().length;
+        // Chunked responses carry no Content-Length, so their decoded size is used instead
+        String contentLength = response.getHeader("Content-Length");
+        long responseWire = contentLength != null ? Long.parseLong(contentLength.trim()) : responseDecoded;
+
+        CompressionStats.forEndpoint(requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath())
+                .record(requestWire, requestDecoded, responseWire, responseDecoded, elapsedMillis);
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+        // Files, streams and multipart bodies are sent as-is
+        return null;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 16);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gzip request body", e);
+        }
+        return out.toByteArray();
+    }
+}
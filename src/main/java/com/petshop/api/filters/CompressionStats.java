@@ -0,0 +1,79 @@
+package com.petshop.api.filters;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint byte counters comparing bytes on the wire with decoded bytes
+ * Populated by CompressionFilter, reported at the end of the suite
+ */
+public class CompressionStats {
+
+    private static final Map<String, EndpointStats> STATS = new ConcurrentHashMap<>();
+
+    private CompressionStats() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get (or create) the counters for an endpoint
+     * @param endpoint Endpoint key, e.g. "GET /pet/findByStatus"
+     * @return EndpointStats
+     */
+    public static EndpointStats forEndpoint(String endpoint) {
+        return STATS.computeIfAbsent(endpoint, key -> new EndpointStats());
+    }
+
+    /**
+     * Reset all counters
+     */
+    public static void reset() {
+        STATS.clear();
+    }
+
+    /**
+     * Build a plain-text report of wire versus decoded bytes per endpoint
+     * @return Report text
+     */
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-40s %8s %14s %14s %14s %14s %7s %9s%n",
+                "Endpoint", "Requests", "Req wire", "Req decoded", "Resp wire", "Resp decoded", "Ratio", "Avg ms"));
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(STATS).entrySet()) {
+            EndpointStats s = entry.getValue();
+            long requests = s.requests.sum();
+            long wire = s.requestWireBytes.sum() + s.responseWireBytes.sum();
+            long decoded = s.requestDecodedBytes.sum() + s.responseDecodedBytes.sum();
+            sb.append(String.format("%-40s %8d %14d %14d %14d %14d %7.2f %9.1f%n",
+                    entry.getKey(), requests,
+                    s.requestWireBytes.sum(), s.requestDecodedBytes.sum(),
+                    s.responseWireBytes.sum(), s.responseDecodedBytes.sum(),
+                    decoded == 0 ? 1.0 : (double) wire / decoded,
+                    requests == 0 ? 0.0 : (double) s.timeMillis.sum() / requests));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Byte and timing counters for a single endpoint
+     */
+    public static final class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder requestWireBytes = new LongAdder();
+        private final LongAdder requestDecodedBytes = new LongAdder();
+        private final LongAdder responseWireBytes = new LongAdder();
+        private final LongAdder responseDecodedBytes = new LongAdder();
+        private final LongAdder timeMillis = new LongAdder();
+
+        public void record(long reqWire, long reqDecoded, long respWire, long respDecoded, long millis) {
+            requests.increment();
+            requestWireBytes.add(reqWire);
+            requestDecodedBytes.add(reqDecoded);
+            responseWireBytes.add(respWire);
+            responseDecodedBytes.add(respDecoded);
+            timeMillis.add(millis);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.petshop.api.filters;
+
+import com.petshop.metrics.Gauge;
+import com.petshop.metrics.MetricsRegistry;
+import com.petshop.warmup.Warmup;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request metrics filter feeding the shared MetricsRegistry
+ * Records request, error and byte counters by endpoint, method and status, a latency timer
+ * and an in-flight gauge. Runs just before compression and transport, so the timer measures
+ * the network round trip and cache hits are not counted as requests; ResponseCacheFilter counts those.
+ * Requests sent during the warmup stage only feed petshop_warmup_request_duration_seconds.
+ */
+public class MetricsFilter implements OrderedFilter {
+
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.getInstance();
+    private static final Gauge IN_FLIGHT = REGISTRY.gauge("petshop_http_requests_in_flight",
+            "Requests currently awaiting a response");
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String endpoint = requestSpec.getUserDefinedPath();
+        String method = requestSpec.getMethod();
+        if (Warmup.isRunning()) {
+            long start = System.nanoTime();
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                REGISTRY.timer("petshop_warmup_request_duration_seconds", "Request latency during warmup",
+                        "endpoint", endpoint, "method", method).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+        REGISTRY.counter("petshop_http_request_bytes_total", "Request body bytes sent",
+                "endpoint", endpoint, "method", method).add(bodyLength(requestSpec.getBody()));
+
+        IN_FLIGHT.increment();
+        long start = System.nanoTime();
+        String status = "exception";
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            status = String.valueOf(response.getStatusCode());
+            REGISTRY.counter("petshop_http_response_bytes_total", "Response body bytes received",
+                    "endpoint", endpoint, "method", method, "status", status).add(response.asByteArray().length);
+            return response;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            IN_FLIGHT.decrement();
+            REGISTRY.timer("petshop_http_request_duration_seconds", "Request latency",
+                    "endpoint", endpoint, "method", method).record(elapsed, TimeUnit.NANOSECONDS);
+            REGISTRY.counter("petshop_http_requests_total", "Requests completed",
+                    "endpoint", endpoint, "method", method, "status", status).increment();
+            if ("exception".equals(status) || status.charAt(0) >= '4') {
+                REGISTRY.counter("petshop_http_errors_total", "Requests that failed or returned 4xx/5xx",
+                        "endpoint", endpoint, "method", method, "status", status).increment();
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    private static long bodyLength(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return 0;
+    }
+}
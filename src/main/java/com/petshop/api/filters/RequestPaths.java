@@ -0,0 +1,88 @@
+package com.petshop.api.filters;
+
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+import io.restassured.specification.FilterableRequestSpecification;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Helper for deriving endpoint-relative paths inside filters
+ * Follows Single Responsibility Principle - Handles only request path resolution
+ */
+public class RequestPaths {
+
+    private RequestPaths() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get the request path relative to the base URI, e.g. "/pet/42" for "https://host/v2/pet/42"
+     * @param requestSpec Filterable request specification
+     * @return Resource path with path parameters resolved
+     */
+    public static String resourcePath(FilterableRequestSpecification requestSpec) {
+        String derivedPath = requestSpec.getDerivedPath();
+        String basePath = URI.create(requestSpec.getBaseUri()).getPath();
+        if (basePath != null && basePath.endsWith("/")) {
+            basePath = basePath.substring(0, basePath.length() - 1);
+        }
+        if (basePath != null && !basePath.isEmpty() && derivedPath.startsWith(basePath)) {
+            return derivedPath.substring(basePath.length());
+        }
+        return derivedPath;
+    }
+
+    /**
+     * Get the endpoint operation a request belongs to, named after the endpoint class and method,
+     * e.g. "pet.getById" for GET /pet/{petId}
+     * @param requestSpec Filterable request specification
+     * @return Operation name, or "METHOD path-template" for requests outside the endpoint classes
+     */
+    public static String operationName(FilterableRequestSpecification requestSpec) {
+        String key = requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath();
+        return Operations.NAMES.getOrDefault(key, key);
+    }
+
+    /**
+     * Operation names by method and path template, built from the configured endpoint paths
+     */
+    private static final class Operations {
+
+        static final Map<String, String> NAMES = new HashMap<>();
+
+        static {
+            ConfigManager config = ConfigFactory.getConfig();
+            String pet = config.petEndpoint();
+            add("POST", pet, "pet.create");
+            add("GET", pet + "/{petId}", "pet.getById");
+            add("PUT", pet, "pet.update");
+            add("DELETE", pet + "/{petId}", "pet.delete");
+            add("GET", pet + "/findByStatus", "pet.findByStatus");
+            add("GET", pet + "/findByTags", "pet.findByTags");
+            add("POST", pet + "/{petId}/uploadImage", "pet.uploadImage");
+
+            String store = config.storeEndpoint();
+            add("POST", store + "/order", "store.create");
+            add("GET", store + "/order/{orderId}", "store.getById");
+            add("DELETE", store + "/order/{orderId}", "store.delete");
+            add("GET", store + "/inventory", "store.getInventory");
+
+            String user = config.userEndpoint();
+            add("POST", user, "user.create");
+            add("GET", user + "/{username}", "user.getById");
+            add("PUT", user + "/{username}", "user.update");
+            add("DELETE", user + "/{username}", "user.delete");
+            add("POST", user + "/createWithArray", "user.createWithArray");
+            add("POST", user + "/createWithList", "user.createWithList");
+            add("GET", user + "/login", "user.login");
+            add("GET", user + "/logout", "user.logout");
+        }
+
+        private static void add(String method, String path, String name) {
+            NAMES.put(method + " " + path, name);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.petshop.api.filters;
+
+import com.petshop.api.payloads.User;
+import com.petshop.api.response.PathSet;
+import com.petshop.cleanup.ResourceTracker;
+import com.petshop.cleanup.ResourceType;
+import com.petshop.utils.JsonUtils;
+import com.petshop.utils.LoggerUtil;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Feeds created and deleted resource IDs, with the base URI they live under, to the ResourceTracker
+ * Pets and orders are identified from the create response, users from the request body, which may be
+ * a String or, from createRaw, already serialized bytes. A body that cannot be read is logged and left
+ * untracked; it never fails the request.
+ */
+public class ResourceTrackingFilter implements OrderedFilter {
+
+    private static final PathSet ID = PathSet.of("id");
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String baseUri = requestSpec.getBaseUri();
+        String path = RequestPaths.resourcePath(requestSpec);
+        Object body = requestSpec.getBody();
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        int status = response.getStatusCode();
+        boolean success = status / 100 == 2;
+
+        if ("POST".equalsIgnoreCase(method) && success) {
+            try {
+                trackCreate(baseUri, path, body, response);
+            } catch (RuntimeException e) {
+                LoggerUtil.warn("Not tracking POST " + path + " for cleanup: " + e.getMessage());
+            }
+        } else if ("DELETE".equalsIgnoreCase(method) && (success || status == 404)) {
+            // Deleted explicitly, or already gone: nothing left for the cleanup to delete
+            ResourceType type = ResourceType.ofItemPath(path);
+            if (type != null) {
+                ResourceTracker.untrack(baseUri, type, path.substring(path.lastIndexOf('/') + 1));
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 4;
+    }
+
+    private static void trackCreate(String baseUri, String path, Object body, Response response) {
+        String userPath = ResourceType.USER.getPath();
+        if (path.equals(userPath + "/createWithArray") || path.equals(userPath + "/createWithList")) {
+            String json = bodyText(body);
+            if (json != null) {
+                for (User user : JsonUtils.fromJsonString(json, User[].class)) {
+                    ResourceTracker.track(baseUri, ResourceType.USER, user.getUsername());
+                }
+            }
+            return;
+        }
+
+        ResourceType type = ResourceType.ofCollectionPath(path);
+        if (type == ResourceType.USER) {
+            String json = bodyText(body);
+            if (json != null) {
+                User user = JsonUtils.fromJsonString(json, User.class);
+                ResourceTracker.track(baseUri, type, user.getUsername());
+            }
+        } else if (type != null) {
+            Object id = ID.extract(response.asByteArray())[0];
+            if (id != null) {
+                ResourceTracker.track(baseUri, type, String.valueOf(id));
+            }
+        }
+    }
+
+    private static String bodyText(Object body) {
+        if (body instanceof byte[]) {
+            return new String((byte[]) body, StandardCharsets.UTF_8);
+        }
+        return body instanceof String ? (String) body : null;
+    }
+}
@@ -0,0 +1,145 @@
+package com.petshop.api.filters;
+
+import io.restassured.response.Response;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded in-memory store for cached GET responses
+ * Entries are evicted in least-recently-used order once the maximum size is reached
+ */
+public class ResponseCache {
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+
+    private long hits;
+    private long misses;
+    private long revalidations;
+    private long evictions;
+
+    public ResponseCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Look up a cached entry, counting a hit when it is still fresh
+     * @param key Cache key (method, URI and the headers that vary the response)
+     * @return Entry, or null if nothing is cached for the key
+     */
+    public synchronized Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+        } else if (entry.isFresh()) {
+            hits++;
+        }
+        return entry;
+    }
+
+    /**
+     * Store a response
+     * @param key Cache key (method, URI and the headers that vary the response)
+     * @param resourcePath Request path the response belongs to, used for invalidation
+     * @param response Response to cache (body must already be buffered)
+     * @param ttlMillis Time to live in milliseconds
+     */
+    public synchronized void put(String key, String resourcePath, Response response, long ttlMillis) {
+        entries.put(key, new Entry(resourcePath, response, response.getHeader("ETag"), ttlMillis));
+        while (entries.size() > maxEntries) {
+            Iterator<String> eldest = entries.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Extend the lifetime of an entry after the server confirmed it is unchanged (304)
+     * @param key Cache key
+     * @param ttlMillis Time to live in milliseconds
+     */
+    public synchronized void refresh(String key, long ttlMillis) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entries.put(key, new Entry(entry.resourcePath, entry.response, entry.etag, ttlMillis));
+            revalidations++;
+        }
+    }
+
+    /**
+     * Remove all entries whose request path starts with the given prefix
+     * @param pathPrefix Path prefix, e.g. "/pet"
+     * @return Number of removed entries
+     */
+    public synchronized int invalidate(String pathPrefix) {
+        int removed = 0;
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().resourcePath.startsWith(pathPrefix)) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Remove all entries and reset statistics
+     */
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+        revalidations = 0;
+        evictions = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get a one-line summary of cache statistics
+     * @return Statistics string
+     */
+    public synchronized String getStats() {
+        return "size=" + entries.size() + "/" + maxEntries
+                + ", hits=" + hits
+                + ", misses=" + misses
+                + ", revalidations=" + revalidations
+                + ", evictions=" + evictions;
+    }
+
+    /**
+     * Cached response with its expiry and validator
+     */
+    public static final class Entry {
+        private final String resourcePath;
+        private final Response response;
+        private final String etag;
+        private final long expiresAt;
+
+        private Entry(String resourcePath, Response response, String etag, long ttlMillis) {
+            this.resourcePath = resourcePath;
+            this.response = response;
+            this.etag = etag;
+            this.expiresAt = System.currentTimeMillis() + ttlMillis;
+        }
+
+        public boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+
+        public Response getResponse() {
+            return response;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.petshop.api.filters;
+
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+import com.petshop.metrics.MetricsRegistry;
+import com.petshop.utils.LoggerUtil;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.List;
+
+/**
+ * Opt-in HTTP response cache for read-only endpoint calls
+ * GET responses are served from a shared LRU cache until their per-endpoint TTL expires,
+ * then revalidated with If-None-Match when the server supplied an ETag.
+ * Successful writes (POST/PUT/DELETE) invalidate cached reads of the same resource.
+ * GET /user/login and /user/logout open and close a session, so they always reach the server.
+ * Entries are keyed by URI and by the request headers that change the response or who may see it,
+ * so a read with another Accept or api_key is never served someone else's representation.
+ * Runs inside the request and response logging filters, so cache hits are logged like any other call,
+ * and outside MetricsFilter, so they are counted in petshop_http_cache_requests_total but not as requests.
+ */
+public class ResponseCacheFilter implements OrderedFilter {
+
+    private static final ResponseCache CACHE = new ResponseCache(ConfigFactory.getConfig().cacheMaxEntries());
+    private static final List<String> KEY_HEADERS = List.of("Accept", "Authorization", "api_key");
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.getInstance();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String path = RequestPaths.resourcePath(requestSpec);
+
+        if ("GET".equalsIgnoreCase(method) && isSessionCall(path)) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        if (!"GET".equalsIgnoreCase(method)) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            if (response.getStatusCode() < 400) {
+                invalidateFor(path);
+            }
+            return response;
+        }
+
+        String key = keyFor(requestSpec);
+        long ttl = ttlFor(path);
+        ResponseCache.Entry cached = CACHE.get(key);
+
+        if (cached != null && cached.isFresh()) {
+            LoggerUtil.info("Cache hit: " + method + " " + requestSpec.getURI());
+            count(requestSpec, "hit");
+            return copyOf(cached.getResponse());
+        }
+        if (cached != null && cached.getEtag() != null) {
+            requestSpec.header("If-None-Match", cached.getEtag());
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        if (response.getStatusCode() == 304 && cached != null) {
+            CACHE.refresh(key, ttl);
+            LoggerUtil.debug("Cache revalidated: " + method + " " + requestSpec.getURI());
+            count(requestSpec, "revalidated");
+            return copyOf(cached.getResponse());
+        }
+        count(requestSpec, "miss");
+        if (response.getStatusCode() == 200 && ttl > 0 && isStorable(response)) {
+            // Buffer the body first, so cloning it leaves the stream readable for the caller
+            response.asByteArray();
+            CACHE.put(key, path, copyOf(response), ttl);
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        // Just after the unordered filters, such as RequestLoggingFilter and ResponseLoggingFilter
+        return DEFAULT_PRECEDENCE + 1;
+    }
+
+    /**
+     * Get the shared cache instance
+     * @return ResponseCache
+     */
+    public static ResponseCache getCache() {
+        return CACHE;
+    }
+
+    /**
+     * Build the cache key from the method, the URI and the values of KEY_HEADERS
+     * @param requestSpec Filterable request specification
+     * @return Cache key
+     */
+    private String keyFor(FilterableRequestSpecification requestSpec) {
+        StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ').append(requestSpec.getURI());
+        for (String header : KEY_HEADERS) {
+            List<String> values = requestSpec.getHeaders().getValues(header);
+            if (!values.isEmpty()) {
+                key.append('\n').append(header).append(": ").append(String.join(", ", values));
+            }
+        }
+        return key.toString();
+    }
+
+    private void count(FilterableRequestSpecification requestSpec, String result) {
+        REGISTRY.counter("petshop_http_cache_requests_total", "GET requests looked up in the response cache",
+                "endpoint", requestSpec.getUserDefinedPath(), "result", result).increment();
+    }
+
+    /**
+     * Resolve the TTL for a request path from the per-endpoint configuration
+     * @param path Request path
+     * @return TTL in milliseconds
+     */
+    private long ttlFor(String path) {
+        ConfigManager config = ConfigFactory.getConfig();
+        if (path.startsWith(config.petEndpoint())) {
+            return config.cacheTtlPet();
+        }
+        if (path.startsWith(config.storeEndpoint())) {
+            return config.cacheTtlStore();
+        }
+        if (path.startsWith(config.userEndpoint())) {
+            return config.cacheTtlUser();
+        }
+        return config.cacheTtlDefault();
+    }
+
+    /**
+     * Invalidate cached reads affected by a write to the given path
+     * Pet writes also invalidate the store inventory, which is derived from pet statuses
+     * @param path Written request path
+     */
+    private void invalidateFor(String path) {
+        ConfigManager config = ConfigFactory.getConfig();
+        int removed;
+        if (path.startsWith(config.petEndpoint())) {
+            removed = CACHE.invalidate(config.petEndpoint());
+            removed += CACHE.invalidate(config.storeEndpoint() + "/inventory");
+        } else if (path.startsWith(config.storeEndpoint())) {
+            removed = CACHE.invalidate(config.storeEndpoint());
+        } else if (path.startsWith(config.userEndpoint())) {
+            removed = CACHE.invalidate(config.userEndpoint());
+        } else {
+            removed = CACHE.invalidate(path);
+        }
+        if (removed > 0) {
+            LoggerUtil.debug("Cache invalidated " + removed + " entries after write to " + path);
+        }
+    }
+
+    /**
+     * Check whether a GET changes the user's session and must not be answered from the cache
+     * @param path Request path
+     * @return true for login and logout
+     */
+    private boolean isSessionCall(String path) {
+        String userEndpoint = ConfigFactory.getConfig().userEndpoint();
+        return path.equals(userEndpoint + "/login") || path.equals(userEndpoint + "/logout");
+    }
+
+    private boolean isStorable(Response response) {
+        String cacheControl = response.getHeader("Cache-Control");
+        return cacheControl == null || !cacheControl.toLowerCase().contains("no-store");
+    }
+
+    private Response copyOf(Response response) {
+        return new ResponseBuilder().clone(response).build();
+    }
+}
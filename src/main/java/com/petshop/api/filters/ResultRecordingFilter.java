@@ -0,0 +1,63 @@
+package com.petshop.api.filters;
+
+import com.petshop.results.ResultRecord;
+import com.petshop.results.ResultStore;
+import com.petshop.warmup.Warmup;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result recording filter: appends one binary record per request to the run's result file
+ * Records endpoint template, method, status, latency, body sizes and the running test, for
+ * run-over-run comparison with ResultDiff. Sits beside MetricsFilter, so latency covers the
+ * network round trip; cache hits and warmup calls are not recorded.
+ */
+public class ResultRecordingFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (Warmup.isRunning()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long timestamp = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        long start = System.nanoTime();
+        int status = 0;
+        long responseBytes = 0;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            status = response.getStatusCode();
+            responseBytes = response.asByteArray().length;
+            return response;
+        } finally {
+            long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            ResultStore.record(new ResultRecord(timestamp, ResultStore.currentTest(), requestSpec.getMethod(),
+                    requestSpec.getUserDefinedPath(), status, latency, bodyLength(requestSpec.getBody()),
+                    responseBytes));
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    private static long bodyLength(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.petshop.api.filters;
+
+import com.petshop.slo.SloTracker;
+import com.petshop.warmup.Warmup;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Latency SLO filter: feeds each request's round trip to the objectives of its operation
+ * Sits beside MetricsFilter, so cache hits and warmup calls do not count against the budget.
+ */
+public class SloFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (Warmup.isRunning()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long start = System.nanoTime();
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            SloTracker.record(RequestPaths.operationName(requestSpec), System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+}
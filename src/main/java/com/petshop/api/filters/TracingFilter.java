@@ -0,0 +1,58 @@
+package com.petshop.api.filters;
+
+import com.petshop.tracing.PhaseTimings;
+import com.petshop.tracing.Span;
+import com.petshop.tracing.Tracer;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tracing filter: injects a W3C traceparent header and records a client span per request
+ * The span is parented to the running test method's span and carries per-phase timings
+ * (DNS, connect, TLS, TTFB, download) when the instrumented Apache client performed the call.
+ */
+public class TracingFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Span span = Tracer.startClientSpan(requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath());
+        span.setAttribute("http.request.method", requestSpec.getMethod())
+                .setAttribute("url.full", requestSpec.getURI())
+                .setAttribute("http.route", requestSpec.getUserDefinedPath());
+        requestSpec.replaceHeader("traceparent", span.toTraceparent());
+
+        PhaseTimings timings = PhaseTimings.current();
+        timings.reset();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            span.setAttribute("http.response.status_code", (long) response.getStatusCode());
+            if (response.getStatusCode() >= 500) {
+                span.setError();
+            }
+            return response;
+        } catch (RuntimeException e) {
+            span.setError().setAttribute("exception.message", e.getMessage());
+            throw e;
+        } finally {
+            timings.complete(System.nanoTime());
+            for (Map.Entry<PhaseTimings.Phase, Long> phase : timings.getDurations().entrySet()) {
+                span.setAttribute("http.phase." + phase.getKey().name().toLowerCase(Locale.ROOT) + ".ms",
+                        phase.getValue() / 1_000_000.0);
+            }
+            Tracer.finish(span);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 3;
+    }
+}
@@ -0,0 +1,71 @@
+package com.petshop.api.filters;
+
+import com.petshop.replay.CapturedRequest;
+import com.petshop.replay.TrafficCapture;
+import com.petshop.warmup.Warmup;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traffic capture filter: appends method, resolved path, body and timing of each request to the traffic log
+ * Auth headers and the base URI are not captured; ReplayEngine takes them from RequestSpecifications.
+ * Sits beside MetricsFilter so the captured latency is the network round trip. Multipart uploads
+ * and warmup calls are not captured.
+ */
+public class TrafficCaptureFilter implements OrderedFilter {
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (Warmup.isRunning() || !requestSpec.getMultiPartParams().isEmpty()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long timestamp = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        long start = System.nanoTime();
+        int status = 0;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            status = response.getStatusCode();
+            return response;
+        } finally {
+            long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            String contentType = requestSpec.getContentType();
+            TrafficCapture.record(timestamp, new CapturedRequest(0, requestSpec.getMethod(),
+                    requestSpec.getUserDefinedPath(), pathAndQuery(requestSpec),
+                    contentType != null ? contentType : "", body(requestSpec.getBody()), status, latency));
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    private static String pathAndQuery(FilterableRequestSpecification requestSpec) {
+        String query = URI.create(requestSpec.getURI()).getRawQuery();
+        String path = RequestPaths.resourcePath(requestSpec);
+        return query == null ? path : path + "?" + query;
+    }
+
+    private static byte[] body(Object body) {
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+        return NO_BODY;
+    }
+}
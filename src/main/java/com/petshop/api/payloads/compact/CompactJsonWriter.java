@@ -0,0 +1,137 @@
+package com.petshop.api.payloads.compact;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Serializes compact payloads into a per-thread reusable byte buffer
+ * Each thread keeps one JsonGenerator writing into its own growable buffer; the buffer is reset
+ * before every payload, so steady-state serialization allocates only the final byte[] copy that
+ * the HTTP client needs (and nothing at all with writeTo).
+ */
+public class CompactJsonWriter {
+
+    private static final JsonFactory FACTORY = new JsonFactory().setRootValueSeparator(null);
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private CompactJsonWriter() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Serialize a pet
+     * @param pet Pet
+     * @return JSON bytes
+     */
+    public static byte[] toBytes(CompactPet pet) {
+        return serialize(pet, CompactSerializers.PET).copy();
+    }
+
+    /**
+     * Serialize an order
+     * @param order Order
+     * @return JSON bytes
+     */
+    public static byte[] toBytes(CompactOrder order) {
+        return serialize(order, CompactSerializers.ORDER).copy();
+    }
+
+    /**
+     * Serialize a user
+     * @param user User
+     * @return JSON bytes
+     */
+    public static byte[] toBytes(CompactUser user) {
+        return serialize(user, CompactSerializers.USER).copy();
+    }
+
+    /**
+     * Serialize a pet straight into a stream without copying
+     * @param pet Pet
+     * @param out Target stream
+     * @return Bytes written
+     */
+    public static int writeTo(CompactPet pet, OutputStream out) {
+        return serialize(pet, CompactSerializers.PET).drainTo(out);
+    }
+
+    private static <T> Buffer serialize(T value, StdSerializer<T> serializer) {
+        State state = STATE.get();
+        state.buffer.reset();
+        try {
+            serializer.serialize(value, state.generator, null);
+            state.generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+        return state.buffer;
+    }
+
+    /**
+     * A thread's generator and the buffer it writes into
+     */
+    private static final class State {
+
+        private final Buffer buffer = new Buffer();
+        private final JsonGenerator generator;
+
+        State() {
+            try {
+                generator = FACTORY.createGenerator(buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Growable byte buffer that is reset instead of reallocated
+     */
+    private static final class Buffer extends OutputStream {
+
+        private byte[] bytes = new byte[1024];
+        private int count;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(source, offset, bytes, count, length);
+            count += length;
+        }
+
+        void reset() {
+            count = 0;
+        }
+
+        byte[] copy() {
+            return Arrays.copyOf(bytes, count);
+        }
+
+        int drainTo(OutputStream out) {
+            try {
+                out.write(bytes, 0, count);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+    }
+}
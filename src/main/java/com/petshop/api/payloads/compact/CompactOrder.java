@@ -0,0 +1,69 @@
+package com.petshop.api.payloads.compact;
+
+/**
+ * Reusable, primitive-field Order payload for the load-generation path
+ * The ship date is kept as epoch milliseconds and formatted as ISO-8601 only when serialized.
+ */
+public class CompactOrder {
+
+    private long id;
+    private long petId;
+    private int quantity;
+    private long shipDateMillis;
+    private String status;
+    private boolean complete;
+
+    public long getId() {
+        return id;
+    }
+
+    public CompactOrder setId(long id) {
+        this.id = id;
+        return this;
+    }
+
+    public long getPetId() {
+        return petId;
+    }
+
+    public CompactOrder setPetId(long petId) {
+        this.petId = petId;
+        return this;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public CompactOrder setQuantity(int quantity) {
+        this.quantity = quantity;
+        return this;
+    }
+
+    public long getShipDateMillis() {
+        return shipDateMillis;
+    }
+
+    public CompactOrder setShipDateMillis(long shipDateMillis) {
+        this.shipDateMillis = shipDateMillis;
+        return this;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public CompactOrder setStatus(String status) {
+        this.status = status;
+        return this;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public CompactOrder setComplete(boolean complete) {
+        this.complete = complete;
+        return this;
+    }
+}
@@ -0,0 +1,97 @@
+package com.petshop.api.payloads.compact;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Fills reusable compact payloads with random data for load generation
+ * Draws from fixed value pools and shared Category/Tag flyweights instead of Faker, so refilling
+ * an instance allocates nothing. Each thread gets its own instances through pet(), order() and user().
+ */
+public class CompactPayloadGenerator {
+
+    private static final String[] PET_NAMES = {"Buddy", "Luna", "Max", "Bella", "Charlie", "Lucy", "Rocky", "Daisy"};
+    private static final String[] PET_STATUSES = {"available", "pending", "sold"};
+    private static final String[] ORDER_STATUSES = {"placed", "approved", "delivered"};
+    private static final String[] PHOTO_URLS = {
+            "https://images.example.com/pets/1.jpg", "https://images.example.com/pets/2.jpg",
+            "https://images.example.com/pets/3.jpg", "https://images.example.com/pets/4.jpg"};
+    private static final String[] FIRST_NAMES = {"Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey"};
+    private static final String[] LAST_NAMES = {"Smith", "Jones", "Brown", "Garcia", "Miller", "Davis"};
+    private static final String[] EMAILS = {"load1@example.com", "load2@example.com", "load3@example.com"};
+    private static final String[] PHONES = {"555-0100", "555-0101", "555-0102", "555-0103"};
+    private static final String PASSWORD = "LoadTest123";
+    private static final String USERNAME_PREFIX = "load-user-";
+
+    private static final CompactPet.Category[] CATEGORIES = {
+            CompactPet.Category.of(1, "Dogs"), CompactPet.Category.of(2, "Cats"),
+            CompactPet.Category.of(3, "Birds"), CompactPet.Category.of(4, "Fish")};
+    private static final CompactPet.Tag[] TAGS = {
+            CompactPet.Tag.of(1, "friendly"), CompactPet.Tag.of(2, "trained"),
+            CompactPet.Tag.of(3, "young"), CompactPet.Tag.of(4, "vaccinated")};
+
+    private static final ThreadLocal<CompactPet> PET = ThreadLocal.withInitial(CompactPet::new);
+    private static final ThreadLocal<CompactOrder> ORDER = ThreadLocal.withInitial(CompactOrder::new);
+    private static final ThreadLocal<CompactUser> USER = ThreadLocal.withInitial(CompactUser::new);
+
+    private CompactPayloadGenerator() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Refill and return the current thread's pet
+     * @return Pet, valid until the next call on this thread
+     */
+    public static CompactPet pet() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        CompactPet pet = PET.get().reset()
+                .setId(randomId(random))
+                .setName(pick(PET_NAMES, random))
+                .setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                .addPhotoUrl(pick(PHOTO_URLS, random))
+                .addPhotoUrl(pick(PHOTO_URLS, random))
+                .addTag(TAGS[random.nextInt(TAGS.length)])
+                .setStatus(pick(PET_STATUSES, random));
+        return pet;
+    }
+
+    /**
+     * Refill and return the current thread's order
+     * @return Order, valid until the next call on this thread
+     */
+    public static CompactOrder order() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return ORDER.get()
+                .setId(randomId(random))
+                .setPetId(randomId(random))
+                .setQuantity(random.nextInt(10) + 1)
+                .setShipDateMillis(System.currentTimeMillis())
+                .setStatus(pick(ORDER_STATUSES, random))
+                .setComplete(random.nextBoolean());
+    }
+
+    /**
+     * Refill and return the current thread's user; the username is unique per ID
+     * @return User, valid until the next call on this thread
+     */
+    public static CompactUser user() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = randomId(random);
+        return USER.get()
+                .setId(id)
+                .setUsername(USERNAME_PREFIX, id)
+                .setFirstName(pick(FIRST_NAMES, random))
+                .setLastName(pick(LAST_NAMES, random))
+                .setEmail(pick(EMAILS, random))
+                .setPassword(PASSWORD)
+                .setPhone(pick(PHONES, random))
+                .setUserStatus(random.nextInt(3));
+    }
+
+    private static long randomId(ThreadLocalRandom random) {
+        return random.nextInt(100000) + 1L;
+    }
+
+    private static String pick(String[] values, ThreadLocalRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+}
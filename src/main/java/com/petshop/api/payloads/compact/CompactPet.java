@@ -0,0 +1,168 @@
+package com.petshop.api.payloads.compact;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reusable, primitive-field Pet payload for the load-generation path
+ * One instance is refilled per request instead of building a new Pet; photo URLs and tags live in
+ * fixed-capacity arrays and Category/Tag are shared flyweights. Serialized by CompactSerializers to
+ * the same JSON as Pet.
+ */
+public class CompactPet {
+
+    /** Capacity of the photo URL and tag arrays */
+    public static final int MAX_ITEMS = 4;
+
+    private long id;
+    private Category category;
+    private String name;
+    private final String[] photoUrls = new String[MAX_ITEMS];
+    private int photoUrlCount;
+    private final Tag[] tags = new Tag[MAX_ITEMS];
+    private int tagCount;
+    private String status;
+
+    /**
+     * Clear the lists so the instance can be refilled
+     * @return This pet
+     */
+    public CompactPet reset() {
+        photoUrlCount = 0;
+        tagCount = 0;
+        category = null;
+        return this;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public CompactPet setId(long id) {
+        this.id = id;
+        return this;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public CompactPet setCategory(Category category) {
+        this.category = category;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CompactPet setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public CompactPet addPhotoUrl(String photoUrl) {
+        photoUrls[photoUrlCount++] = photoUrl;
+        return this;
+    }
+
+    public int getPhotoUrlCount() {
+        return photoUrlCount;
+    }
+
+    public String getPhotoUrl(int index) {
+        return photoUrls[index];
+    }
+
+    public CompactPet addTag(Tag tag) {
+        tags[tagCount++] = tag;
+        return this;
+    }
+
+    public int getTagCount() {
+        return tagCount;
+    }
+
+    public Tag getTag(int index) {
+        return tags[index];
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public CompactPet setStatus(String status) {
+        this.status = status;
+        return this;
+    }
+
+    /**
+     * Immutable, shared pet category; look it up once and keep the reference, as the lookup boxes the ID
+     */
+    public static final class Category {
+
+        private static final Map<Long, Category> INSTANCES = new ConcurrentHashMap<>();
+
+        private final long id;
+        private final String name;
+
+        private Category(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        /**
+         * Get the shared category for an ID, created with the given name on first use
+         * @param id Category ID
+         * @param name Category name
+         * @return Category
+         */
+        public static Category of(long id, String name) {
+            Category category = INSTANCES.get(id);
+            return category != null ? category : INSTANCES.computeIfAbsent(id, key -> new Category(id, name));
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Immutable, shared pet tag; look it up once and keep the reference, as the lookup boxes the ID
+     */
+    public static final class Tag {
+
+        private static final Map<Long, Tag> INSTANCES = new ConcurrentHashMap<>();
+
+        private final long id;
+        private final String name;
+
+        private Tag(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        /**
+         * Get the shared tag for an ID, created with the given name on first use
+         * @param id Tag ID
+         * @param name Tag name
+         * @return Tag
+         */
+        public static Tag of(long id, String name) {
+            Tag tag = INSTANCES.get(id);
+            return tag != null ? tag : INSTANCES.computeIfAbsent(id, key -> new Tag(id, name));
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.petshop.api.payloads.compact;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Hand-written Jackson serializers for the compact payloads
+ * Field names are pre-encoded SerializedStrings and values are written with primitive generator calls,
+ * so serializing allocates nothing beyond the generator's own recycled buffers. The JSON matches
+ * what ObjectMapper writes for Pet, Order and User.
+ */
+public class CompactSerializers {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString CATEGORY = new SerializedString("category");
+    private static final SerializedString PHOTO_URLS = new SerializedString("photoUrls");
+    private static final SerializedString TAGS = new SerializedString("tags");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString PET_ID = new SerializedString("petId");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+    private static final SerializedString SHIP_DATE = new SerializedString("shipDate");
+    private static final SerializedString COMPLETE = new SerializedString("complete");
+    private static final SerializedString USERNAME = new SerializedString("username");
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString PASSWORD = new SerializedString("password");
+    private static final SerializedString PHONE = new SerializedString("phone");
+    private static final SerializedString USER_STATUS = new SerializedString("userStatus");
+
+    static final PetSerializer PET = new PetSerializer();
+    static final OrderSerializer ORDER = new OrderSerializer();
+    static final UserSerializer USER = new UserSerializer();
+
+    private CompactSerializers() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Module registering the compact serializers, for use with a regular ObjectMapper
+     * @return Jackson module
+     */
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("compact-payloads");
+        module.addSerializer(CompactPet.class, PET);
+        module.addSerializer(CompactOrder.class, ORDER);
+        module.addSerializer(CompactUser.class, USER);
+        return module;
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString field, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(field);
+            gen.writeString(value);
+        }
+    }
+
+    /**
+     * Serializer for CompactPet
+     */
+    static final class PetSerializer extends StdSerializer<CompactPet> {
+
+        PetSerializer() {
+            super(CompactPet.class);
+        }
+
+        @Override
+        public void serialize(CompactPet pet, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName(ID);
+            gen.writeNumber(pet.getId());
+            CompactPet.Category category = pet.getCategory();
+            if (category != null) {
+                gen.writeFieldName(CATEGORY);
+                gen.writeStartObject();
+                gen.writeFieldName(ID);
+                gen.writeNumber(category.getId());
+                writeString(gen, NAME, category.getName());
+                gen.writeEndObject();
+            }
+            writeString(gen, NAME, pet.getName());
+            gen.writeFieldName(PHOTO_URLS);
+            gen.writeStartArray();
+            for (int i = 0; i < pet.getPhotoUrlCount(); i++) {
+                gen.writeString(pet.getPhotoUrl(i));
+            }
+            gen.writeEndArray();
+            gen.writeFieldName(TAGS);
+            gen.writeStartArray();
+            for (int i = 0; i < pet.getTagCount(); i++) {
+                CompactPet.Tag tag = pet.getTag(i);
+                gen.writeStartObject();
+                gen.writeFieldName(ID);
+                gen.writeNumber(tag.getId());
+                writeString(gen, NAME, tag.getName());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            writeString(gen, STATUS, pet.getStatus());
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Serializer for CompactOrder; formats the ship date into a per-thread char buffer
+     */
+    static final class OrderSerializer extends StdSerializer<CompactOrder> {
+
+        private static final ThreadLocal<char[]> DATE_BUFFER = ThreadLocal.withInitial(() -> new char[24]);
+
+        OrderSerializer() {
+            super(CompactOrder.class);
+        }
+
+        @Override
+        public void serialize(CompactOrder order, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName(ID);
+            gen.writeNumber(order.getId());
+            gen.writeFieldName(PET_ID);
+            gen.writeNumber(order.getPetId());
+            gen.writeFieldName(QUANTITY);
+            gen.writeNumber(order.getQuantity());
+            gen.writeFieldName(SHIP_DATE);
+            char[] date = DATE_BUFFER.get();
+            gen.writeString(date, 0, formatInstant(order.getShipDateMillis(), date));
+            writeString(gen, STATUS, order.getStatus());
+            gen.writeFieldName(COMPLETE);
+            gen.writeBoolean(order.isComplete());
+            gen.writeEndObject();
+        }
+
+        /**
+         * Write epoch milliseconds as yyyy-MM-ddTHH:mm:ss.SSSZ (UTC, years 0-9999)
+         * @return Number of chars written
+         */
+        static int formatInstant(long epochMillis, char[] out) {
+            long days = Math.floorDiv(epochMillis, 86_400_000L);
+            int millisOfDay = (int) Math.floorMod(epochMillis, 86_400_000L);
+            // Civil date from days since 1970-01-01 (H. Hinnant's algorithm)
+            long z = days + 719_468;
+            long era = Math.floorDiv(z, 146_097);
+            long doe = z - era * 146_097;
+            long yoe = (doe - doe / 1460 + doe / 36_524 - doe / 146_096) / 365;
+            long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+            long mp = (5 * doy + 2) / 153;
+            int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+            int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+            int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+
+            put(out, 0, year, 4);
+            out[4] = '-';
+            put(out, 5, month, 2);
+            out[7] = '-';
+            put(out, 8, day, 2);
+            out[10] = 'T';
+            put(out, 11, millisOfDay / 3_600_000, 2);
+            out[13] = ':';
+            put(out, 14, millisOfDay / 60_000 % 60, 2);
+            out[16] = ':';
+            put(out, 17, millisOfDay / 1000 % 60, 2);
+            out[19] = '.';
+            put(out, 20, millisOfDay % 1000, 3);
+            out[23] = 'Z';
+            return 24;
+        }
+
+        private static void put(char[] out, int offset, int value, int width) {
+            for (int i = offset + width - 1; i >= offset; i--) {
+                out[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+
+    /**
+     * Serializer for CompactUser
+     */
+    static final class UserSerializer extends StdSerializer<CompactUser> {
+
+        UserSerializer() {
+            super(CompactUser.class);
+        }
+
+        @Override
+        public void serialize(CompactUser user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName(ID);
+            gen.writeNumber(user.getId());
+            gen.writeFieldName(USERNAME);
+            gen.writeString(user.getUsernameChars(), 0, user.getUsernameLength());
+            writeString(gen, FIRST_NAME, user.getFirstName());
+            writeString(gen, LAST_NAME, user.getLastName());
+            writeString(gen, EMAIL, user.getEmail());
+            writeString(gen, PASSWORD, user.getPassword());
+            writeString(gen, PHONE, user.getPhone());
+            gen.writeFieldName(USER_STATUS);
+            gen.writeNumber(user.getUserStatus());
+            gen.writeEndObject();
+        }
+    }
+}
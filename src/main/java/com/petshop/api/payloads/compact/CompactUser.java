@@ -0,0 +1,130 @@
+package com.petshop.api.payloads.compact;
+
+/**
+ * Reusable, primitive-field User payload for the load-generation path
+ * The username is built in a reusable char buffer (e.g. prefix plus numeric ID) so unique names
+ * do not allocate a String per request.
+ */
+public class CompactUser {
+
+    private static final int MAX_USERNAME = 64;
+
+    private long id;
+    private final char[] username = new char[MAX_USERNAME];
+    private int usernameLength;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String password;
+    private String phone;
+    private int userStatus;
+
+    public long getId() {
+        return id;
+    }
+
+    public CompactUser setId(long id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * Set the username to a prefix followed by a number, e.g. "load-user-42"
+     * @param prefix Prefix
+     * @param number Non-negative number
+     * @return This user
+     */
+    public CompactUser setUsername(String prefix, long number) {
+        prefix.getChars(0, prefix.length(), username, 0);
+        int end = prefix.length() + digits(number);
+        usernameLength = end;
+        do {
+            username[--end] = (char) ('0' + number % 10);
+            number /= 10;
+        } while (number > 0);
+        return this;
+    }
+
+    /**
+     * Get the username buffer; only the first getUsernameLength() chars are valid
+     * @return Username characters
+     */
+    public char[] getUsernameChars() {
+        return username;
+    }
+
+    public int getUsernameLength() {
+        return usernameLength;
+    }
+
+    /**
+     * Get the username as a String; allocates, so meant for logging and tests rather than the hot path
+     * @return Username
+     */
+    public String getUsername() {
+        return new String(username, 0, usernameLength);
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public CompactUser setFirstName(String firstName) {
+        this.firstName = firstName;
+        return this;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public CompactUser setLastName(String lastName) {
+        this.lastName = lastName;
+        return this;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public CompactUser setEmail(String email) {
+        this.email = email;
+        return this;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public CompactUser setPassword(String password) {
+        this.password = password;
+        return this;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public CompactUser setPhone(String phone) {
+        this.phone = phone;
+        return this;
+    }
+
+    public int getUserStatus() {
+        return userStatus;
+    }
+
+    public CompactUser setUserStatus(int userStatus) {
+        this.userStatus = userStatus;
+        return this;
+    }
+
+    private static int digits(long number) {
+        int digits = 1;
+        while (number >= 10) {
+            number /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,200 @@
+package com.petshop.api.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.petshop.utils.JsonUtils;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Typed view of a response that parses the body at most once
+ * Holds the raw body bytes; the JSON tree, the bound payload and the body string are each built
+ * on first use and memoized, so logging, binding and JSON-path assertions share one parse.
+ * Instances belong to the test thread that made the request and are not thread-safe.
+ * @param <T> Payload type
+ */
+public class ApiResult<T> {
+
+    private final Response response;
+    private final Class<T> type;
+    private final byte[] body;
+    private JsonNode tree;
+    private T value;
+    private String text;
+
+    private ApiResult(Response response, Class<T> type) {
+        this.response = response;
+        this.type = type;
+        this.body = response.asByteArray();
+    }
+
+    /**
+     * Wrap a response
+     * @param response Response
+     * @param type Payload class the body binds to
+     * @param <T> Payload type
+     * @return ApiResult
+     */
+    public static <T> ApiResult<T> of(Response response, Class<T> type) {
+        return new ApiResult<>(response, type);
+    }
+
+    /**
+     * Get the underlying RestAssured response
+     * @return Response
+     */
+    public Response getResponse() {
+        return response;
+    }
+
+    public int getStatusCode() {
+        return response.getStatusCode();
+    }
+
+    public long getTime() {
+        return response.getTime();
+    }
+
+    public String getContentType() {
+        return response.getContentType();
+    }
+
+    public String getHeader(String name) {
+        return response.getHeader(name);
+    }
+
+    /**
+     * Get the raw body
+     * @return Body bytes, not copied
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Get the body as a string, decoded once
+     * @return Body text
+     */
+    public String asString() {
+        if (text == null) {
+            text = new String(body, StandardCharsets.UTF_8);
+        }
+        return text;
+    }
+
+    /**
+     * Get the parsed JSON tree, parsing on first call
+     * @return Root node; MissingNode for an empty body
+     */
+    public JsonNode tree() {
+        if (tree == null) {
+            tree = body.length == 0 ? MissingNode.getInstance() : parse();
+        }
+        return tree;
+    }
+
+    /**
+     * Get the body bound to the payload type
+     * Binds from the tree when it has already been parsed, otherwise straight from the bytes.
+     * @return Payload
+     */
+    public T as() {
+        if (value == null) {
+            value = bind(type);
+        }
+        return value;
+    }
+
+    /**
+     * Bind the body to another type, e.g. ApiResponse for an error body; not memoized
+     * @param otherType Target class
+     * @param <R> Target type
+     * @return Bound body
+     */
+    public <R> R as(Class<R> otherType) {
+        return otherType == type ? otherType.cast(as()) : bind(otherType);
+    }
+
+    /**
+     * Look up a value with a RestAssured-style path such as "id", "category.name" or "tags[0].name"
+     * Plain paths are compiled once and evaluated on the memoized tree; other GPath expressions
+     * fall back to RestAssured's Groovy JsonPath.
+     * @param path JSON path; "" or "$" for the root
+     * @return String, Boolean, Number, List or Map; null when absent or JSON null
+     */
+    public Object path(String path) {
+        CompiledPath compiled = CompiledPath.compile(path);
+        if (!compiled.isSupported()) {
+            return response.jsonPath().get(path);
+        }
+        return toValue(compiled.evaluate(tree()));
+    }
+
+    /**
+     * Look up several paths together
+     * Reads the memoized tree if it has been parsed; otherwise streams the body once without building it.
+     * Paths outside the compiled subset fall back to RestAssured's Groovy JsonPath, as in path().
+     * @param paths Compiled path set
+     * @return Values in path order
+     */
+    public Object[] paths(PathSet paths) {
+        Object[] values = tree != null ? paths.extract(tree) : paths.extract(body);
+        paths.fillUnsupported(response, values);
+        return values;
+    }
+
+    /**
+     * Pretty print the body from the parsed tree; non-JSON bodies are returned as-is
+     * @return Pretty printed body
+     */
+    public String prettyPrint() {
+        if (body.length == 0) {
+            return "";
+        }
+        try {
+            return JsonUtils.prettyPrint(tree());
+        } catch (UncheckedIOException e) {
+            return asString();
+        }
+    }
+
+    private JsonNode parse() {
+        try {
+            return JsonUtils.getMapper().readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response body is not JSON", e);
+        }
+    }
+
+    private <R> R bind(Class<R> target) {
+        ObjectMapper mapper = JsonUtils.getMapper();
+        try {
+            return tree != null ? mapper.treeToValue(tree, target) : mapper.readValue(body, target);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to convert response to " + target.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Convert a node the way RestAssured's jsonPath().get() would, except decimals stay Double
+     */
+    static Object toValue(JsonNode node) {
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isNumber()) {
+            return node.numberValue();
+        }
+        return JsonUtils.getMapper().convertValue(node, Object.class);
+    }
+}
@@ -0,0 +1,153 @@
+package com.petshop.api.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A JSON path parsed once into field-name and array-index steps
+ * Covers the plain subset of RestAssured's GPath used in assertions: "id", "category.name",
+ * "tags[0].name", "[1].id". As in GPath, a field step on an array is spread over its elements, so
+ * "tags.name" is the list of tag names. Anything else (closures, method calls, wildcards) is marked
+ * unsupported so callers can fall back to RestAssured's Groovy JsonPath.
+ * At most MAX_CACHED paths are kept; once the cache is full, new paths are parsed on every call.
+ */
+public final class CompiledPath {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_$\\-]+");
+    private static final int MAX_CACHED = 1024;
+    private static final Map<String, CompiledPath> CACHE = new ConcurrentHashMap<>();
+
+    private final String expression;
+    private final Object[] steps;
+
+    private CompiledPath(String expression, Object[] steps) {
+        this.expression = expression;
+        this.steps = steps;
+    }
+
+    /**
+     * Get the compiled form of a path, parsing it on first use
+     * @param expression Path, "" or "$" for the root
+     * @return Compiled path; check isSupported() before evaluating
+     */
+    public static CompiledPath compile(String expression) {
+        CompiledPath cached = CACHE.get(expression);
+        if (cached != null) {
+            return cached;
+        }
+        return CACHE.size() < MAX_CACHED ? CACHE.computeIfAbsent(expression, CompiledPath::parse) : parse(expression);
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Whether the path is within the compiled subset
+     * @return true if it can be evaluated without Groovy
+     */
+    public boolean isSupported() {
+        return steps != null;
+    }
+
+    /**
+     * Steps from the root: String for a field name, Integer for an array index
+     * @return Steps, shared; do not modify
+     */
+    Object[] steps() {
+        return steps;
+    }
+
+    /**
+     * Evaluate against a parsed tree
+     * @param root Root node
+     * @return Node at the path; MissingNode when absent
+     */
+    public JsonNode evaluate(JsonNode root) {
+        if (steps == null) {
+            throw new IllegalArgumentException("Unsupported JSON path: " + expression);
+        }
+        JsonNode node = root;
+        for (Object step : steps) {
+            node = step(node, step);
+        }
+        return node;
+    }
+
+    /**
+     * Apply one step the way GPath does: a field step on an array collects that field from every
+     * element, with null for elements that lack it
+     * @param node Current node
+     * @param step String field name or Integer array index
+     * @return Node after the step; MissingNode when absent
+     */
+    static JsonNode step(JsonNode node, Object step) {
+        if (step instanceof Integer) {
+            return node.path((Integer) step);
+        }
+        if (!node.isArray()) {
+            return node.path((String) step);
+        }
+        ArrayNode spread = JsonNodeFactory.instance.arrayNode(node.size());
+        for (JsonNode element : node) {
+            JsonNode value = step(element, step);
+            spread.add(value.isMissingNode() ? NullNode.getInstance() : value);
+        }
+        return spread;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static CompiledPath parse(String expression) {
+        List<Object> steps = new ArrayList<>();
+        if (!expression.isEmpty() && !"$".equals(expression)) {
+            for (String segment : expression.split("\\.", -1)) {
+                if (!parseSegment(segment, steps)) {
+                    return new CompiledPath(expression, null);
+                }
+            }
+        }
+        return new CompiledPath(expression, steps.toArray());
+    }
+
+    private static boolean parseSegment(String segment, List<Object> steps) {
+        int bracket = segment.indexOf('[');
+        String name = bracket < 0 ? segment : segment.substring(0, bracket);
+        if (!name.isEmpty()) {
+            if (!NAME.matcher(name).matches()) {
+                return false;
+            }
+            steps.add(name);
+        } else if (bracket != 0 || !steps.isEmpty()) {
+            // An index without a name is only valid at the root, e.g. "[0].id"
+            return false;
+        }
+        while (bracket >= 0) {
+            int close = segment.indexOf(']', bracket);
+            if (close < 0) {
+                return false;
+            }
+            String index = segment.substring(bracket + 1, close);
+            if (index.isEmpty() || !index.chars().allMatch(Character::isDigit) || index.length() > 9) {
+                return false;
+            }
+            steps.add(Integer.valueOf(index));
+            if (close + 1 < segment.length() && segment.charAt(close + 1) != '[') {
+                return false;
+            }
+            bracket = close + 1 < segment.length() ? close + 1 : -1;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,241 @@
+package com.petshop.api.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.petshop.utils.JsonUtils;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Several compiled paths merged into a trie, evaluated together in one pass
+ * Over raw bytes the body is streamed with a JsonParser: subtrees no path enters are skipped
+ * token by token without being built, and parsing stops once every path has been found. An array that
+ * a field step is applied to is built as a tree and spread over its elements, as CompiledPath does.
+ * Paths outside the compiled subset are left out of the trie and read with Groovy JsonPath by
+ * extract(Response) and ApiResult.paths. At most MAX_CACHED sets are kept, as in CompiledPath.
+ */
+public final class PathSet {
+
+    private static final int MAX_CACHED = 256;
+    private static final Map<List<String>, PathSet> CACHE = new ConcurrentHashMap<>();
+
+    private final CompiledPath[] paths;
+    private final Node root = new Node();
+    private int supported;
+
+    private PathSet(List<String> expressions) {
+        paths = new CompiledPath[expressions.size()];
+        for (int i = 0; i < paths.length; i++) {
+            CompiledPath path = CompiledPath.compile(expressions.get(i));
+            paths[i] = path;
+            if (!path.isSupported()) {
+                continue;
+            }
+            supported++;
+            Node node = root;
+            for (Object step : path.steps()) {
+                node.fieldSteps |= step instanceof String;
+                node = node.children.computeIfAbsent(step, key -> new Node());
+            }
+            node.targets = append(node.targets, i);
+        }
+    }
+
+    /**
+     * Get the compiled set for these paths, building it on first use
+     * @param expressions Paths
+     * @return PathSet
+     */
+    public static PathSet of(String... expressions) {
+        return of(Arrays.asList(expressions));
+    }
+
+    /**
+     * Get the compiled set for these paths, building it on first use
+     * @param expressions Paths
+     * @return PathSet
+     */
+    public static PathSet of(List<String> expressions) {
+        PathSet cached = CACHE.get(expressions);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> key = List.copyOf(expressions);
+        return CACHE.size() < MAX_CACHED ? CACHE.computeIfAbsent(key, PathSet::new) : new PathSet(key);
+    }
+
+    public int size() {
+        return paths.length;
+    }
+
+    public CompiledPath getPath(int index) {
+        return paths[index];
+    }
+
+    /**
+     * Extract every path from a response: compiled paths in one streaming pass, others with Groovy JsonPath
+     * @param response Response
+     * @return Values in path order, converted as ApiResult.path does
+     */
+    public Object[] extract(Response response) {
+        Object[] values = extract(response.asByteArray());
+        fillUnsupported(response, values);
+        return values;
+    }
+
+    /**
+     * Extract the compiled paths from an already parsed tree; unsupported paths are left null
+     * @param tree Root node
+     * @return Values in path order, converted as ApiResult.path does
+     */
+    public Object[] extract(JsonNode tree) {
+        Object[] values = new Object[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            if (paths[i].isSupported()) {
+                values[i] = ApiResult.toValue(paths[i].evaluate(tree));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Extract the compiled paths in a single streaming pass over a JSON body; unsupported paths are left null
+     * @param json Body bytes
+     * @return Values in path order, converted as ApiResult.path does
+     */
+    public Object[] extract(byte[] json) {
+        Object[] values = new Object[paths.length];
+        if (json.length == 0 || supported == 0) {
+            return values;
+        }
+        try (JsonParser parser = JsonUtils.getMapper().createParser(json)) {
+            if (parser.nextToken() != null) {
+                walk(parser, root, values, new int[] {supported});
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response body is not JSON", e);
+        }
+        return values;
+    }
+
+    /**
+     * Read the paths outside the compiled subset with RestAssured's Groovy JsonPath
+     * @param response Response the compiled values were extracted from
+     * @param values Values in path order, filled in place
+     */
+    void fillUnsupported(Response response, Object[] values) {
+        JsonPath jsonPath = null;
+        for (int i = 0; i < paths.length; i++) {
+            if (!paths[i].isSupported()) {
+                if (jsonPath == null) {
+                    jsonPath = response.jsonPath();
+                }
+                values[i] = jsonPath.get(paths[i].getExpression());
+            }
+        }
+    }
+
+    /**
+     * Visit the value the parser is positioned on, which the trie node matches
+     */
+    private void walk(JsonParser parser, Node node, Object[] values, int[] remaining) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (node.targets.length > 0 || token == JsonToken.START_ARRAY && node.fieldSteps) {
+            capture(parser, node, values, remaining);
+            return;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            while (remaining[0] > 0 && parser.nextToken() == JsonToken.FIELD_NAME) {
+                Node child = node.children.get(parser.currentName());
+                parser.nextToken();
+                if (child == null) {
+                    parser.skipChildren();
+                } else {
+                    walk(parser, child, values, remaining);
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (remaining[0] > 0 && parser.nextToken() != JsonToken.END_ARRAY) {
+                Node child = node.children.get(index++);
+                if (child == null) {
+                    parser.skipChildren();
+                } else {
+                    walk(parser, child, values, remaining);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the value some path ends at, or an array a field step is spread over; containers are built as a
+     * tree so deeper paths can be served from it
+     */
+    private void capture(JsonParser parser, Node node, Object[] values, int[] remaining) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            JsonNode subtree = parser.readValueAsTree();
+            fill(node, subtree, values, remaining);
+            return;
+        }
+        Object value;
+        switch (token) {
+            case VALUE_STRING:
+                value = parser.getText();
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                value = parser.getNumberValue();
+                break;
+            case VALUE_TRUE:
+                value = Boolean.TRUE;
+                break;
+            case VALUE_FALSE:
+                value = Boolean.FALSE;
+                break;
+            default:
+                value = null;
+        }
+        for (int target : node.targets) {
+            values[target] = value;
+        }
+        remaining[0] -= node.targets.length;
+    }
+
+    private void fill(Node node, JsonNode subtree, Object[] values, int[] remaining) {
+        if (node.targets.length > 0) {
+            Object value = ApiResult.toValue(subtree);
+            for (int target : node.targets) {
+                values[target] = value;
+            }
+            remaining[0] -= node.targets.length;
+        }
+        for (Map.Entry<Object, Node> child : node.children.entrySet()) {
+            fill(child.getValue(), CompiledPath.step(subtree, child.getKey()), values, remaining);
+        }
+    }
+
+    private static int[] append(int[] array, int value) {
+        int[] grown = Arrays.copyOf(array, array.length + 1);
+        grown[array.length] = value;
+        return grown;
+    }
+
+    /**
+     * Trie node: children keyed by field name (String) or array index (Integer), and the paths ending here
+     */
+    private static final class Node {
+        private final Map<Object, Node> children = new HashMap<>();
+        private int[] targets = new int[0];
+        private boolean fieldSteps;
+    }
+}
@@ -1,18 +1,50 @@
 package com.petshop.api.specifications;
 
+import com.petshop.api.filters.CompressionFilter;
+import com.petshop.api.filters.MetricsFilter;
+import com.petshop.api.filters.ResourceTrackingFilter;
+import com.petshop.api.filters.ResponseCacheFilter;
+import com.petshop.api.filters.ResultRecordingFilter;
+import com.petshop.api.filters.SloFilter;
+import com.petshop.api.filters.TracingFilter;
+import com.petshop.api.filters.TrafficCaptureFilter;
+import com.petshop.api.transport.Http2TransportFilter;
+import com.petshop.api.transport.TransportType;
 import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+import com.petshop.tracing.TracingHttpClientFactory;
+import com.petshop.utils.JsonUtils;
+import com.petshop.utils.LoggerUtil;
+import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
+import io.restassured.mapper.ObjectMapperType;
+import io.restassured.path.json.mapper.factory.Jackson2ObjectMapperFactory;
 import io.restassured.specification.RequestSpecification;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Request Specifications Builder
  * Follows Single Responsibility Principle - Handles only request specification creation
  */
 public class RequestSpecifications {
 
+    private static final AtomicBoolean FIRST_REQUEST = new AtomicBoolean(true);
+    private static final Jackson2ObjectMapperFactory SHARED_MAPPER = (type, charset) -> JsonUtils.getMapper();
+    private static final ObjectMapperConfig OBJECT_MAPPER_CONFIG = ObjectMapperConfig.objectMapperConfig()
+            .defaultObjectMapperType(ObjectMapperType.JACKSON_2)
+            .jackson2ObjectMapperFactory(SHARED_MAPPER);
+
     private RequestSpecifications() {
         // Private constructor to prevent instantiation
     }
@@ -22,13 +54,7 @@ public class RequestSpecifications {
      * @return RequestSpecification
      */
     public static RequestSpecification getBasicRequestSpec() {
-        return new RequestSpecBuilder()
-                .setBaseUri(ConfigFactory.getConfig().baseUrl())
-                .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
-                .addFilter(new RequestLoggingFilter())
-                .addFilter(new ResponseLoggingFilter())
-                .build();
+        return getCustomBaseUriSpec(ConfigFactory.getConfig().baseUrl());
     }
 
     /**
@@ -48,12 +74,19 @@ public class RequestSpecifications {
      * @return RequestSpecification
      */
     public static RequestSpecification getMultipartRequestSpec() {
-        return new RequestSpecBuilder()
-                .setBaseUri(ConfigFactory.getConfig().baseUrl())
-                .setContentType(ContentType.MULTIPART)
-                .addFilter(new RequestLoggingFilter())
-                .addFilter(new ResponseLoggingFilter())
-                .build();
+        return getMultipartRequestSpec(ConfigFactory.getConfig().baseUrl());
+    }
+
+    /**
+     * Create request specification for multipart/form-data with custom base URI
+     * @param baseUri Custom base URI
+     * @return RequestSpecification
+     */
+    public static RequestSpecification getMultipartRequestSpec(String baseUri) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setContentType(ContentType.MULTIPART);
+        return addOptionalFilters(builder, false).build();
     }
 
     /**
@@ -62,13 +95,118 @@ public class RequestSpecifications {
      * @return RequestSpecification
      */
     public static RequestSpecification getCustomBaseUriSpec(String baseUri) {
-        return new RequestSpecBuilder()
+        RequestSpecBuilder builder = new RequestSpecBuilder()
                 .setBaseUri(baseUri)
                 .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
-                .addFilter(new RequestLoggingFilter())
-                .addFilter(new ResponseLoggingFilter())
-                .build();
+                .setAccept(ContentType.JSON);
+        return addOptionalFilters(builder, false).build();
+    }
+
+    /**
+     * Create request specification for replaying captured traffic
+     * Like getCustomBaseUriSpec, but without the response cache, which would answer repeated reads
+     * without calling the backend, and without traffic capture, which would record the replay again.
+     * @param baseUri Base URI to replay against
+     * @return RequestSpecification
+     */
+    public static RequestSpecification getReplayRequestSpec(String baseUri) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON);
+        return addOptionalFilters(builder, true).build();
+    }
+
+    /**
+     * Add the logging filters and the filters that are switched on through configuration
+     * @param builder Request specification builder
+     * @param replay Whether the requests replay captured traffic, which leaves out caching and capture
+     * @return The same builder
+     */
+    private static RequestSpecBuilder addOptionalFilters(RequestSpecBuilder builder, boolean replay) {
+        logTimeToFirstRequest();
+        ConfigManager config = ConfigFactory.getConfig();
+        builder.setConfig(buildRestAssuredConfig(config));
+        if (config.logRequestDetails()) {
+            builder.addFilter(new RequestLoggingFilter());
+        }
+        if (config.logResponseDetails()) {
+            builder.addFilter(new ResponseLoggingFilter());
+        }
+        if (config.cacheEnabled() && !replay) {
+            builder.addFilter(new ResponseCacheFilter());
+        }
+        if (config.cleanupEnabled()) {
+            builder.addFilter(new ResourceTrackingFilter());
+        }
+        if (config.tracingEnabled()) {
+            builder.addFilter(new TracingFilter());
+        }
+        if (config.metricsEnabled()) {
+            builder.addFilter(new MetricsFilter());
+        }
+        if (config.resultsEnabled()) {
+            builder.addFilter(new ResultRecordingFilter());
+        }
+        if (config.sloEnabled()) {
+            builder.addFilter(new SloFilter());
+        }
+        if (config.captureEnabled() && !replay) {
+            builder.addFilter(new TrafficCaptureFilter());
+        }
+        if (config.compressionEnabled()) {
+            builder.addFilter(new CompressionFilter());
+        }
+        if (TransportType.fromConfig(config.httpTransport()) == TransportType.HTTP2) {
+            builder.addFilter(new Http2TransportFilter());
+        }
+        return builder;
+    }
+
+    /**
+     * Log how long after JVM start the first request specification was built
+     */
+    private static void logTimeToFirstRequest() {
+        if (FIRST_REQUEST.compareAndSet(true, false)) {
+            LoggerUtil.info("Time to first request: " + ManagementFactory.getRuntimeMXBean().getUptime()
+                    + " ms after JVM start");
+        }
+    }
+
+    /**
+     * Build the RestAssured configuration shared by all specifications
+     * @param config Configuration
+     * @return RestAssuredConfig
+     */
+    private static RestAssuredConfig buildRestAssuredConfig(ConfigManager config) {
+        RestAssuredConfig restAssuredConfig = RestAssured.config()
+                .decoderConfig(buildDecoderConfig(config.compressionAcceptEncoding()))
+                .objectMapperConfig(OBJECT_MAPPER_CONFIG);
+        if (config.tracingEnabled()) {
+            HttpClientConfig httpClientConfig = restAssuredConfig.getHttpClientConfig()
+                    .httpClientFactory(new TracingHttpClientFactory());
+            restAssuredConfig = restAssuredConfig.httpClient(httpClientConfig);
+        }
+        return restAssuredConfig;
+    }
+
+    /**
+     * Build the decoder configuration, which also drives the Accept-Encoding header
+     * @param acceptEncoding Comma separated encodings, e.g. "gzip,deflate"
+     * @return DecoderConfig
+     */
+    private static DecoderConfig buildDecoderConfig(String acceptEncoding) {
+        List<DecoderConfig.ContentDecoder> decoders = new ArrayList<>();
+        for (String encoding : acceptEncoding.split(",")) {
+            if (!encoding.isBlank()) {
+                decoders.add(DecoderConfig.ContentDecoder.valueOf(encoding.trim().toUpperCase()));
+            }
+        }
+        if (decoders.isEmpty()) {
+            return DecoderConfig.decoderConfig().noContentDecoders();
+        }
+        return DecoderConfig.decoderConfig().contentDecoders(decoders.get(0),
+                decoders.subList(1, decoders.size()).toArray(new DecoderConfig.ContentDecoder[0]));
     }
 }
 
@@ -1,5 +1,6 @@
 package com.petshop.api.specifications;
 
+import com.petshop.config.ConfigFactory;
 import io.restassured.builder.ResponseSpecBuilder;
 import io.restassured.http.ContentType;
 import io.restassured.specification.ResponseSpecification;
@@ -24,7 +25,7 @@ public class ResponseSpecifications {
         return new ResponseSpecBuilder()
                 .expectStatusCode(200)
                 .expectContentType(ContentType.JSON)
-                .expectResponseTime(lessThan(5000L))
+                .expectResponseTime(lessThan(maxResponseTime()))
                 .build();
     }
 
@@ -36,7 +37,7 @@ public class ResponseSpecifications {
         return new ResponseSpecBuilder()
                 .expectStatusCode(201)
                 .expectContentType(ContentType.JSON)
-                .expectResponseTime(lessThan(5000L))
+                .expectResponseTime(lessThan(maxResponseTime()))
                 .build();
     }
 
@@ -47,7 +48,7 @@ public class ResponseSpecifications {
     public static ResponseSpecification getBadRequestResponseSpec() {
         return new ResponseSpecBuilder()
                 .expectStatusCode(400)
-                .expectResponseTime(lessThan(5000L))
+                .expectResponseTime(lessThan(maxResponseTime()))
                 .build();
     }
 
@@ -58,7 +59,7 @@ public class ResponseSpecifications {
     public static ResponseSpecification getNotFoundResponseSpec() {
         return new ResponseSpecBuilder()
                 .expectStatusCode(404)
-                .expectResponseTime(lessThan(5000L))
+                .expectResponseTime(lessThan(maxResponseTime()))
                 .build();
     }
 
@@ -70,8 +71,15 @@ public class ResponseSpecifications {
     public static ResponseSpecification getCustomStatusCodeSpec(int statusCode) {
         return new ResponseSpecBuilder()
                 .expectStatusCode(statusCode)
-                .expectResponseTime(lessThan(5000L))
+                .expectResponseTime(lessThan(maxResponseTime()))
                 .build();
     }
-}
 
+    /**
+     * Responses must take less than response.time.max.ms; per-endpoint latency targets are SLOs in slo.file
+     * @return Maximum response time in milliseconds
+     */
+    private static long maxResponseTime() {
+        return ConfigFactory.getConfig().responseTimeMaxMs();
+    }
+}
@@ -0,0 +1,234 @@
+package com.petshop.api.transport;
+
+import com.petshop.config.ConfigFactory;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.Cookie;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.internal.assertion.CookieMatcher;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP/2 transport for the endpoint classes
+ * Replaces the final send step of the RestAssured filter chain with the JDK HttpClient, which multiplexes
+ * concurrent requests as streams over a shared connection. Earlier filters (logging, caching, compression)
+ * still run unchanged. Multipart requests, and bodies other than strings, byte arrays, files and input streams,
+ * fall back to the default Apache transport.
+ * The send is timed like RestAssured's own TimingFilter, so Response.getTime() and response-time
+ * assertions behave the same on both transports.
+ */
+public class Http2TransportFilter implements OrderedFilter {
+
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "host",
+            "expect", "upgrade", "accept-encoding");
+
+    private static volatile HttpClient client;
+
+    static {
+        // Requests in flight finish on the old client; the next request builds one with the new settings
+        ConfigFactory.addReloadListener((previous, current, changedKeys) -> {
+            if (changedKeys.contains("base.url") || changedKeys.contains("default.timeout")) {
+                client = null;
+            }
+        });
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!requestSpec.getMultiPartParams().isEmpty() || !isSendable(requestSpec.getBody())) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        HttpRequest request = toHttpRequest(requestSpec);
+        try {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = getClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            ctx.setValue(TimingFilter.RESPONSE_TIME_MILLISECONDS, elapsedMillis);
+            return withTime(toResponse(response), elapsedMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException("HTTP/2 request failed: " + request.method() + " " + request.uri(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("HTTP/2 request interrupted: " + request.uri(), e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // Always the last filter: it performs the actual send
+        return LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Get the shared JDK HttpClient, creating it on first use and again after base.url or default.timeout reload
+     * @return HttpClient configured for HTTP/2
+     */
+    public static HttpClient getClient() {
+        if (client == null) {
+            synchronized (Http2TransportFilter.class) {
+                if (client == null) {
+                    client = HttpClient.newBuilder()
+                            .version(HttpClient.Version.HTTP_2)
+                            .followRedirects(HttpClient.Redirect.NORMAL)
+                            .connectTimeout(Duration.ofSeconds(ConfigFactory.getConfig().defaultTimeout()))
+                            .build();
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Convert a RestAssured request specification into a JDK HttpRequest
+     * @param requestSpec Filterable request specification
+     * @return HttpRequest
+     */
+    static HttpRequest toHttpRequest(FilterableRequestSpecification requestSpec) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(requestSpec.getURI()))
+                .timeout(Duration.ofSeconds(ConfigFactory.getConfig().defaultTimeout()));
+
+        for (Header header : requestSpec.getHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                builder.header(header.getName(), header.getValue());
+            }
+        }
+        if (requestSpec.getCookies().exist()) {
+            StringJoiner cookies = new StringJoiner("; ");
+            for (Cookie cookie : requestSpec.getCookies()) {
+                cookies.add(cookie.getName() + "=" + cookie.getValue());
+            }
+            builder.header("Cookie", cookies.toString());
+        }
+        String acceptEncoding = ConfigFactory.getConfig().compressionAcceptEncoding();
+        if (!acceptEncoding.isBlank()) {
+            builder.header("Accept-Encoding", acceptEncoding);
+        }
+
+        byte[] body = bodyBytes(requestSpec.getBody());
+        if (body != null && requestSpec.getContentType() != null
+                && requestSpec.getHeaders().getValue("Content-Type") == null) {
+            builder.header("Content-Type", requestSpec.getContentType());
+        }
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(body);
+        return builder.method(requestSpec.getMethod(), publisher).build();
+    }
+
+    /**
+     * Convert a JDK HttpResponse into a RestAssured Response, decoding gzip/deflate bodies
+     * @param response JDK response
+     * @return Response
+     */
+    static Response toResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            for (String value : values) {
+                headers.add(new Header(name, value));
+            }
+        });
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("");
+        String version = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(version + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setCookies(CookieMatcher.getCookies(response.headers().allValues("Set-Cookie")))
+                .setBody(decode(response.body(), encoding));
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    /**
+     * Attach the measured round trip to a built response, where getTime() looks for it
+     * @param response Response built by toResponse
+     * @param elapsedMillis Time from sending the request to receiving the whole body
+     * @return The same response
+     */
+    static Response withTime(Response response, long elapsedMillis) {
+        if (response instanceof RestAssuredResponseImpl) {
+            ((RestAssuredResponseImpl) response).setFilterContextProperties(
+                    Map.of(TimingFilter.RESPONSE_TIME_MILLISECONDS, elapsedMillis));
+        }
+        return response;
+    }
+
+    /**
+     * Check whether bodyBytes can send a request body as is
+     * @param body Request body, already serialized by RestAssured for objects
+     * @return true for no body, strings, byte arrays, files and input streams
+     */
+    static boolean isSendable(Object body) {
+        return body == null || body instanceof String || body instanceof byte[]
+                || body instanceof File || body instanceof InputStream;
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        try {
+            if (body instanceof File) {
+                return Files.readAllBytes(((File) body).toPath());
+            }
+            if (body instanceof InputStream) {
+                return ((InputStream) body).readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read request body", e);
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decode a gzip or deflate body; any other encoding, such as br or zstd, is returned as received
+     */
+    private static byte[] decode(byte[] body, String encoding) {
+        boolean gzip = "gzip".equalsIgnoreCase(encoding) || "x-gzip".equalsIgnoreCase(encoding);
+        if (body.length == 0 || !gzip && !"deflate".equalsIgnoreCase(encoding)) {
+            return body;
+        }
+        try (InputStream in = gzip
+                ? new GZIPInputStream(new ByteArrayInputStream(body))
+                : new InflaterInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode " + encoding + " response body", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.petshop.api.transport;
+
+/**
+ * HTTP transports available to the endpoint classes
+ * Selected through the http.transport configuration key
+ */
+public enum TransportType {
+
+    /**
+     * RestAssured's default Apache HttpClient (HTTP/1.1, one connection per in-flight request)
+     */
+    APACHE,
+
+    /**
+     * JDK HttpClient negotiating HTTP/2 with stream multiplexing over shared connections
+     */
+    HTTP2;
+
+    /**
+     * Resolve a transport from its configuration value
+     * @param value Configuration value, case-insensitive
+     * @return TransportType
+     */
+    public static TransportType fromConfig(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown http.transport: " + value + " (expected apache or http2)", e);
+        }
+    }
+}
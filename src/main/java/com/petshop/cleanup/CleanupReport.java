@@ -0,0 +1,70 @@
+package com.petshop.cleanup;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome of deleting tracked resources, per resource type
+ */
+public class CleanupReport {
+
+    private final Map<ResourceType, LongAdder> deleted = new EnumMap<>(ResourceType.class);
+    private final Map<ResourceType, LongAdder> alreadyGone = new EnumMap<>(ResourceType.class);
+    private final Map<ResourceType, LongAdder> failed = new EnumMap<>(ResourceType.class);
+    private volatile long elapsedMs;
+
+    CleanupReport() {
+        for (ResourceType type : ResourceType.values()) {
+            deleted.put(type, new LongAdder());
+            alreadyGone.put(type, new LongAdder());
+            failed.put(type, new LongAdder());
+        }
+    }
+
+    void recordDeleted(ResourceType type) {
+        deleted.get(type).increment();
+    }
+
+    void recordAlreadyGone(ResourceType type) {
+        alreadyGone.get(type).increment();
+    }
+
+    void recordFailed(ResourceType type) {
+        failed.get(type).increment();
+    }
+
+    void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    public long getDeleted(ResourceType type) {
+        return deleted.get(type).sum();
+    }
+
+    public long getAlreadyGone(ResourceType type) {
+        return alreadyGone.get(type).sum();
+    }
+
+    public long getFailed(ResourceType type) {
+        return failed.get(type).sum();
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /**
+     * Render a one-line-per-type summary
+     * @return Report text
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder(String.format("%-8s %8s %8s %8s%n", "type", "deleted", "gone", "failed"));
+        for (ResourceType type : ResourceType.values()) {
+            sb.append(String.format("%-8s %8d %8d %8d%n", type.name().toLowerCase(),
+                    getDeleted(type), getAlreadyGone(type), getFailed(type)));
+        }
+        sb.append("elapsed ").append(elapsedMs).append(" ms");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.petshop.cleanup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces calls evenly so that at most a fixed number start per second across all threads
+ */
+class RateLimiter {
+
+    private long intervalNanos;
+    private long nextPermitNanos;
+
+    RateLimiter(int permitsPerSecond) {
+        setRate(permitsPerSecond);
+        this.nextPermitNanos = System.nanoTime();
+    }
+
+    /**
+     * Change the rate; permits already handed out keep their start times
+     * @param permitsPerSecond New rate
+     */
+    synchronized void setRate(int permitsPerSecond) {
+        if (permitsPerSecond < 1) {
+            throw new IllegalArgumentException("Rate must be at least 1 per second");
+        }
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+    }
+
+    /**
+     * Block until the caller may start its next call
+     * @throws InterruptedException If interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        long permit = Math.max(now, nextPermitNanos);
+        nextPermitNanos = permit + intervalNanos;
+        return permit - now;
+    }
+}
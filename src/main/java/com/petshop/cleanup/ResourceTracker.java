@@ -0,0 +1,313 @@
+package com.petshop.cleanup;
+
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+import com.petshop.utils.LoggerUtil;
+import io.restassured.response.Response;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records every resource created through the API and deletes the leftovers
+ * Resources deleted by the tests themselves are forgotten again. The rest are deleted in
+ * batches on a small worker pool under a shared rate limit, either continuously once the
+ * creating test has finished (cleanup.interval.ms > 0) or all at once at suite end.
+ * Resources adopted by a longer-lived owner, such as a fixture pool, are only deleted at suite end
+ * if the owner left them behind. Failed deletes are retried up to cleanup.delete.attempts times.
+ * Resources are recorded with the base URI they were created under and deleted there, so runs
+ * against several deployments, such as fan-out runs, clean up every one of them.
+ */
+public class ResourceTracker {
+
+    private static final Map<String, Record> LIVE = new ConcurrentHashMap<>();
+    private static final Queue<Record> RELEASED = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<List<Record>> OWNED = ThreadLocal.withInitial(ArrayList::new);
+
+    private static final CleanupReport REPORT = new CleanupReport();
+    private static ExecutorService workers;
+    private static ScheduledExecutorService scheduler;
+    private static RateLimiter rateLimiter;
+
+    private ResourceTracker() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check whether resource tracking is switched on
+     * @return true if cleanup.enabled is set
+     */
+    public static boolean isEnabled() {
+        return ConfigFactory.getConfig().cleanupEnabled();
+    }
+
+    static {
+        ConfigFactory.addReloadListener(ResourceTracker::onConfigReload);
+    }
+
+    /**
+     * Start the worker pool and, if configured, continuous cleanup of finished tests' resources
+     */
+    public static synchronized void start() {
+        if (workers != null) {
+            return;
+        }
+        ConfigManager config = ConfigFactory.getConfig();
+        rateLimiter = new RateLimiter(config.cleanupRatePerSecond());
+        workers = Executors.newFixedThreadPool(config.cleanupThreads(), daemonThreads("cleanup-worker-"));
+
+        long intervalMs = config.cleanupIntervalMs();
+        if (intervalMs > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("cleanup-scheduler-"));
+            scheduler.scheduleWithFixedDelay(ResourceTracker::cleanUpReleased, intervalMs, intervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Record a created resource, owned by the current thread until released
+     * @param baseUri Base URI the resource was created under
+     * @param type Resource type
+     * @param id Resource ID
+     */
+    public static void track(String baseUri, ResourceType type, String id) {
+        Record record = new Record(baseUri, type, id);
+        if (LIVE.putIfAbsent(record.key(), record) == null) {
+            OWNED.get().add(record);
+        }
+    }
+
+    /**
+     * Forget a resource that has been deleted
+     * @param baseUri Base URI the resource was deleted under
+     * @param type Resource type
+     * @param id Resource ID
+     */
+    public static void untrack(String baseUri, ResourceType type, String id) {
+        LIVE.remove(key(baseUri, type, id));
+    }
+
+    /**
+     * Take a resource created on the current thread out of that thread's ownership
+     * It stays tracked, so it is still deleted at suite end if the new owner leaves it behind,
+     * but it is no longer deleted when the current test finishes.
+     * @param baseUri Base URI the resource was created under
+     * @param type Resource type
+     * @param id Resource ID
+     */
+    public static void adopt(String baseUri, ResourceType type, String id) {
+        String key = key(baseUri, type, id);
+        OWNED.get().removeIf(record -> record.key().equals(key));
+    }
+
+    /**
+     * Check whether a resource is tracked and has not been deleted yet
+     * @param baseUri Base URI the resource was created under
+     * @param type Resource type
+     * @param id Resource ID
+     * @return true if the resource is live
+     */
+    public static boolean isTracked(String baseUri, ResourceType type, String id) {
+        return LIVE.containsKey(key(baseUri, type, id));
+    }
+
+    /**
+     * Mark resources created by the current thread as no longer in use
+     */
+    public static void releaseCurrentThread() {
+        List<Record> owned = OWNED.get();
+        RELEASED.addAll(owned);
+        owned.clear();
+    }
+
+    /**
+     * Get number of tracked resources not yet deleted
+     * @return Live resource count
+     */
+    public static int getLiveCount() {
+        return LIVE.size();
+    }
+
+    /**
+     * Delete every remaining tracked resource and wait for the workers to finish
+     * @return Report counting the whole run, including continuous cleanup; elapsed time covers the final pass
+     */
+    public static synchronized CleanupReport cleanUpAll() {
+        long startNanos = System.nanoTime();
+        start();
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        RELEASED.clear();
+        submit(new ArrayList<>(LIVE.values()));
+
+        long timeoutMs = ConfigFactory.getConfig().cleanupTimeoutMs();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                LoggerUtil.warn("Resource cleanup did not finish within " + timeoutMs + " ms, "
+                        + LIVE.size() + " resources left");
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+        workers = null;
+        REPORT.setElapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return REPORT;
+    }
+
+    /**
+     * Apply a new cleanup rate and worker count to the running tracker without stopping it
+     */
+    private static synchronized void onConfigReload(ConfigManager previous, ConfigManager current,
+                                                    Set<String> changedKeys) {
+        if (rateLimiter != null && changedKeys.contains("cleanup.rate.per.second")) {
+            rateLimiter.setRate(current.cleanupRatePerSecond());
+        }
+        if (workers instanceof ThreadPoolExecutor && changedKeys.contains("cleanup.threads")) {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) workers;
+            int threads = current.cleanupThreads();
+            if (threads > pool.getMaximumPoolSize()) {
+                pool.setMaximumPoolSize(threads);
+                pool.setCorePoolSize(threads);
+            } else {
+                pool.setCorePoolSize(threads);
+                pool.setMaximumPoolSize(threads);
+            }
+        }
+    }
+
+    private static void cleanUpReleased() {
+        List<Record> released = new ArrayList<>();
+        for (Record record = RELEASED.poll(); record != null; record = RELEASED.poll()) {
+            if (LIVE.containsKey(record.key())) {
+                released.add(record);
+            }
+        }
+        synchronized (ResourceTracker.class) {
+            if (workers != null) {
+                submit(released);
+            }
+        }
+    }
+
+    private static void submit(Collection<Record> records) {
+        int batchSize = ConfigFactory.getConfig().cleanupBatchSize();
+        List<Record> batch = new ArrayList<>(batchSize);
+        for (Record record : records) {
+            batch.add(record);
+            if (batch.size() == batchSize) {
+                List<Record> full = batch;
+                workers.execute(() -> deleteBatch(full));
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            List<Record> last = batch;
+            workers.execute(() -> deleteBatch(last));
+        }
+    }
+
+    private static void deleteBatch(List<Record> batch) {
+        int maxAttempts = ConfigFactory.getConfig().cleanupDeleteAttempts();
+        Deque<Record> queue = new ArrayDeque<>(batch);
+        for (Record record = queue.poll(); record != null; record = queue.poll()) {
+            if (!LIVE.containsKey(record.key())) {
+                continue;
+            }
+            String failure;
+            try {
+                rateLimiter.acquire();
+                Response response = record.type.newEndpoint(record.baseUri).delete(record.id);
+                int status = response.getStatusCode();
+                if (status / 100 == 2) {
+                    REPORT.recordDeleted(record.type);
+                    LIVE.remove(record.key());
+                    continue;
+                }
+                if (status == 404) {
+                    REPORT.recordAlreadyGone(record.type);
+                    LIVE.remove(record.key());
+                    continue;
+                }
+                failure = "HTTP " + status;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failure = e.getMessage();
+            }
+
+            // Retry after the rest of the batch, which gives a transient failure time to clear
+            int attempts = record.attempts.incrementAndGet();
+            if (attempts < maxAttempts) {
+                LoggerUtil.debug("Delete of " + record.key() + " failed (" + failure + "), retrying");
+                queue.add(record);
+            } else {
+                REPORT.recordFailed(record.type);
+                LIVE.remove(record.key());
+                LoggerUtil.warn("Failed to delete " + record.key() + " after " + attempts + " attempts: "
+                        + failure);
+            }
+        }
+    }
+
+    /**
+     * Key of a resource, e.g. "https://host/v2 PET:42"; a trailing slash on the base URI is ignored
+     */
+    private static String key(String baseUri, ResourceType type, String id) {
+        return normalize(baseUri) + " " + type.name() + ":" + id;
+    }
+
+    private static String normalize(String baseUri) {
+        return baseUri.endsWith("/") ? baseUri.substring(0, baseUri.length() - 1) : baseUri;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A tracked resource
+     */
+    private static final class Record {
+
+        private final String baseUri;
+        private final ResourceType type;
+        private final String id;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        Record(String baseUri, ResourceType type, String id) {
+            this.baseUri = normalize(baseUri);
+            this.type = type;
+            this.id = id;
+        }
+
+        String key() {
+            return ResourceTracker.key(baseUri, type, id);
+        }
+    }
+}
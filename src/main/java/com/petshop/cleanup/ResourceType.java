@@ -0,0 +1,75 @@
+package com.petshop.cleanup;
+
+import com.petshop.api.endpoints.IApiEndpoint;
+import com.petshop.api.endpoints.PetEndpoint;
+import com.petshop.api.endpoints.StoreEndpoint;
+import com.petshop.api.endpoints.UserEndpoint;
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+
+import java.util.function.Function;
+
+/**
+ * Server-side resource kinds the tracker knows how to delete
+ * Collection paths come from the endpoint.* keys, so they follow the endpoints themselves.
+ */
+public enum ResourceType {
+    PET(ConfigManager::petEndpoint, "", PetEndpoint::new),
+    ORDER(ConfigManager::storeEndpoint, "/order", StoreEndpoint::new),
+    USER(ConfigManager::userEndpoint, "", UserEndpoint::new);
+
+    private final Function<ConfigManager, String> endpointPath;
+    private final String suffix;
+    private final Function<String, IApiEndpoint<?>> endpointFactory;
+
+    ResourceType(Function<ConfigManager, String> endpointPath, String suffix,
+                 Function<String, IApiEndpoint<?>> endpointFactory) {
+        this.endpointPath = endpointPath;
+        this.suffix = suffix;
+        this.endpointFactory = endpointFactory;
+    }
+
+    /**
+     * Get the collection path, e.g. "/pet"
+     * @return Resource path
+     */
+    public String getPath() {
+        return endpointPath.apply(ConfigFactory.getConfig()) + suffix;
+    }
+
+    /**
+     * Create an endpoint that can delete resources of this type
+     * @param baseUri Base URI of the deployment holding the resources, or null to follow base.url
+     * @return Endpoint
+     */
+    public IApiEndpoint<?> newEndpoint(String baseUri) {
+        return endpointFactory.apply(baseUri);
+    }
+
+    /**
+     * Resolve the type whose collection path is the parent of a resource path, e.g. "/pet/42"
+     * @param resourcePath Path relative to the base URI
+     * @return Matching type, or null
+     */
+    public static ResourceType ofItemPath(String resourcePath) {
+        int slash = resourcePath.lastIndexOf('/');
+        if (slash <= 0) {
+            return null;
+        }
+        return ofCollectionPath(resourcePath.substring(0, slash));
+    }
+
+    /**
+     * Resolve the type of a collection path, e.g. "/pet"
+     * @param collectionPath Path relative to the base URI
+     * @return Matching type, or null
+     */
+    public static ResourceType ofCollectionPath(String collectionPath) {
+        for (ResourceType type : values()) {
+            if (type.getPath().equals(collectionPath)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
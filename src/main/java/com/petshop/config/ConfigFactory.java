@@ -1,23 +1,141 @@
 package com.petshop.config;
 
-import org.aeonbits.owner.ConfigCache;
+import com.petshop.metrics.MetricsRegistry;
+import com.petshop.utils.LoggerUtil;
+import org.aeonbits.owner.Config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Factory class to create and cache configuration instances
  * Follows Singleton Pattern and Factory Pattern
+ * reload() re-reads the sources into a new instance and swaps it in atomically: callers that already
+ * hold a ConfigManager keep a consistent view, the next getConfig() sees the new values.
  */
 public class ConfigFactory {
 
+    private static final AtomicReference<ConfigManager> CURRENT = new AtomicReference<>(create());
+    private static final List<ConfigReloadListener> LISTENERS = new CopyOnWriteArrayList<>();
+
     private ConfigFactory() {
         // Private constructor to prevent instantiation
     }
 
     /**
-     * Get cached configuration instance
+     * Get the current configuration instance
      * @return ConfigManager instance
      */
     public static ConfigManager getConfig() {
-        return ConfigCache.getOrCreate(ConfigManager.class);
+        return CURRENT.get();
     }
-}
 
+    /**
+     * Register a component to be told about configuration changes
+     * @param listener Listener
+     */
+    public static void addReloadListener(ConfigReloadListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Remove a previously registered listener
+     * @param listener Listener
+     */
+    public static void removeReloadListener(ConfigReloadListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Re-read the configuration sources and swap in the result if it is valid and differs
+     * A file with a value that does not convert (e.g. "abc" for a number) is rejected as a whole.
+     * @return Keys that changed; empty if nothing changed or the new configuration was rejected
+     */
+    public static synchronized Set<String> reload() {
+        ConfigManager previous = CURRENT.get();
+        ConfigManager candidate;
+        Map<String, Object> candidateValues;
+        try {
+            candidate = create();
+            candidateValues = values(candidate);
+        } catch (RuntimeException e) {
+            countReload("rejected");
+            LoggerUtil.warn("Config reload rejected, keeping the current configuration: " + rootMessage(e));
+            return Set.of();
+        }
+
+        Map<String, Object> previousValues = values(previous);
+        Set<String> changedKeys = new TreeSet<>();
+        for (Map.Entry<String, Object> entry : candidateValues.entrySet()) {
+            if (!Objects.equals(entry.getValue(), previousValues.get(entry.getKey()))) {
+                changedKeys.add(entry.getKey());
+            }
+        }
+        if (changedKeys.isEmpty()) {
+            countReload("unchanged");
+            return Set.of();
+        }
+
+        CURRENT.set(candidate);
+        countReload("applied");
+        MetricsRegistry.getInstance().gauge("petshop_config_last_reload_timestamp_seconds",
+                "Unix time of the last applied configuration reload").set(System.currentTimeMillis() / 1000);
+        MetricsRegistry.getInstance().counter("petshop_config_changed_keys_total",
+                "Configuration keys changed by reloads").add(changedKeys.size());
+        LoggerUtil.info("Config reloaded, changed: " + String.join(", ", changedKeys));
+        for (ConfigReloadListener listener : LISTENERS) {
+            try {
+                listener.onReload(previous, candidate, changedKeys);
+            } catch (RuntimeException e) {
+                LoggerUtil.error("Config reload listener failed", e);
+            }
+        }
+        return changedKeys;
+    }
+
+    private static ConfigManager create() {
+        return org.aeonbits.owner.ConfigFactory.create(ConfigManager.class);
+    }
+
+    /**
+     * Read every property through its getter, so conversion errors surface here rather than mid-run
+     */
+    private static Map<String, Object> values(ConfigManager config) {
+        Map<String, Object> values = new TreeMap<>();
+        for (Method method : ConfigManager.class.getDeclaredMethods()) {
+            Config.Key key = method.getAnnotation(Config.Key.class);
+            if (key == null || method.getParameterCount() != 0) {
+                continue;
+            }
+            try {
+                values.put(key.value(), method.invoke(config));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read " + key.value(), e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalArgumentException("Invalid value for " + key.value(), e.getCause());
+            }
+        }
+        return values;
+    }
+
+    private static void countReload(String result) {
+        MetricsRegistry.getInstance().counter("petshop_config_reloads_total",
+                "Configuration reload attempts by result", "result", result).increment();
+    }
+
+    private static String rootMessage(Throwable throwable) {
+        StringBuilder sb = new StringBuilder(String.valueOf(throwable.getMessage()));
+        for (Throwable cause = throwable.getCause(); cause != null; cause = cause.getCause()) {
+            sb.append(": ").append(cause.getMessage());
+        }
+        return sb.toString();
+    }
+}
@@ -49,8 +49,271 @@ public interface ConfigManager extends Config {
     @DefaultValue("true")
     boolean logResponseDetails();
 
+    @Key("response.time.max.ms")
+    @DefaultValue("5000")
+    long responseTimeMaxMs();
+
     @Key("retry.failed.tests")
     @DefaultValue("1")
     int retryFailedTests();
-}
 
+    @Key("cache.enabled")
+    @DefaultValue("false")
+    boolean cacheEnabled();
+
+    @Key("cache.max.entries")
+    @DefaultValue("256")
+    int cacheMaxEntries();
+
+    @Key("cache.ttl.default.ms")
+    @DefaultValue("0")
+    long cacheTtlDefault();
+
+    @Key("cache.ttl.pet.ms")
+    @DefaultValue("5000")
+    long cacheTtlPet();
+
+    @Key("cache.ttl.store.ms")
+    @DefaultValue("2000")
+    long cacheTtlStore();
+
+    @Key("cache.ttl.user.ms")
+    @DefaultValue("5000")
+    long cacheTtlUser();
+
+    @Key("capture.dir")
+    @DefaultValue("test-output/capture")
+    String captureDir();
+
+    @Key("capture.enabled")
+    @DefaultValue("false")
+    boolean captureEnabled();
+
+    @Key("cleanup.batch.size")
+    @DefaultValue("25")
+    int cleanupBatchSize();
+
+    @Key("cleanup.delete.attempts")
+    @DefaultValue("3")
+    int cleanupDeleteAttempts();
+
+    @Key("cleanup.enabled")
+    @DefaultValue("false")
+    boolean cleanupEnabled();
+
+    @Key("cleanup.interval.ms")
+    @DefaultValue("0")
+    long cleanupIntervalMs();
+
+    @Key("cleanup.rate.per.second")
+    @DefaultValue("20")
+    int cleanupRatePerSecond();
+
+    @Key("cleanup.threads")
+    @DefaultValue("4")
+    int cleanupThreads();
+
+    @Key("cleanup.timeout.ms")
+    @DefaultValue("60000")
+    long cleanupTimeoutMs();
+
+    @Key("compression.accept.encoding")
+    @DefaultValue("gzip,deflate")
+    String compressionAcceptEncoding();
+
+    @Key("compression.enabled")
+    @DefaultValue("false")
+    boolean compressionEnabled();
+
+    @Key("compression.request.threshold.bytes")
+    @DefaultValue("1024")
+    int compressionRequestThresholdBytes();
+
+    @Key("config.reload.debounce.ms")
+    @DefaultValue("250")
+    long configReloadDebounceMs();
+
+    @Key("config.reload.enabled")
+    @DefaultValue("false")
+    boolean configReloadEnabled();
+
+    @Key("data.count")
+    @DefaultValue("1000")
+    int dataCount();
+
+    @Key("data.orders.file")
+    @DefaultValue("")
+    String dataOrdersFile();
+
+    @Key("data.pets.file")
+    @DefaultValue("")
+    String dataPetsFile();
+
+    @Key("data.users.file")
+    @DefaultValue("")
+    String dataUsersFile();
+
+    @Key("fanout.concurrency")
+    @DefaultValue("16")
+    int fanoutConcurrency();
+
+    @Key("fanout.dir")
+    @DefaultValue("test-output/fanout")
+    String fanoutDir();
+
+    @Key("fanout.duration.seconds")
+    @DefaultValue("60")
+    int fanoutDurationSeconds();
+
+    @Key("fanout.environments")
+    @DefaultValue("")
+    String fanoutEnvironments();
+
+    @Key("fanout.rate")
+    @DefaultValue("10")
+    double fanoutRate();
+
+    @Key("fanout.workflow")
+    @DefaultValue("user-pet-order")
+    String fanoutWorkflow();
+
+    @Key("fixtures.cleanup.timeout.ms")
+    @DefaultValue("30000")
+    long fixturesCleanupTimeoutMs();
+
+    @Key("fixtures.pool.size")
+    @DefaultValue("4")
+    int fixturesPoolSize();
+
+    @Key("fixtures.provisioner.threads")
+    @DefaultValue("4")
+    int fixturesProvisionerThreads();
+
+    @Key("gate.alpha")
+    @DefaultValue("0.05")
+    double gateAlpha();
+
+    @Key("gate.baseline.dir")
+    @DefaultValue("test-output/results/baseline")
+    String gateBaselineDir();
+
+    @Key("gate.bootstrap.samples")
+    @DefaultValue("1000")
+    int gateBootstrapSamples();
+
+    @Key("gate.enabled")
+    @DefaultValue("false")
+    boolean gateEnabled();
+
+    @Key("gate.min.samples")
+    @DefaultValue("20")
+    int gateMinSamples();
+
+    @Key("gate.tolerance.pct")
+    @DefaultValue("10")
+    double gateTolerancePct();
+
+    @Key("gate.update.baseline")
+    @DefaultValue("false")
+    boolean gateUpdateBaseline();
+
+    @Key("http.transport")
+    @DefaultValue("apache")
+    String httpTransport();
+
+    @Key("metrics.enabled")
+    @DefaultValue("false")
+    boolean metricsEnabled();
+
+    @Key("metrics.export.file")
+    @DefaultValue("test-output/metrics/petshop.prom")
+    String metricsExportFile();
+
+    @Key("metrics.export.host")
+    @DefaultValue("127.0.0.1")
+    String metricsExportHost();
+
+    @Key("metrics.export.port")
+    @DefaultValue("0")
+    int metricsExportPort();
+
+    @Key("results.dir")
+    @DefaultValue("test-output/results")
+    String resultsDir();
+
+    @Key("results.enabled")
+    @DefaultValue("false")
+    boolean resultsEnabled();
+
+    @Key("slo.burn.alert")
+    @DefaultValue("2")
+    double sloBurnAlert();
+
+    @Key("slo.enabled")
+    @DefaultValue("false")
+    boolean sloEnabled();
+
+    @Key("slo.file")
+    @DefaultValue("slo.properties")
+    String sloFile();
+
+    @Key("slo.window.seconds")
+    @DefaultValue("60")
+    int sloWindowSeconds();
+
+    @Key("soak.concurrency")
+    @DefaultValue("4")
+    int soakConcurrency();
+
+    @Key("soak.dir")
+    @DefaultValue("test-output/soak")
+    String soakDir();
+
+    @Key("soak.duration.minutes")
+    @DefaultValue("60")
+    double soakDurationMinutes();
+
+    @Key("soak.growth.min.pct")
+    @DefaultValue("10")
+    double soakGrowthMinPct();
+
+    @Key("soak.sample.interval.seconds")
+    @DefaultValue("10")
+    int soakSampleIntervalSeconds();
+
+    @Key("soak.trend.alpha")
+    @DefaultValue("0.01")
+    double soakTrendAlpha();
+
+    @Key("soak.warmup.seconds")
+    @DefaultValue("120")
+    int soakWarmupSeconds();
+
+    @Key("soak.workflows")
+    @DefaultValue("user-pet-order")
+    String soakWorkflows();
+
+    @Key("tracing.enabled")
+    @DefaultValue("false")
+    boolean tracingEnabled();
+
+    @Key("tracing.export.file")
+    @DefaultValue("test-output/traces/spans.otlp.jsonl")
+    String tracingExportFile();
+
+    @Key("tracing.service.name")
+    @DefaultValue("petshop-api-tests")
+    String tracingServiceName();
+
+    @Key("warmup.connections")
+    @DefaultValue("4")
+    int warmupConnections();
+
+    @Key("warmup.enabled")
+    @DefaultValue("false")
+    boolean warmupEnabled();
+
+    @Key("warmup.iterations")
+    @DefaultValue("5")
+    int warmupIterations();
+}
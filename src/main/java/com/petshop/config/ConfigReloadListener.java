@@ -0,0 +1,19 @@
+package com.petshop.config;
+
+import java.util.Set;
+
+/**
+ * Callback for components that hold state built from the configuration
+ * Follows Observer Pattern - Notified after ConfigFactory swaps in a reloaded configuration
+ */
+@FunctionalInterface
+public interface ConfigReloadListener {
+
+    /**
+     * Called on the reloading thread once the new configuration is visible to getConfig()
+     * @param previous Configuration before the reload
+     * @param current Configuration after the reload
+     * @param changedKeys Property keys whose values differ, e.g. "base.url"
+     */
+    void onReload(ConfigManager previous, ConfigManager current, Set<String> changedKeys);
+}
@@ -0,0 +1,127 @@
+package com.petshop.config;
+
+import com.petshop.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches config.properties with the NIO WatchService and calls ConfigFactory.reload() when it changes
+ * The watched file is the copy on the classpath, e.g. target/test-classes/config.properties under Maven.
+ * Editors often save by writing a new file and renaming it, so the parent directory is watched and
+ * events are debounced by config.reload.debounce.ms before reloading once.
+ */
+public class ConfigWatcher {
+
+    private static final String RESOURCE = "config.properties";
+    private static ConfigWatcher instance;
+
+    private final Path file;
+    private final long debounceMs;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private ConfigWatcher(Path file, long debounceMs) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.debounceMs = debounceMs;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_CREATE);
+        this.thread = new Thread(this::watch, "config-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Start watching the classpath config.properties, if it is a plain file and not already watched
+     */
+    public static synchronized void start() {
+        if (instance != null) {
+            return;
+        }
+        Path file = classpathFile();
+        if (file == null) {
+            LoggerUtil.warn("Config reload disabled: " + RESOURCE + " is not a file on disk");
+            return;
+        }
+        try {
+            instance = new ConfigWatcher(file, ConfigFactory.getConfig().configReloadDebounceMs());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to watch " + file, e);
+        }
+        instance.thread.start();
+        LoggerUtil.info("Watching " + instance.file + " for configuration changes");
+    }
+
+    /**
+     * Stop watching
+     */
+    public static synchronized void stop() {
+        if (instance == null) {
+            return;
+        }
+        try {
+            instance.watchService.close();
+        } catch (IOException e) {
+            LoggerUtil.warn("Failed to close config watcher: " + e.getMessage());
+        }
+        instance = null;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = touchesFile(key);
+                key.reset();
+                if (!changed) {
+                    continue;
+                }
+                // Let the writer finish, and fold the burst of events one save produces into one reload
+                TimeUnit.MILLISECONDS.sleep(debounceMs);
+                WatchKey more;
+                while ((more = watchService.poll()) != null) {
+                    more.pollEvents();
+                    more.reset();
+                }
+                ConfigFactory.reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Stopped
+        }
+    }
+
+    private boolean touchesFile(WatchKey key) {
+        boolean touches = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                touches = true;
+            }
+        }
+        return touches;
+    }
+
+    private static Path classpathFile() {
+        URL url = ConfigWatcher.class.getClassLoader().getResource(RESOURCE);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.petshop.fixtures;
+
+import com.petshop.api.endpoints.IApiEndpoint;
+import com.petshop.cleanup.ResourceTracker;
+import com.petshop.cleanup.ResourceType;
+import com.petshop.utils.LoggerUtil;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Pool of server-side fixtures of one resource type, pre-created ahead of demand
+ * Each acquired fixture belongs to exactly one holder until released; untouched fixtures are
+ * recycled, modified ones are deleted and replaced in the background.
+ * With cleanup enabled the pool adopts every fixture it creates from the creating thread, so the
+ * ResourceTracker never deletes a fixture after one test while the pool hands it to the next.
+ * @param <T> Payload type
+ */
+public class FixturePool<T> {
+
+    private final ResourceType type;
+    private final String name;
+    private final IApiEndpoint<T> endpoint;
+    private final Supplier<T> generator;
+    private final Function<T, Object> idExtractor;
+    private final int targetSize;
+    private final ExecutorService provisioner;
+
+    private final BlockingQueue<T> ready = new LinkedBlockingQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * @param type Resource type of the fixtures
+     * @param endpoint Endpoint that creates and deletes the resource
+     * @param generator Payload generator
+     * @param idExtractor Extracts the resource ID used for deletion
+     * @param targetSize Number of fixtures kept ready
+     * @param provisioner Executor running background creates and deletes
+     */
+    public FixturePool(ResourceType type, IApiEndpoint<T> endpoint, Supplier<T> generator,
+                       Function<T, Object> idExtractor, int targetSize, ExecutorService provisioner) {
+        this.type = type;
+        this.name = type.name().toLowerCase(Locale.ROOT);
+        this.endpoint = endpoint;
+        this.generator = generator;
+        this.idExtractor = idExtractor;
+        this.targetSize = targetSize;
+        this.provisioner = provisioner;
+        replenish();
+    }
+
+    /**
+     * Take a ready fixture, creating one inline if the pool is drained
+     * @return Fixture that exists on the server
+     */
+    public T acquire() {
+        T fixture = ready.poll();
+        if (fixture == null) {
+            fixture = provision();
+        }
+        replenish();
+        return fixture;
+    }
+
+    /**
+     * Hand a fixture back after use
+     * @param fixture Fixture from acquire()
+     * @param modified Whether the holder changed or deleted the resource
+     */
+    public void release(T fixture, boolean modified) {
+        if (!modified && !closed && ready.size() + pending.get() < targetSize) {
+            ready.offer(fixture);
+            return;
+        }
+        deleteInBackground(fixture);
+        replenish();
+    }
+
+    /**
+     * Stop replenishing and schedule deletion of every ready fixture
+     */
+    public void close() {
+        closed = true;
+        List<T> remaining = new ArrayList<>();
+        ready.drainTo(remaining);
+        for (T fixture : remaining) {
+            deleteInBackground(fixture);
+        }
+    }
+
+    /**
+     * Get number of fixtures ready to hand out
+     * @return Ready count
+     */
+    public int getReadyCount() {
+        return ready.size();
+    }
+
+    private void replenish() {
+        while (!closed) {
+            int inFlight = pending.get();
+            if (ready.size() + inFlight >= targetSize) {
+                return;
+            }
+            if (pending.compareAndSet(inFlight, inFlight + 1)) {
+                try {
+                    provisioner.execute(this::provisionReady);
+                } catch (RejectedExecutionException e) {
+                    // Provisioner shut down while the pool was still open: nothing left to replenish for
+                    pending.decrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void provisionReady() {
+        try {
+            T fixture = provision();
+            if (closed) {
+                delete(fixture);
+            } else {
+                ready.offer(fixture);
+            }
+        } catch (RuntimeException e) {
+            LoggerUtil.warn("Failed to pre-create " + name + " fixture: " + e.getMessage());
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Delete a fixture on the provisioner, or on the calling thread once Fixtures.shutdown() has stopped it,
+     * e.g. for a lease released during suite teardown
+     */
+    private void deleteInBackground(T fixture) {
+        if (!provisioner.isShutdown()) {
+            try {
+                provisioner.execute(() -> delete(fixture));
+                return;
+            } catch (RejectedExecutionException e) {
+                // Shut down between the check and the submit
+            }
+        }
+        delete(fixture);
+    }
+
+    private T provision() {
+        T fixture = generator.get();
+        Response response = endpoint.create(fixture);
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Failed to create " + name + " fixture: HTTP " + response.getStatusCode());
+        }
+        if (ResourceTracker.isEnabled()) {
+            ResourceTracker.adopt(endpoint.getBaseUri(), type, idOf(fixture));
+        }
+        return fixture;
+    }
+
+    private void delete(T fixture) {
+        if (ResourceTracker.isEnabled() && !ResourceTracker.isTracked(endpoint.getBaseUri(), type, idOf(fixture))) {
+            // Already deleted through the API, e.g. by the test that leased it
+            return;
+        }
+        try {
+            endpoint.delete(idExtractor.apply(fixture));
+        } catch (RuntimeException e) {
+            LoggerUtil.warn("Failed to delete " + name + " fixture " + idExtractor.apply(fixture) + ": " + e.getMessage());
+        }
+    }
+
+    private String idOf(T fixture) {
+        return String.valueOf(idExtractor.apply(fixture));
+    }
+}
@@ -0,0 +1,174 @@
+package com.petshop.fixtures;
+
+import com.petshop.api.endpoints.PetEndpoint;
+import com.petshop.api.endpoints.StoreEndpoint;
+import com.petshop.api.endpoints.UserEndpoint;
+import com.petshop.api.payloads.Order;
+import com.petshop.api.payloads.Pet;
+import com.petshop.api.payloads.User;
+import com.petshop.cleanup.ResourceType;
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+import com.petshop.utils.LoggerUtil;
+import com.petshop.utils.TestDataGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-invocation isolated fixtures backed by pre-provisioned pools
+ * Each call hands the current thread its own server-side Pet, User or Order;
+ * releaseAll() returns them once the test method finishes.
+ */
+public final class Fixtures {
+
+    private static final ThreadLocal<List<Lease<?>>> LEASES = ThreadLocal.withInitial(ArrayList::new);
+    private static volatile boolean initialized;
+
+    private Fixtures() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get a Pet the caller may modify or delete; it is deleted after the test
+     * @return Pet that exists on the server
+     */
+    public static Pet pet() {
+        return lease(Pools.PETS, true);
+    }
+
+    /**
+     * Get a Pet the caller only reads; it is recycled after the test
+     * @return Pet that exists on the server
+     */
+    public static Pet readOnlyPet() {
+        return lease(Pools.PETS, false);
+    }
+
+    /**
+     * Get a User the caller may modify or delete; it is deleted after the test
+     * @return User that exists on the server
+     */
+    public static User user() {
+        return lease(Pools.USERS, true);
+    }
+
+    /**
+     * Get a User the caller only reads; it is recycled after the test
+     * @return User that exists on the server
+     */
+    public static User readOnlyUser() {
+        return lease(Pools.USERS, false);
+    }
+
+    /**
+     * Get an Order the caller may modify or delete; it is deleted after the test
+     * @return Order that exists on the server
+     */
+    public static Order order() {
+        return lease(Pools.ORDERS, true);
+    }
+
+    /**
+     * Get an Order the caller only reads; it is recycled after the test
+     * @return Order that exists on the server
+     */
+    public static Order readOnlyOrder() {
+        return lease(Pools.ORDERS, false);
+    }
+
+    /**
+     * Return every fixture leased by the current thread
+     */
+    public static void releaseAll() {
+        List<Lease<?>> leases = LEASES.get();
+        for (Lease<?> lease : leases) {
+            lease.release();
+        }
+        leases.clear();
+    }
+
+    /**
+     * Delete pooled fixtures and wait for background cleanup to finish
+     */
+    public static void shutdown() {
+        if (!initialized) {
+            return;
+        }
+        Pools.PETS.close();
+        Pools.USERS.close();
+        Pools.ORDERS.close();
+
+        long timeoutMs = ConfigFactory.getConfig().fixturesCleanupTimeoutMs();
+        Pools.PROVISIONER.shutdown();
+        try {
+            if (!Pools.PROVISIONER.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                LoggerUtil.warn("Fixture cleanup did not finish within " + timeoutMs + " ms");
+                Pools.PROVISIONER.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Pools.PROVISIONER.shutdownNow();
+        }
+    }
+
+    private static <T> T lease(FixturePool<T> pool, boolean modifiable) {
+        T fixture = pool.acquire();
+        LEASES.get().add(new Lease<>(pool, fixture, modifiable));
+        return fixture;
+    }
+
+    /**
+     * Fixture held by one test invocation
+     */
+    private static final class Lease<T> {
+
+        private final FixturePool<T> pool;
+        private final T fixture;
+        private final boolean modified;
+
+        Lease(FixturePool<T> pool, T fixture, boolean modified) {
+            this.pool = pool;
+            this.fixture = fixture;
+            this.modified = modified;
+        }
+
+        void release() {
+            pool.release(fixture, modified);
+        }
+    }
+
+    /**
+     * Pools created on first use so suites that never lease fixtures make no provisioning calls
+     */
+    private static final class Pools {
+
+        static final ExecutorService PROVISIONER;
+        static final FixturePool<Pet> PETS;
+        static final FixturePool<User> USERS;
+        static final FixturePool<Order> ORDERS;
+
+        static {
+            ConfigManager config = ConfigFactory.getConfig();
+            AtomicInteger threadCount = new AtomicInteger();
+            PROVISIONER = Executors.newFixedThreadPool(config.fixturesProvisionerThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "fixture-provisioner-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            int size = config.fixturesPoolSize();
+            PETS = new FixturePool<>(ResourceType.PET, new PetEndpoint(), TestDataGenerator::generatePet,
+                    Pet::getId, size, PROVISIONER);
+            USERS = new FixturePool<>(ResourceType.USER, new UserEndpoint(), TestDataGenerator::generateUser,
+                    User::getUsername, size, PROVISIONER);
+            ORDERS = new FixturePool<>(ResourceType.ORDER, new StoreEndpoint(), TestDataGenerator::generateOrder,
+                    Order::getId, size, PROVISIONER);
+            initialized = true;
+        }
+    }
+}
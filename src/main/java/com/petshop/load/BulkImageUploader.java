@@ -0,0 +1,154 @@
+package com.petshop.load;
+
+import com.petshop.api.endpoints.PetEndpoint;
+import com.petshop.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Pushes a directory of images to many pets in parallel
+ * Every upload streams from disk through PetEndpoint.uploadImage(Long, Path), so heap usage is bounded
+ * by the number of concurrent uploads times the copy buffer, not by file size.
+ */
+public class BulkImageUploader {
+
+    private final PetEndpoint petEndpoint;
+    private final int concurrency;
+
+    public BulkImageUploader(int concurrency) {
+        this(new PetEndpoint(), concurrency);
+    }
+
+    public BulkImageUploader(PetEndpoint petEndpoint, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.petEndpoint = petEndpoint;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Upload every regular file in the directory, assigning images to pets round-robin
+     * @param imageDir Directory containing images
+     * @param petIds Target pet IDs
+     * @return Upload report
+     */
+    public UploadReport upload(Path imageDir, List<Long> petIds) {
+        if (petIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one pet ID is required");
+        }
+        List<Path> images = listImages(imageDir);
+        LongAdder bytes = new LongAdder();
+        AtomicInteger failures = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(images.size());
+            for (int i = 0; i < images.size(); i++) {
+                Path image = images.get(i);
+                Long petId = petIds.get(i % petIds.size());
+                futures.add(pool.submit(() -> uploadOne(petId, image, bytes, failures)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk upload interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bulk upload task failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        UploadReport report = new UploadReport(images.size(), failures.get(), bytes.sum(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        LoggerUtil.info("Bulk image upload: " + report);
+        return report;
+    }
+
+    private void uploadOne(Long petId, Path image, LongAdder bytes, AtomicInteger failures) {
+        try {
+            int status = petEndpoint.uploadImage(petId, image).getStatusCode();
+            if (status >= 400) {
+                failures.incrementAndGet();
+                LoggerUtil.warn("Upload of " + image + " to pet " + petId + " returned " + status);
+            } else {
+                bytes.add(Files.size(image));
+            }
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            LoggerUtil.error("Upload of " + image + " to pet " + petId + " failed", e);
+        }
+    }
+
+    private static List<Path> listImages(Path imageDir) {
+        try (Stream<Path> files = Files.list(imageDir)) {
+            return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list images in " + imageDir, e);
+        }
+    }
+
+    /**
+     * Outcome of a bulk upload
+     */
+    public static final class UploadReport {
+        private final int files;
+        private final int failures;
+        private final long bytes;
+        private final long elapsedMillis;
+
+        UploadReport(int files, int failures, long bytes, long elapsedMillis) {
+            this.files = files;
+            this.failures = failures;
+            this.bytes = bytes;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getFiles() {
+            return files;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Get the throughput of successful uploads
+         * @return Megabytes (10^6 bytes) per second
+         */
+        public double getMegabytesPerSecond() {
+            return elapsedMillis == 0 ? 0 : (bytes / 1e6) / (elapsedMillis / 1000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d files, %d failed, %.1f MB in %d ms (%.2f MB/s)",
+                    files, failures, bytes / 1e6, elapsedMillis, getMegabytesPerSecond());
+        }
+    }
+}
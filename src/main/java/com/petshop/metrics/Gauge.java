@@ -0,0 +1,27 @@
+package com.petshop.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gauge holding a value that can go up and down, e.g. in-flight requests
+ */
+public class Gauge {
+
+    private final AtomicLong value = new AtomicLong();
+
+    public void increment() {
+        value.incrementAndGet();
+    }
+
+    public void decrement() {
+        value.decrementAndGet();
+    }
+
+    public void set(long newValue) {
+        value.set(newValue);
+    }
+
+    public long get() {
+        return value.get();
+    }
+}
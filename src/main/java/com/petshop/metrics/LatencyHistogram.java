@@ -0,0 +1,176 @@
+package com.petshop.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Thread-safe, mergeable latency histogram with log-linear buckets
+ * Values are tracked in microseconds: exact below 128us, then 64 sub-buckets per power of two,
+ * which bounds the relative error of any reported percentile to about 1.6%. Values above roughly
+ * 2.4 hours are clamped into the last bucket.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int MAX_EXPONENT = 26;
+    static final int BUCKET_COUNT = LINEAR_LIMIT + MAX_EXPONENT * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record a duration
+     * @param duration Duration
+     * @param unit Time unit
+     */
+    public void record(long duration, TimeUnit unit) {
+        recordMicros(unit.toMicros(duration));
+    }
+
+    /**
+     * Record a duration in microseconds
+     * @param micros Duration in microseconds
+     */
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(value));
+        maxMicros.accumulate(value);
+    }
+
+    /**
+     * Add all observations of another histogram to this one
+     * @param other Histogram to merge
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        maxMicros.accumulate(other.maxMicros.get());
+    }
+
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Get the mean, using each bucket's midpoint
+     * @return Mean in microseconds
+     */
+    public double getMeanMicros() {
+        long total = 0;
+        double sum = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            if (count != 0) {
+                total += count;
+                sum += count * (lowerBound(i) + upperBound(i)) / 2.0;
+            }
+        }
+        return total == 0 ? 0 : sum / total;
+    }
+
+    /**
+     * Get the value at a percentile
+     * @param percentile Percentile between 0 and 100
+     * @return Upper bound of the bucket holding the percentile, in microseconds (capped at the max seen)
+     */
+    public long getPercentileMicros(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    /**
+     * Get a copy of the raw bucket counts, e.g. for serialization
+     * @return Bucket counts
+     */
+    public long[] getBucketCounts() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+
+    /**
+     * Rebuild a histogram from raw bucket counts produced by getBucketCounts()
+     * @param bucketCounts Bucket counts
+     * @param maxMicros Maximum recorded value
+     * @return LatencyHistogram
+     */
+    public static LatencyHistogram fromBucketCounts(long[] bucketCounts, long maxMicros) {
+        if (bucketCounts.length != BUCKET_COUNT) {
+            throw new IllegalArgumentException("Expected " + BUCKET_COUNT + " buckets but got " + bucketCounts.length);
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            histogram.counts.set(i, bucketCounts[i]);
+        }
+        histogram.maxMicros.accumulate(maxMicros);
+        return histogram;
+    }
+
+    /**
+     * Get a one-line summary of the distribution in milliseconds
+     * @return Summary string
+     */
+    public String summary() {
+        return String.format("count=%d mean=%.1fms p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                getCount(), getMeanMicros() / 1000.0,
+                getPercentileMicros(50) / 1000.0, getPercentileMicros(95) / 1000.0,
+                getPercentileMicros(99) / 1000.0, getMaxMicros() / 1000.0);
+    }
+
+    static int indexOf(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >> exponent) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << exponent;
+    }
+
+    static long upperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        return lowerBound(index) + (1L << exponent) - 1;
+    }
+}
@@ -0,0 +1,159 @@
+package com.petshop.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide registry of counters, gauges and timers, keyed by metric name and labels
+ * Follows Singleton Pattern - one registry shared by all filters and exporters
+ */
+public class MetricsRegistry {
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final ConcurrentMap<String, Family<?>> families = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+        // Private constructor to enforce singleton
+    }
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get or create a counter
+     * @param name Metric name
+     * @param help Help text
+     * @param labels Alternating label names and values
+     * @return Counter
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return family(name, help, Type.COUNTER, Counter::new).get(labels);
+    }
+
+    /**
+     * Get or create a gauge
+     * @param name Metric name
+     * @param help Help text
+     * @param labels Alternating label names and values
+     * @return Gauge
+     */
+    public Gauge gauge(String name, String help, String... labels) {
+        return family(name, help, Type.GAUGE, Gauge::new).get(labels);
+    }
+
+    /**
+     * Get or create a timer
+     * @param name Metric name
+     * @param help Help text
+     * @param labels Alternating label names and values
+     * @return Timer
+     */
+    public Timer timer(String name, String help, String... labels) {
+        return family(name, help, Type.HISTOGRAM, Timer::new).get(labels);
+    }
+
+    /**
+     * Get a snapshot view of all metric families, sorted by name
+     * @return Metric families by name
+     */
+    public Map<String, Family<?>> getFamilies() {
+        return Collections.unmodifiableMap(new TreeMap<>(families));
+    }
+
+    /**
+     * Remove all metrics
+     */
+    public void clear() {
+        families.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M> Family<M> family(String name, String help, Type type, Supplier<M> factory) {
+        Family<?> family = families.computeIfAbsent(name, key -> new Family<>(name, help, type, factory));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " already registered as " + family.type);
+        }
+        return (Family<M>) family;
+    }
+
+    /**
+     * Prometheus metric type of a family
+     */
+    public enum Type {
+        COUNTER, GAUGE, HISTOGRAM
+    }
+
+    /**
+     * All metrics sharing a name, one per distinct label set
+     * @param <M> Metric class
+     */
+    public static final class Family<M> {
+        private final String name;
+        private final String help;
+        private final Type type;
+        private final Supplier<M> factory;
+        private final ConcurrentMap<String, M> children = new ConcurrentHashMap<>();
+
+        private Family(String name, String help, Type type, Supplier<M> factory) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.factory = factory;
+        }
+
+        private M get(String... labels) {
+            if (labels.length % 2 != 0) {
+                throw new IllegalArgumentException("Labels must be name/value pairs for metric " + name);
+            }
+            return children.computeIfAbsent(labelKey(labels), key -> factory.get());
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * Get the metrics of this family keyed by their rendered label set, e.g. {method="GET",status="200"}
+         * @return Metrics by label set
+         */
+        public Map<String, M> getChildren() {
+            return new LinkedHashMap<>(children);
+        }
+
+        private static String labelKey(String... labels) {
+            if (labels.length == 0) {
+                return "";
+            }
+            StringBuilder sb = new StringBuilder("{");
+            for (int i = 0; i < labels.length; i += 2) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+            }
+            return sb.append('}').toString();
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.petshop.metrics;
+
+import com.petshop.utils.LoggerUtil;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Exports the MetricsRegistry in Prometheus text exposition format (version 0.0.4)
+ * Either to a file or over a local HTTP endpoint at /metrics
+ */
+public class PrometheusExporter {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static HttpServer server;
+
+    private PrometheusExporter() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Render all registered metrics
+     * @param registry Metrics registry
+     * @return Prometheus text format
+     */
+    public static String scrape(MetricsRegistry registry) {
+        StringBuilder sb = new StringBuilder();
+        for (MetricsRegistry.Family<?> family : registry.getFamilies().values()) {
+            String name = family.getName();
+            sb.append("# HELP ").append(name).append(' ').append(family.getHelp()).append('\n');
+            sb.append("# TYPE ").append(name).append(' ')
+                    .append(family.getType().name().toLowerCase(Locale.ROOT)).append('\n');
+            for (Map.Entry<String, ?> child : family.getChildren().entrySet()) {
+                String labels = child.getKey();
+                Object metric = child.getValue();
+                if (metric instanceof Counter) {
+                    sample(sb, name, labels, ((Counter) metric).get());
+                } else if (metric instanceof Gauge) {
+                    sample(sb, name, labels, ((Gauge) metric).get());
+                } else if (metric instanceof Timer) {
+                    histogram(sb, name, labels, (Timer) metric);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Write the current metrics to a file, replacing it atomically so scrapers never read a partial file
+     * @param registry Metrics registry
+     * @param filePath Target file path
+     */
+    public static void writeToFile(MetricsRegistry registry, String filePath) {
+        try {
+            Path target = Paths.get(filePath).toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), "metrics", ".tmp");
+            Files.write(tmp, scrape(registry).getBytes(StandardCharsets.UTF_8));
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write metrics to file: " + filePath, e);
+        }
+    }
+
+    /**
+     * Start serving /metrics on the given address
+     * @param registry Metrics registry
+     * @param host Address to listen on; null or empty for the loopback address
+     * @param port Port to listen on
+     */
+    public static synchronized void startServer(MetricsRegistry registry, String host, int port) {
+        if (server != null) {
+            return;
+        }
+        try {
+            InetAddress address = host == null || host.isEmpty()
+                    ? InetAddress.getLoopbackAddress() : InetAddress.getByName(host);
+            server = HttpServer.create(new InetSocketAddress(address, port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start metrics server on " + host + ":" + port, e);
+        }
+        server.createContext("/metrics", exchange -> {
+            byte[] body = scrape(registry).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        InetSocketAddress bound = server.getAddress();
+        LoggerUtil.info("Prometheus metrics available at http://" + bound.getHostString() + ":" + bound.getPort()
+                + "/metrics");
+    }
+
+    /**
+     * Stop the metrics HTTP server if it is running
+     */
+    public static synchronized void stopServer() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    private static void histogram(StringBuilder sb, String name, String labels, Timer timer) {
+        long[] cumulative = timer.getCumulativeBucketCounts();
+        for (int i = 0; i < Timer.BUCKETS_SECONDS.length; i++) {
+            sample(sb, name + "_bucket", withLabel(labels, "le", Double.toString(Timer.BUCKETS_SECONDS[i])),
+                    cumulative[i]);
+        }
+        sample(sb, name + "_bucket", withLabel(labels, "le", "+Inf"), timer.getCount());
+        sample(sb, name + "_sum", labels, timer.getTotalSeconds());
+        sample(sb, name + "_count", labels, timer.getCount());
+    }
+
+    private static String withLabel(String labels, String name, String value) {
+        String label = name + "=\"" + value + "\"";
+        return labels.isEmpty() ? "{" + label + "}" : labels.substring(0, labels.length() - 1) + "," + label + "}";
+    }
+
+    private static void sample(StringBuilder sb, String name, String labels, long value) {
+        sb.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder sb, String name, String labels, double value) {
+        sb.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+}
@@ -0,0 +1,78 @@
+package com.petshop.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency timer backed by a fixed-bucket histogram
+ * Buckets follow the Prometheus client defaults and are exported as a Prometheus histogram
+ */
+public class Timer {
+
+    static final double[] BUCKETS_SECONDS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private final LongAdder[] bucketCounts = new LongAdder[BUCKETS_SECONDS.length];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public Timer() {
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a duration
+     * @param duration Duration
+     * @param unit Time unit
+     */
+    public void record(long duration, TimeUnit unit) {
+        long nanos = unit.toNanos(duration);
+        double seconds = nanos / 1e9;
+        for (int i = 0; i < BUCKETS_SECONDS.length; i++) {
+            if (seconds <= BUCKETS_SECONDS[i]) {
+                bucketCounts[i].increment();
+                break;
+            }
+        }
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getTotalSeconds() {
+        return totalNanos.sum() / 1e9;
+    }
+
+    public double getMaxSeconds() {
+        return maxNanos.get() / 1e9;
+    }
+
+    /**
+     * Get the upper bounds of the histogram buckets
+     * @return Bucket bounds in seconds, ascending
+     */
+    public static double[] getBucketBoundsSeconds() {
+        return BUCKETS_SECONDS.clone();
+    }
+
+    /**
+     * Get the cumulative count of observations at or below each bucket bound
+     * @return Cumulative bucket counts, aligned with BUCKETS_SECONDS
+     */
+    public long[] getCumulativeBucketCounts() {
+        long[] cumulative = new long[bucketCounts.length];
+        long running = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            running += bucketCounts[i].sum();
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,70 @@
+package com.petshop.replay;
+
+/**
+ * One request captured from the endpoint classes, with the timing observed at capture
+ */
+public class CapturedRequest {
+
+    private final long offsetMicros;
+    private final String method;
+    private final String endpoint;
+    private final String pathAndQuery;
+    private final String contentType;
+    private final byte[] body;
+    private final int status;
+    private final long latencyMicros;
+
+    /**
+     * @param offsetMicros Time the request was sent, relative to the start of the capture
+     * @param method HTTP method
+     * @param endpoint Endpoint template, e.g. "/pet/{petId}"
+     * @param pathAndQuery Resolved path and raw query relative to the base URI, e.g. "/pet/42"
+     * @param contentType Content-Type header, or an empty string
+     * @param body Request body, empty if none
+     * @param status Response status, 0 if the request failed without a response
+     * @param latencyMicros Latency observed at capture
+     */
+    public CapturedRequest(long offsetMicros, String method, String endpoint, String pathAndQuery,
+                           String contentType, byte[] body, int status, long latencyMicros) {
+        this.offsetMicros = offsetMicros;
+        this.method = method;
+        this.endpoint = endpoint;
+        this.pathAndQuery = pathAndQuery;
+        this.contentType = contentType;
+        this.body = body;
+        this.status = status;
+        this.latencyMicros = latencyMicros;
+    }
+
+    public long getOffsetMicros() {
+        return offsetMicros;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getPathAndQuery() {
+        return pathAndQuery;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getLatencyMicros() {
+        return latencyMicros;
+    }
+}
@@ -0,0 +1,117 @@
+package com.petshop.replay;
+
+import com.petshop.api.filters.ResponseCacheFilter;
+import com.petshop.api.filters.TrafficCaptureFilter;
+import com.petshop.utils.LoggerUtil;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Re-issues captured requests against the backend
+ * Requests go out at their recorded offsets divided by speed (1 = original pace, 2 = twice as fast),
+ * or back-to-back when speed is 0 (maximum speed, at most concurrency in flight). Base URI, auth
+ * and filters come from the given RequestSpecification, normally RequestSpecifications.getReplayRequestSpec;
+ * a specification with the response cache or traffic capture is rejected, as those would skip or re-record
+ * the replayed calls.
+ */
+public class ReplayEngine {
+
+    private final RequestSpecification spec;
+    private final int concurrency;
+    private final double speed;
+
+    /**
+     * @param spec Request specification supplying base URI, auth and filters; no cache or capture filter
+     * @param concurrency Worker threads sending requests
+     * @param speed Pace multiplier; 0 replays at maximum speed
+     */
+    public ReplayEngine(RequestSpecification spec, int concurrency, double speed) {
+        for (Filter filter : SpecificationQuerier.query(spec).getDefinedFilters()) {
+            if (filter instanceof ResponseCacheFilter || filter instanceof TrafficCaptureFilter) {
+                throw new IllegalArgumentException("Replay specification must not contain "
+                        + filter.getClass().getSimpleName() + "; use RequestSpecifications.getReplayRequestSpec");
+            }
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        if (speed < 0) {
+            throw new IllegalArgumentException("Speed must not be negative");
+        }
+        this.spec = spec;
+        this.concurrency = concurrency;
+        this.speed = speed;
+    }
+
+    /**
+     * Replay requests in capture order and wait for all of them
+     * @param requests Captured requests, ordered by offset
+     * @return ReplayReport
+     */
+    public ReplayReport run(List<CapturedRequest> requests) {
+        boolean paced = speed > 0;
+        ReplayReport report = new ReplayReport(requests, paced ? speed + "x" : "max");
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        // Only bounds the queue at maximum speed; paced replays queue behind slow responses and report it as lag
+        Semaphore inFlight = new Semaphore(paced ? Integer.MAX_VALUE : concurrency);
+        long start = System.nanoTime();
+        try {
+            for (CapturedRequest request : requests) {
+                long due = paced ? start + (long) (request.getOffsetMicros() * 1000 / speed) : 0;
+                if (paced) {
+                    for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                inFlight.acquire();
+                pool.execute(() -> {
+                    try {
+                        replay(request, report, paced, due);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Replay interrupted", e);
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        LoggerUtil.info("Replay report:\n" + report);
+        return report;
+    }
+
+    private void replay(CapturedRequest request, ReplayReport report, boolean paced, long due) {
+        long start = System.nanoTime();
+        int status = 0;
+        try {
+            RequestSpecification call = given().spec(spec).urlEncodingEnabled(false);
+            if (!request.getContentType().isEmpty()) {
+                call.contentType(request.getContentType());
+            }
+            if (request.getBody().length > 0) {
+                call.body(request.getBody());
+            }
+            Response response = call.request(request.getMethod(), request.getPathAndQuery());
+            status = response.getStatusCode();
+        } catch (RuntimeException e) {
+            LoggerUtil.debug("Replay of " + request.getMethod() + " " + request.getPathAndQuery()
+                    + " failed: " + e.getMessage());
+        }
+        report.recordReplay(request, status, System.nanoTime() - start, paced ? Math.max(0, start - due) : 0);
+    }
+}
@@ -0,0 +1,140 @@
+package com.petshop.replay;
+
+import com.petshop.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recorded versus replayed latency per endpoint, plus how far the replay fell behind its schedule
+ */
+public class ReplayReport {
+
+    private final Map<String, EndpointStats> endpoints = new TreeMap<>();
+    private final LatencyHistogram scheduleLag = new LatencyHistogram();
+    private final String mode;
+    private final long recordedSpanMicros;
+    private volatile long elapsedNanos;
+
+    ReplayReport(List<CapturedRequest> requests, String mode) {
+        this.mode = mode;
+        long span = 0;
+        // Pre-populate from the recording so the map is read-only while the replay runs
+        for (CapturedRequest request : requests) {
+            endpoints.computeIfAbsent(key(request), key -> new EndpointStats(key))
+                    .recorded.recordMicros(request.getLatencyMicros());
+            span = Math.max(span, request.getOffsetMicros() + request.getLatencyMicros());
+        }
+        this.recordedSpanMicros = span;
+    }
+
+    void recordReplay(CapturedRequest request, int status, long elapsedNanos, long lagNanos) {
+        EndpointStats stats = endpoints.get(key(request));
+        stats.replayed.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (status == 0 || status >= 400) {
+            stats.errors.increment();
+        }
+        if (status != request.getStatus()) {
+            stats.statusMismatches.increment();
+        }
+        scheduleLag.record(lagNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public List<EndpointStats> getEndpoints() {
+        return new ArrayList<>(endpoints.values());
+    }
+
+    /**
+     * Get how late requests were sent relative to their schedule
+     * @return Lag histogram; all zero when replaying at maximum speed
+     */
+    public LatencyHistogram getScheduleLag() {
+        return scheduleLag;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    public double getRecordedSeconds() {
+        return recordedSpanMicros / 1e6;
+    }
+
+    private static String key(CapturedRequest request) {
+        return request.getMethod() + " " + request.getEndpoint();
+    }
+
+    @Override
+    public String toString() {
+        long total = 0;
+        for (EndpointStats stats : endpoints.values()) {
+            total += stats.replayed.getCount();
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Replay (%s): %d requests in %.2fs, recorded over %.2fs (%.1f vs %.1f req/s)%n",
+                mode, total, getElapsedSeconds(), getRecordedSeconds(),
+                getElapsedSeconds() == 0 ? 0 : total / getElapsedSeconds(),
+                getRecordedSeconds() == 0 ? 0 : total / getRecordedSeconds()));
+        sb.append(String.format("Schedule lag: p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                scheduleLag.getPercentileMicros(50) / 1000.0, scheduleLag.getPercentileMicros(99) / 1000.0,
+                scheduleLag.getMaxMicros() / 1000.0));
+        sb.append(String.format("%-32s %7s %7s %8s %19s %19s %19s%n", "Endpoint", "Count", "Errors",
+                "Status!=", "p50 rec>replay ms", "p95 rec>replay ms", "p99 rec>replay ms"));
+        for (EndpointStats stats : endpoints.values()) {
+            sb.append(String.format("%-32s %7d %7d %8d %9.1f>%-9.1f %9.1f>%-9.1f %9.1f>%-9.1f%n", stats.name,
+                    stats.replayed.getCount(), stats.errors.sum(), stats.statusMismatches.sum(),
+                    stats.recorded.getPercentileMicros(50) / 1000.0, stats.replayed.getPercentileMicros(50) / 1000.0,
+                    stats.recorded.getPercentileMicros(95) / 1000.0, stats.replayed.getPercentileMicros(95) / 1000.0,
+                    stats.recorded.getPercentileMicros(99) / 1000.0, stats.replayed.getPercentileMicros(99) / 1000.0));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Recorded and replayed latency of one endpoint
+     */
+    public static class EndpointStats {
+
+        private final String name;
+        private final LatencyHistogram recorded = new LatencyHistogram();
+        private final LatencyHistogram replayed = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder statusMismatches = new LongAdder();
+
+        EndpointStats(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LatencyHistogram getRecorded() {
+            return recorded;
+        }
+
+        public LatencyHistogram getReplayed() {
+            return replayed;
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        /**
+         * Get replayed requests whose status differed from the recording
+         * @return Mismatch count
+         */
+        public long getStatusMismatches() {
+            return statusMismatches.sum();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.petshop.replay;
+
+import com.petshop.config.ConfigFactory;
+import com.petshop.utils.LoggerUtil;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Run-wide traffic capture
+ * Opens one traffic log per JVM under capture.dir on the first request and closes it at suite end
+ * or JVM shutdown.
+ */
+public class TrafficCapture {
+
+    /** Extension of traffic log files */
+    public static final String FILE_SUFFIX = ".ptl";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static TrafficLog.Writer writer;
+    private static boolean closed;
+
+    private TrafficCapture() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check whether traffic capture is switched on
+     * @return true if capture.enabled is set
+     */
+    public static boolean isEnabled() {
+        return ConfigFactory.getConfig().captureEnabled();
+    }
+
+    /**
+     * Append a request to this run's traffic log
+     * @param timestampMicros Time the request was sent, epoch microseconds
+     * @param request Captured request
+     */
+    public static void record(long timestampMicros, CapturedRequest request) {
+        TrafficLog.Writer target = writer();
+        if (target != null) {
+            target.append(timestampMicros, request);
+        }
+    }
+
+    /**
+     * Close the traffic log; requests arriving afterwards are not captured
+     * @return Path of the written log, or null if nothing was captured
+     */
+    public static synchronized Path close() {
+        if (writer == null || closed) {
+            closed = true;
+            return writer != null ? writer.getPath() : null;
+        }
+        closed = true;
+        writer.close();
+        LoggerUtil.info("Captured " + writer.getRequestCount() + " requests to " + writer.getPath());
+        return writer.getPath();
+    }
+
+    private static synchronized TrafficLog.Writer writer() {
+        if (writer == null && !closed) {
+            String name = "capture-" + FILE_TIMESTAMP.format(LocalDateTime.now()) + "-"
+                    + ProcessHandle.current().pid() + FILE_SUFFIX;
+            Path path = Paths.get(ConfigFactory.getConfig().captureDir(), name);
+            writer = new TrafficLog.Writer(path, ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()));
+            Runtime.getRuntime().addShutdownHook(new Thread(TrafficCapture::close, "traffic-capture-close"));
+        }
+        return closed ? null : writer;
+    }
+}
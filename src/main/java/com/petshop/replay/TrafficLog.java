@@ -0,0 +1,196 @@
+package com.petshop.replay;
+
+import com.petshop.utils.VarInts;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only binary log of captured requests
+ *
+ *   header:  int magic "PTL1", long capture start (epoch microseconds)
+ *   entries: byte tag, then
+ *     STRING:   varint id, varint length, UTF-8 bytes   (methods, endpoint templates, content types)
+ *     REQUEST:  varint offset (micros since start), varint method id, varint endpoint id,
+ *               varint content type id, varint length + path and query, varint length + body,
+ *               varint status, varint latency (micros)
+ *
+ * Same layout rules as the result store: dictionary-encoded strings, varint numbers and a
+ * truncated tail is ignored on read.
+ */
+public final class TrafficLog {
+
+    private static final int MAGIC = 0x50544C31;
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_REQUEST = 2;
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private TrafficLog() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Read every complete request of a log, memory-mapping the file
+     * @param path Log file
+     * @return Requests in capture order
+     */
+    public static List<CapturedRequest> read(Path path) {
+        ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Traffic log too large to map: " + path);
+            }
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open traffic log " + path, e);
+        }
+        if (in.remaining() < HEADER_BYTES || in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a traffic log: " + path);
+        }
+        in.getLong();
+
+        List<String> strings = new ArrayList<>();
+        List<CapturedRequest> requests = new ArrayList<>();
+        try {
+            while (in.hasRemaining()) {
+                byte tag = in.get();
+                if (tag == TAG_STRING) {
+                    VarInts.read(in);
+                    strings.add(new String(readBytes(in), StandardCharsets.UTF_8));
+                } else if (tag == TAG_REQUEST) {
+                    long offset = VarInts.read(in);
+                    String method = strings.get((int) VarInts.read(in));
+                    String endpoint = strings.get((int) VarInts.read(in));
+                    String contentType = strings.get((int) VarInts.read(in));
+                    String pathAndQuery = new String(readBytes(in), StandardCharsets.UTF_8);
+                    byte[] body = readBytes(in);
+                    int status = (int) VarInts.read(in);
+                    long latency = VarInts.read(in);
+                    requests.add(new CapturedRequest(offset, method, endpoint, pathAndQuery, contentType, body,
+                            status, latency));
+                } else {
+                    throw new IllegalStateException("Corrupt entry in " + path + " at byte " + (in.position() - 1));
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            // Incomplete last entry
+        }
+        return requests;
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        byte[] bytes = new byte[(int) VarInts.read(in)];
+        in.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writer for one capture file; appends are synchronized
+     */
+    public static final class Writer implements Closeable {
+
+        private final Path path;
+        private final DataOutputStream out;
+        private final long startMicros;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private long requests;
+
+        /**
+         * Create a new log, replacing any existing file at the path
+         * @param path Log file path
+         * @param startMicros Capture start in epoch microseconds
+         */
+        public Writer(Path path, long startMicros) {
+            this.path = path;
+            this.startMicros = startMicros;
+            try {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE),
+                        BUFFER_BYTES));
+                out.writeInt(MAGIC);
+                out.writeLong(startMicros);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create traffic log " + path, e);
+            }
+        }
+
+        /**
+         * Append one request
+         * @param timestampMicros Time the request was sent, epoch microseconds
+         * @param request Request; its offset is ignored in favour of timestampMicros
+         */
+        public synchronized void append(long timestampMicros, CapturedRequest request) {
+            try {
+                int method = stringId(request.getMethod());
+                int endpoint = stringId(request.getEndpoint());
+                int contentType = stringId(request.getContentType());
+                out.write(TAG_REQUEST);
+                VarInts.write(out, Math.max(0, timestampMicros - startMicros));
+                VarInts.write(out, method);
+                VarInts.write(out, endpoint);
+                VarInts.write(out, contentType);
+                writeBytes(request.getPathAndQuery().getBytes(StandardCharsets.UTF_8));
+                writeBytes(request.getBody());
+                VarInts.write(out, request.getStatus());
+                VarInts.write(out, request.getLatencyMicros());
+                requests++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to append to traffic log " + path, e);
+            }
+        }
+
+        public synchronized long getRequestCount() {
+            return requests;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        @Override
+        public synchronized void close() {
+            try {
+                out.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close traffic log " + path, e);
+            }
+        }
+
+        private int stringId(String value) throws IOException {
+            String key = value != null ? value : "";
+            Integer id = strings.get(key);
+            if (id != null) {
+                return id;
+            }
+            int newId = strings.size();
+            strings.put(key, newId);
+            out.write(TAG_STRING);
+            VarInts.write(out, newId);
+            writeBytes(key.getBytes(StandardCharsets.UTF_8));
+            return newId;
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            VarInts.write(out, bytes.length);
+            out.write(bytes);
+        }
+    }
+}
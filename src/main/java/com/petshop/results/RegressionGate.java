@@ -0,0 +1,131 @@
+package com.petshop.results;
+
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a run's result files against a stored baseline with statistical tests
+ * An endpoint counts as regressed only when a change is both significant and larger than the tolerance:
+ *   latency shift     Mann-Whitney U p < alpha and median grew by more than the tolerance
+ *   tail latency      bootstrap lower bound of p99(candidate)/p99(baseline) above 1 + tolerance, only once
+ *                     both sides have TAIL_MIN_SAMPLES samples (below that p99 is little more than the maximum)
+ *   throughput        Mann-Whitney U on requests per second p < alpha and mean fell by more than the tolerance
+ * alpha is Bonferroni-corrected across the endpoints judged, so larger suites do not fail more often by chance.
+ */
+public class RegressionGate {
+
+    /** Samples needed for the p99 test: at least five of them above p99 */
+    private static final int TAIL_MIN_SAMPLES = 500;
+
+    private final double alpha;
+    private final double tolerancePct;
+    private final int minSamples;
+    private final int bootstrapSamples;
+
+    public RegressionGate(double alpha, double tolerancePct, int minSamples, int bootstrapSamples) {
+        this.alpha = alpha;
+        this.tolerancePct = tolerancePct;
+        this.minSamples = minSamples;
+        this.bootstrapSamples = bootstrapSamples;
+    }
+
+    /**
+     * Create a gate from the gate.* configuration
+     * @return RegressionGate
+     */
+    public static RegressionGate fromConfig() {
+        ConfigManager config = ConfigFactory.getConfig();
+        return new RegressionGate(config.gateAlpha(), config.gateTolerancePct(), config.gateMinSamples(),
+                config.gateBootstrapSamples());
+    }
+
+    /**
+     * Compare candidate result files against baseline result files
+     * @param baselineFiles Baseline result files
+     * @param candidateFiles Candidate result files
+     * @return Report
+     */
+    public RegressionReport compare(List<Path> baselineFiles, List<Path> candidateFiles) {
+        RunSamples baseline = RunSamples.of(baselineFiles);
+        RunSamples candidate = RunSamples.of(candidateFiles);
+
+        int judgedCount = 0;
+        for (Map.Entry<String, RunSamples.Samples> entry : candidate.getEndpoints().entrySet()) {
+            RunSamples.Samples before = baseline.getEndpoints().get(entry.getKey());
+            if (before != null && isJudged(before, entry.getValue())) {
+                judgedCount++;
+            }
+        }
+        double endpointAlpha = alpha / Math.max(1, judgedCount);
+        double tolerance = 1 + tolerancePct / 100;
+
+        RegressionReport report = new RegressionReport(endpointAlpha, tolerancePct);
+        for (Map.Entry<String, RunSamples.Samples> entry : candidate.getEndpoints().entrySet()) {
+            RunSamples.Samples before = baseline.getEndpoints().get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            RunSamples.Samples after = entry.getValue();
+            boolean judged = isJudged(before, after);
+            RegressionReport.Comparison comparison = new RegressionReport.Comparison(entry.getKey(),
+                    before.size(), after.size(), judged);
+            if (judged) {
+                checkLatency(comparison, before.sortedLatencies(), after.sortedLatencies(), endpointAlpha, tolerance);
+                checkThroughput(comparison, baseline.perSecondCounts(before), candidate.perSecondCounts(after),
+                        endpointAlpha, tolerance);
+            }
+            report.add(comparison);
+        }
+        return report;
+    }
+
+    private boolean isJudged(RunSamples.Samples before, RunSamples.Samples after) {
+        return before.size() >= minSamples && after.size() >= minSamples;
+    }
+
+    private void checkLatency(RegressionReport.Comparison comparison, long[] before, long[] after,
+                              double endpointAlpha, double tolerance) {
+        long medianBefore = RegressionStatistics.percentile(before, 50);
+        long medianAfter = RegressionStatistics.percentile(after, 50);
+        double p = RegressionStatistics.mannWhitneyGreater(before, after);
+        if (p < endpointAlpha && medianAfter > medianBefore * tolerance) {
+            comparison.addReason(String.format("median %.1f -> %.1f ms (Mann-Whitney p=%.2g)",
+                    medianBefore / 1000.0, medianAfter / 1000.0, p));
+        }
+
+        if (before.length < TAIL_MIN_SAMPLES || after.length < TAIL_MIN_SAMPLES) {
+            return;
+        }
+        double lowerBound = RegressionStatistics.bootstrapPercentileRatioLowerBound(before, after, 99,
+                bootstrapSamples, endpointAlpha);
+        if (lowerBound > tolerance) {
+            comparison.addReason(String.format("p99 %.1f -> %.1f ms (ratio lower bound %.2fx)",
+                    RegressionStatistics.percentile(before, 99) / 1000.0,
+                    RegressionStatistics.percentile(after, 99) / 1000.0, lowerBound));
+        }
+    }
+
+    private void checkThroughput(RegressionReport.Comparison comparison, long[] before, long[] after,
+                                 double endpointAlpha, double tolerance) {
+        double meanBefore = mean(before);
+        double meanAfter = mean(after);
+        // A drop in throughput is the baseline being larger than the candidate
+        double p = RegressionStatistics.mannWhitneyGreater(after, before);
+        if (p < endpointAlpha && meanAfter * tolerance < meanBefore) {
+            comparison.addReason(String.format("throughput %.1f -> %.1f req/s (Mann-Whitney p=%.2g)",
+                    meanBefore, meanAfter, p));
+        }
+    }
+
+    private static double mean(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return values.length == 0 ? 0 : (double) sum / values.length;
+    }
+}
@@ -0,0 +1,100 @@
+package com.petshop.results;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of comparing a run against a baseline, per endpoint
+ */
+public class RegressionReport {
+
+    private final List<Comparison> comparisons = new ArrayList<>();
+    private final double alpha;
+    private final double tolerancePct;
+
+    RegressionReport(double alpha, double tolerancePct) {
+        this.alpha = alpha;
+        this.tolerancePct = tolerancePct;
+    }
+
+    void add(Comparison comparison) {
+        comparisons.add(comparison);
+    }
+
+    public List<Comparison> getComparisons() {
+        return Collections.unmodifiableList(comparisons);
+    }
+
+    /**
+     * Check whether any endpoint regressed significantly beyond the tolerance
+     * @return true if the gate should fail
+     */
+    public boolean hasRegressions() {
+        return comparisons.stream().anyMatch(Comparison::isRegression);
+    }
+
+    /**
+     * Build a short report: one line per regressed endpoint plus a verdict
+     * @return Report text
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        long judged = comparisons.stream().filter(Comparison::isJudged).count();
+        long regressed = comparisons.stream().filter(Comparison::isRegression).count();
+        sb.append(String.format("Regression gate: %d of %d endpoints regressed (alpha %.3g per endpoint, "
+                + "tolerance %.0f%%, %d not judged for lack of samples)%n",
+                regressed, judged, alpha, tolerancePct, comparisons.size() - judged));
+        for (Comparison comparison : comparisons) {
+            if (comparison.isRegression()) {
+                sb.append("  ").append(comparison).append(System.lineSeparator());
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Baseline versus candidate for one endpoint
+     */
+    public static class Comparison {
+
+        private final String endpoint;
+        private final int baselineCount;
+        private final int candidateCount;
+        private final boolean judged;
+        private final List<String> reasons = new ArrayList<>();
+
+        Comparison(String endpoint, int baselineCount, int candidateCount, boolean judged) {
+            this.endpoint = endpoint;
+            this.baselineCount = baselineCount;
+            this.candidateCount = candidateCount;
+            this.judged = judged;
+        }
+
+        void addReason(String reason) {
+            reasons.add(reason);
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public boolean isJudged() {
+            return judged;
+        }
+
+        public boolean isRegression() {
+            return !reasons.isEmpty();
+        }
+
+        public List<String> getReasons() {
+            return Collections.unmodifiableList(reasons);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (n=%d vs %d): %s", endpoint, baselineCount, candidateCount,
+                    String.join("; ", reasons));
+        }
+    }
+}
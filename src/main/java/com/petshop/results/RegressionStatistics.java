@@ -0,0 +1,144 @@
+package com.petshop.results;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Statistical tests used by the regression gate
+ * Mann-Whitney U for "candidate is shifted upwards" and a percentile bootstrap for tail-latency ratios.
+ */
+final class RegressionStatistics {
+
+    private RegressionStatistics() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * One-sided Mann-Whitney U test that the candidate tends to be larger than the baseline
+     * Uses the normal approximation with tie and continuity correction.
+     * @param baseline Baseline samples
+     * @param candidate Candidate samples
+     * @return p-value; small values mean the candidate is significantly larger
+     */
+    static double mannWhitneyGreater(long[] baseline, long[] candidate) {
+        int n1 = baseline.length;
+        int n2 = candidate.length;
+        if (n1 == 0 || n2 == 0) {
+            return 1;
+        }
+        long[] xs = Arrays.copyOf(baseline, n1);
+        long[] ys = Arrays.copyOf(candidate, n2);
+        Arrays.sort(xs);
+        Arrays.sort(ys);
+
+        double candidateRankSum = 0;
+        double tieTerm = 0;
+        long rank = 1;
+        int i = 0;
+        int j = 0;
+        while (i < n1 || j < n2) {
+            long value = j == n2 || (i < n1 && xs[i] <= ys[j]) ? xs[i] : ys[j];
+            int tx = 0;
+            while (i < n1 && xs[i] == value) {
+                i++;
+                tx++;
+            }
+            int ty = 0;
+            while (j < n2 && ys[j] == value) {
+                j++;
+                ty++;
+            }
+            long ties = tx + ty;
+            candidateRankSum += ty * (rank + (ties - 1) / 2.0);
+            tieTerm += (double) ties * ties * ties - ties;
+            rank += ties;
+        }
+
+        double n = n1 + (double) n2;
+        double u = candidateRankSum - n2 * (n2 + 1.0) / 2;
+        double mean = n1 * (double) n2 / 2;
+        double variance = n1 * (double) n2 / 12 * ((n + 1) - tieTerm / (n * (n - 1)));
+        if (variance <= 0) {
+            return 1;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1 - normalCdf(z);
+    }
+
+    /**
+     * Bootstrap confidence bound for the ratio candidate/baseline of a latency percentile
+     * @param baselineSorted Baseline samples, sorted ascending
+     * @param candidateSorted Candidate samples, sorted ascending
+     * @param percentile Percentile, e.g. 99
+     * @param resamples Bootstrap resamples
+     * @param alpha One-sided significance level
+     * @return Lower confidence bound of the ratio; above 1 means the candidate's percentile is higher
+     */
+    static double bootstrapPercentileRatioLowerBound(long[] baselineSorted, long[] candidateSorted,
+                                                     double percentile, int resamples, double alpha) {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] baselineDraws = new int[baselineSorted.length];
+        int[] candidateDraws = new int[candidateSorted.length];
+        double[] ratios = new double[resamples];
+        for (int b = 0; b < resamples; b++) {
+            long before = resamplePercentile(baselineSorted, percentile, baselineDraws, random);
+            long after = resamplePercentile(candidateSorted, percentile, candidateDraws, random);
+            ratios[b] = (double) after / Math.max(1, before);
+        }
+        Arrays.sort(ratios);
+        return ratios[(int) Math.floor(alpha * (resamples - 1))];
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples
+     * @param sorted Samples, sorted ascending
+     * @param percentile Percentile, e.g. 99
+     * @return Value, or 0 if there are no samples
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[rankIndex(sorted.length, percentile)];
+    }
+
+    /**
+     * Percentile of one bootstrap resample, found by counting how often each sorted index is drawn
+     */
+    private static long resamplePercentile(long[] sorted, double percentile, int[] draws, SplittableRandom random) {
+        int n = sorted.length;
+        Arrays.fill(draws, 0);
+        for (int i = 0; i < n; i++) {
+            draws[random.nextInt(n)]++;
+        }
+        int fromTop = n - rankIndex(n, percentile);
+        int seen = 0;
+        for (int i = n - 1; i >= 0; i--) {
+            seen += draws[i];
+            if (seen >= fromTop) {
+                return sorted[i];
+            }
+        }
+        return sorted[0];
+    }
+
+    private static int rankIndex(int n, double percentile) {
+        return Math.max(0, Math.min(n - 1, (int) Math.ceil(percentile / 100 * n) - 1));
+    }
+
+    private static double normalCdf(double z) {
+        return 0.5 * (1 + erf(z / Math.sqrt(2)));
+    }
+
+    /**
+     * Abramowitz and Stegun 7.1.26, absolute error below 1.5e-7
+     */
+    private static double erf(double x) {
+        double sign = Math.signum(x);
+        double a = Math.abs(x);
+        double t = 1 / (1 + 0.3275911 * a);
+        double y = 1 - ((((1.061405429 * t - 1.453152027) * t + 1.421413741) * t - 0.284496736) * t
+                + 0.254829592) * t * Math.exp(-a * a);
+        return sign * y;
+    }
+}
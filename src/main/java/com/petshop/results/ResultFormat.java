@@ -0,0 +1,27 @@
+package com.petshop.results;
+
+/**
+ * Layout of the binary result file
+ *
+ *   header:  int magic "PSR1", long run start (epoch microseconds)
+ *   entries: byte tag, then
+ *     STRING:  varint id, varint length, UTF-8 bytes   (defined once, before first use)
+ *     RECORD:  varint start offset (micros since run start), varint test id, varint method id,
+ *              varint endpoint id, varint status, varint latency (micros), varint request bytes,
+ *              varint response bytes
+ *
+ * Strings are dictionary-encoded per file and all numbers are unsigned LEB128 varints, so a
+ * typical record takes 12-16 bytes. A file cut short by a crash is readable up to its last
+ * complete entry.
+ */
+final class ResultFormat {
+
+    static final int MAGIC = 0x50535231;
+    static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    static final byte TAG_STRING = 1;
+    static final byte TAG_RECORD = 2;
+
+    private ResultFormat() {
+        // Private constructor to prevent instantiation
+    }
+}
@@ -0,0 +1,114 @@
+package com.petshop.results;
+
+import com.petshop.utils.VarInts;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads a binary result file through a read-only memory mapping
+ * The file is mapped once and decoded sequentially without copying it onto the heap; a
+ * truncated tail (e.g. from a crashed run) is ignored.
+ */
+public class ResultReader {
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final long startMicros;
+
+    private ResultReader(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.remaining() < ResultFormat.HEADER_BYTES || buffer.getInt(0) != ResultFormat.MAGIC) {
+            throw new IllegalArgumentException("Not a result file: " + path);
+        }
+        this.startMicros = buffer.getLong(Integer.BYTES);
+    }
+
+    /**
+     * Map a result file for reading
+     * @param path Result file path
+     * @return Reader
+     */
+    public static ResultReader open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Result file too large to map: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            return new ResultReader(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open result file " + path, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Get run start
+     * @return Epoch microseconds
+     */
+    public long getStartMicros() {
+        return startMicros;
+    }
+
+    /**
+     * Decode every complete record in file order
+     * @param consumer Record consumer
+     * @return Number of records read
+     */
+    public long forEach(Consumer<ResultRecord> consumer) {
+        ByteBuffer in = buffer.duplicate();
+        in.position(ResultFormat.HEADER_BYTES);
+        List<String> strings = new ArrayList<>();
+        long count = 0;
+        try {
+            while (in.hasRemaining()) {
+                byte tag = in.get();
+                if (tag == ResultFormat.TAG_STRING) {
+                    int id = (int) readVarLong(in);
+                    byte[] bytes = new byte[(int) readVarLong(in)];
+                    in.get(bytes);
+                    if (id != strings.size()) {
+                        throw new IllegalStateException("Corrupt string table in " + path + " at id " + id);
+                    }
+                    strings.add(new String(bytes, StandardCharsets.UTF_8));
+                } else if (tag == ResultFormat.TAG_RECORD) {
+                    long offset = readVarLong(in);
+                    String test = strings.get((int) readVarLong(in));
+                    String method = strings.get((int) readVarLong(in));
+                    String endpoint = strings.get((int) readVarLong(in));
+                    int status = (int) readVarLong(in);
+                    long latency = readVarLong(in);
+                    long requestBytes = readVarLong(in);
+                    long responseBytes = readVarLong(in);
+                    consumer.accept(new ResultRecord(startMicros + offset, test, method, endpoint, status,
+                            latency, requestBytes, responseBytes));
+                    count++;
+                } else {
+                    throw new IllegalStateException("Corrupt entry in " + path + " at byte " + (in.position() - 1));
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            // Incomplete last entry
+        }
+        return count;
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        return VarInts.read(in);
+    }
+}
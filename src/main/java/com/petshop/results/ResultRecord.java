@@ -0,0 +1,73 @@
+package com.petshop.results;
+
+/**
+ * One request recorded during a run
+ * Status 0 means the request failed before a response was received.
+ */
+public class ResultRecord {
+
+    private final long timestampMicros;
+    private final String testName;
+    private final String method;
+    private final String endpoint;
+    private final int status;
+    private final long latencyMicros;
+    private final long requestBytes;
+    private final long responseBytes;
+
+    public ResultRecord(long timestampMicros, String testName, String method, String endpoint, int status,
+                        long latencyMicros, long requestBytes, long responseBytes) {
+        this.timestampMicros = timestampMicros;
+        this.testName = testName;
+        this.method = method;
+        this.endpoint = endpoint;
+        this.status = status;
+        this.latencyMicros = latencyMicros;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+    }
+
+    /**
+     * Get the time the request was sent
+     * @return Microseconds since the epoch
+     */
+    public long getTimestampMicros() {
+        return timestampMicros;
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * Check whether the request failed or returned 4xx/5xx
+     * @return true if the request is an error
+     */
+    public boolean isError() {
+        return status == 0 || status >= 400;
+    }
+}
@@ -0,0 +1,154 @@
+package com.petshop.results;
+
+import com.petshop.config.ConfigFactory;
+import com.petshop.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Run-wide store of per-request results
+ * Opens one result file per JVM under results.dir on the first record and tracks the test
+ * running on each thread so every request can be attributed to it.
+ */
+public class ResultStore {
+
+    /** Extension of result files */
+    public static final String FILE_SUFFIX = ".psr";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+
+    private static ResultWriter writer;
+    private static boolean closed;
+
+    private ResultStore() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check whether result recording is switched on
+     * @return true if results.enabled is set
+     */
+    public static boolean isEnabled() {
+        return ConfigFactory.getConfig().resultsEnabled();
+    }
+
+    /**
+     * Attribute requests issued from the current thread to a test
+     * @param testName Fully qualified test method name
+     */
+    public static void startTest(String testName) {
+        CURRENT_TEST.set(testName);
+    }
+
+    /**
+     * Stop attributing requests from the current thread to a test
+     */
+    public static void endTest() {
+        CURRENT_TEST.remove();
+    }
+
+    /**
+     * Get the test running on the current thread
+     * @return Test name, or an empty string outside a test
+     */
+    public static String currentTest() {
+        String testName = CURRENT_TEST.get();
+        return testName != null ? testName : "";
+    }
+
+    /**
+     * Append a record to this run's result file
+     * @param record Record
+     */
+    public static void record(ResultRecord record) {
+        ResultWriter target = writer();
+        if (target != null) {
+            target.append(record);
+        }
+    }
+
+    /**
+     * Close the result file; records arriving afterwards are dropped
+     * @return Path of the written file, or null if nothing was recorded
+     */
+    public static synchronized Path close() {
+        if (writer == null || closed) {
+            closed = true;
+            return writer != null ? writer.getPath() : null;
+        }
+        closed = true;
+        writer.close();
+        LoggerUtil.info("Wrote " + writer.getRecordCount() + " request results to " + writer.getPath());
+        return writer.getPath();
+    }
+
+    /**
+     * List result files: the file itself, or the result files in a directory, oldest first
+     * @param path Result file or directory
+     * @return Result files; empty if the directory does not exist
+     */
+    public static List<Path> resultFiles(Path path) {
+        if (!Files.isDirectory(path)) {
+            return Files.exists(path) ? List.of(path) : List.of();
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted(Comparator.comparingLong(ResultStore::lastModified))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list result files in " + path, e);
+        }
+    }
+
+    /**
+     * Replace the result files in a baseline directory with a run's result file
+     * @param resultFile Result file of the run
+     * @param baselineDir Baseline directory
+     */
+    public static void saveBaseline(Path resultFile, Path baselineDir) {
+        try {
+            Files.createDirectories(baselineDir);
+            for (Path old : resultFiles(baselineDir)) {
+                Files.delete(old);
+            }
+            Files.copy(resultFile, baselineDir.resolve(resultFile.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save baseline to " + baselineDir, e);
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static synchronized ResultWriter writer() {
+        if (writer == null && !closed) {
+            Instant now = Instant.now();
+            String name = "run-" + FILE_TIMESTAMP.format(LocalDateTime.now()) + "-"
+                    + ProcessHandle.current().pid() + FILE_SUFFIX;
+            Path path = Paths.get(ConfigFactory.getConfig().resultsDir(), name);
+            writer = new ResultWriter(path, ChronoUnit.MICROS.between(Instant.EPOCH, now));
+            // Runs that never reach close() (CLI tools, System.exit) still get their buffered records
+            Runtime.getRuntime().addShutdownHook(new Thread(ResultStore::close, "result-store-close"));
+        }
+        return closed ? null : writer;
+    }
+}
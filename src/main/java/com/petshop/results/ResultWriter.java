@@ -0,0 +1,139 @@
+package com.petshop.results;
+
+import com.petshop.utils.VarInts;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Append-only writer for the binary result format described in ResultFormat
+ * Records are buffered and written in arrival order; appends are synchronized so any number of
+ * test threads can share one writer.
+ */
+public class ResultWriter implements Closeable {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final Path path;
+    private final OutputStream out;
+    private final long startMicros;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private long records;
+
+    /**
+     * Create a new result file, replacing any existing file at the path
+     * @param path Result file path
+     * @param startMicros Run start in epoch microseconds
+     */
+    public ResultWriter(Path path, long startMicros) {
+        this.path = path;
+        this.startMicros = startMicros;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            out = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), BUFFER_BYTES);
+            writeInt(ResultFormat.MAGIC);
+            writeLong(startMicros);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create result file " + path, e);
+        }
+    }
+
+    /**
+     * Append one record
+     * @param record Record
+     */
+    public synchronized void append(ResultRecord record) {
+        try {
+            int test = stringId(record.getTestName());
+            int method = stringId(record.getMethod());
+            int endpoint = stringId(record.getEndpoint());
+            out.write(ResultFormat.TAG_RECORD);
+            writeVarLong(Math.max(0, record.getTimestampMicros() - startMicros));
+            writeVarLong(test);
+            writeVarLong(method);
+            writeVarLong(endpoint);
+            writeVarLong(record.getStatus());
+            writeVarLong(record.getLatencyMicros());
+            writeVarLong(record.getRequestBytes());
+            writeVarLong(record.getResponseBytes());
+            records++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to result file " + path, e);
+        }
+    }
+
+    /**
+     * Get number of records appended so far
+     * @return Record count
+     */
+    public synchronized long getRecordCount() {
+        return records;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Write buffered records to disk
+     */
+    public synchronized void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush result file " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close result file " + path, e);
+        }
+    }
+
+    private int stringId(String value) throws IOException {
+        String key = value != null ? value : "";
+        Integer id = strings.get(key);
+        if (id != null) {
+            return id;
+        }
+        int newId = strings.size();
+        strings.put(key, newId);
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        out.write(ResultFormat.TAG_STRING);
+        writeVarLong(newId);
+        writeVarLong(bytes.length);
+        out.write(bytes);
+        return newId;
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        VarInts.write(out, value);
+    }
+
+    private void writeInt(int value) throws IOException {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            out.write(value >>> shift);
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+}
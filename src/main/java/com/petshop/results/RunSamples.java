@@ -0,0 +1,93 @@
+package com.petshop.results;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Raw per-endpoint latency and timestamp samples of one or more result files
+ * Unlike RunSummary this keeps every sample, which rank tests and the bootstrap need.
+ */
+class RunSamples {
+
+    private final Map<String, Samples> endpoints = new TreeMap<>();
+    private long firstMicros = Long.MAX_VALUE;
+    private long lastMicros = Long.MIN_VALUE;
+
+    static RunSamples of(List<Path> paths) {
+        RunSamples samples = new RunSamples();
+        for (Path path : paths) {
+            ResultReader.open(path).forEach(samples::add);
+        }
+        return samples;
+    }
+
+    private void add(ResultRecord record) {
+        endpoints.computeIfAbsent(record.getMethod() + " " + record.getEndpoint(), key -> new Samples())
+                .add(record.getTimestampMicros(), record.getLatencyMicros());
+        firstMicros = Math.min(firstMicros, record.getTimestampMicros());
+        lastMicros = Math.max(lastMicros, record.getTimestampMicros() + record.getLatencyMicros());
+    }
+
+    Map<String, Samples> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Get run length in whole seconds, at least one
+     * @return Seconds
+     */
+    int getDurationSeconds() {
+        return endpoints.isEmpty() ? 1 : (int) Math.max(1, (lastMicros - firstMicros + 999_999) / 1_000_000);
+    }
+
+    /**
+     * Count an endpoint's requests per second of the run, including idle seconds
+     * @param samples Samples of an endpoint from this run
+     * @return One count per second
+     */
+    long[] perSecondCounts(Samples samples) {
+        long[] counts = new long[getDurationSeconds()];
+        for (int i = 0; i < samples.size; i++) {
+            int second = (int) ((samples.timestamps[i] - firstMicros) / 1_000_000);
+            counts[Math.min(second, counts.length - 1)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Growable arrays of one endpoint's samples
+     */
+    static final class Samples {
+
+        private long[] timestamps = new long[64];
+        private long[] latencies = new long[64];
+        private int size;
+
+        void add(long timestampMicros, long latencyMicros) {
+            if (size == latencies.length) {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            timestamps[size] = timestampMicros;
+            latencies[size] = latencyMicros;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Get latencies sorted ascending
+         * @return New sorted array
+         */
+        long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
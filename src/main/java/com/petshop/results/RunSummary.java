@@ -0,0 +1,116 @@
+package com.petshop.results;
+
+import com.petshop.metrics.LatencyHistogram;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-endpoint latency distribution and throughput of one or more result files
+ * Several files (e.g. one per distributed worker) can be added to the same summary.
+ */
+public class RunSummary {
+
+    private final Map<String, EndpointStats> endpoints = new TreeMap<>();
+    private final EndpointStats total = new EndpointStats();
+    private long firstMicros = Long.MAX_VALUE;
+    private long lastMicros = Long.MIN_VALUE;
+
+    /**
+     * Summarize result files
+     * @param paths Result files
+     * @return Summary
+     */
+    public static RunSummary of(Path... paths) {
+        RunSummary summary = new RunSummary();
+        for (Path path : paths) {
+            ResultReader.open(path).forEach(summary::add);
+        }
+        return summary;
+    }
+
+    /**
+     * Add one record
+     * @param record Record
+     */
+    public void add(ResultRecord record) {
+        endpoints.computeIfAbsent(record.getMethod() + " " + record.getEndpoint(), key -> new EndpointStats())
+                .add(record);
+        total.add(record);
+        firstMicros = Math.min(firstMicros, record.getTimestampMicros());
+        lastMicros = Math.max(lastMicros, record.getTimestampMicros() + record.getLatencyMicros());
+    }
+
+    /**
+     * Get statistics keyed by "METHOD endpoint", sorted by key
+     * @return Endpoint statistics
+     */
+    public Map<String, EndpointStats> getEndpoints() {
+        return endpoints;
+    }
+
+    public EndpointStats getTotal() {
+        return total;
+    }
+
+    /**
+     * Get time from the first request sent to the last response received
+     * @return Seconds
+     */
+    public double getDurationSeconds() {
+        return total.getCount() == 0 ? 0 : (lastMicros - firstMicros) / 1e6;
+    }
+
+    /**
+     * Get requests per second of an endpoint over the whole run
+     * @param stats Endpoint statistics from this summary
+     * @return Requests per second
+     */
+    public double getThroughput(EndpointStats stats) {
+        double seconds = getDurationSeconds();
+        return seconds == 0 ? 0 : stats.getCount() / seconds;
+    }
+
+    /**
+     * Request count, errors, bytes and latency histogram of one endpoint
+     */
+    public static class EndpointStats {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private long count;
+        private long errors;
+        private long requestBytes;
+        private long responseBytes;
+
+        void add(ResultRecord record) {
+            latency.recordMicros(record.getLatencyMicros());
+            count++;
+            if (record.isError()) {
+                errors++;
+            }
+            requestBytes += record.getRequestBytes();
+            responseBytes += record.getResponseBytes();
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getRequestBytes() {
+            return requestBytes;
+        }
+
+        public long getResponseBytes() {
+            return responseBytes;
+        }
+    }
+}
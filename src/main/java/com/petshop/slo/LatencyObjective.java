@@ -0,0 +1,88 @@
+package com.petshop.slo;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Latency objective for one endpoint operation, e.g. "pet.getById.p99=200ms"
+ * At most (100 - percentile)% of the operation's requests may be slower than the threshold;
+ * that share is the error budget the burn rate is measured against.
+ */
+public final class LatencyObjective {
+
+    private static final Pattern KEY = Pattern.compile("(.+)\\.p(\\d{1,2}(?:\\.\\d+)?)");
+    private static final Pattern VALUE = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(ms|s)?");
+
+    private final String operation;
+    private final double percentile;
+    private final long thresholdMicros;
+
+    public LatencyObjective(String operation, double percentile, long thresholdMicros) {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        this.operation = operation;
+        this.percentile = percentile;
+        this.thresholdMicros = thresholdMicros;
+    }
+
+    /**
+     * Parse an objective from a property
+     * @param key Operation and percentile, e.g. "store.getInventory.p95"
+     * @param value Threshold in ms or s, e.g. "150ms" or "1.5s"; a bare number is milliseconds
+     * @return LatencyObjective
+     */
+    public static LatencyObjective parse(String key, String value) {
+        Matcher keyMatcher = KEY.matcher(key.trim());
+        if (!keyMatcher.matches()) {
+            throw new IllegalArgumentException("Invalid SLO key (expected <operation>.p<percentile>): " + key);
+        }
+        Matcher valueMatcher = VALUE.matcher(value.trim().toLowerCase(Locale.ROOT));
+        if (!valueMatcher.matches()) {
+            throw new IllegalArgumentException("Invalid SLO threshold for " + key + ": " + value);
+        }
+        double amount = Double.parseDouble(valueMatcher.group(1));
+        long micros = "s".equals(valueMatcher.group(2))
+                ? Math.round(amount * TimeUnit.SECONDS.toMicros(1))
+                : Math.round(amount * TimeUnit.MILLISECONDS.toMicros(1));
+        return new LatencyObjective(keyMatcher.group(1), Double.parseDouble(keyMatcher.group(2)), micros);
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public long getThresholdMicros() {
+        return thresholdMicros;
+    }
+
+    /**
+     * Share of requests allowed above the threshold
+     * @return Error budget between 0 and 1, e.g. 0.01 for p99
+     */
+    public double getBudget() {
+        return 1 - percentile / 100;
+    }
+
+    /**
+     * Requests a window needs before its burn rate means anything: one slow request in a
+     * window this size burns the budget at exactly 1x
+     * @return Minimum window size
+     */
+    public long getMinWindowRequests() {
+        return (long) Math.ceil(1 / getBudget() - 1e-9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s p%s <= %.0f ms", operation,
+                percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile),
+                thresholdMicros / 1000.0);
+    }
+}
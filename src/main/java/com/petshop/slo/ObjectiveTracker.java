@@ -0,0 +1,103 @@
+package com.petshop.slo;
+
+import com.petshop.metrics.LatencyHistogram;
+import com.petshop.utils.LoggerUtil;
+
+import java.util.Arrays;
+
+/**
+ * Running state of one latency objective: totals for the whole run plus a sliding window
+ * The window is a ring of one-second slots; slots older than the window are cleared as time
+ * moves on, so the window sums always cover the last windowSeconds seconds with requests.
+ */
+class ObjectiveTracker {
+
+    private final LatencyObjective objective;
+    private final int windowSeconds;
+    private final double alertBurnRate;
+    private final long[] slotSecond;
+    private final long[] slotTotal;
+    private final long[] slotSlow;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    private long windowTotal;
+    private long windowSlow;
+    private long total;
+    private long slow;
+    private double peakBurnRate;
+    private int alerts;
+    private boolean alerting;
+
+    ObjectiveTracker(LatencyObjective objective, int windowSeconds, double alertBurnRate) {
+        this.objective = objective;
+        this.windowSeconds = windowSeconds;
+        this.alertBurnRate = alertBurnRate;
+        this.slotSecond = new long[windowSeconds];
+        this.slotTotal = new long[windowSeconds];
+        this.slotSlow = new long[windowSeconds];
+        Arrays.fill(slotSecond, -1);
+    }
+
+    /**
+     * Record one request and re-evaluate the window
+     * @param second Seconds since tracking started
+     * @param micros Request latency in microseconds
+     */
+    synchronized void record(long second, long micros) {
+        histogram.recordMicros(micros);
+        int slot = (int) (second % windowSeconds);
+        if (slotSecond[slot] != second) {
+            expire(second);
+            slotSecond[slot] = second;
+        }
+        boolean isSlow = micros > objective.getThresholdMicros();
+        slotTotal[slot]++;
+        windowTotal++;
+        total++;
+        if (isSlow) {
+            slotSlow[slot]++;
+            windowSlow++;
+            slow++;
+        }
+        evaluateWindow();
+    }
+
+    synchronized SloReport.Row toRow() {
+        double burnRate = total == 0 ? 0 : burnRate(slow, total);
+        return new SloReport.Row(objective, total, slow, histogram.getPercentileMicros(objective.getPercentile()),
+                burnRate, peakBurnRate, alerts);
+    }
+
+    private void expire(long second) {
+        for (int i = 0; i < windowSeconds; i++) {
+            if (slotSecond[i] >= 0 && second - slotSecond[i] >= windowSeconds) {
+                windowTotal -= slotTotal[i];
+                windowSlow -= slotSlow[i];
+                slotTotal[i] = 0;
+                slotSlow[i] = 0;
+                slotSecond[i] = -1;
+            }
+        }
+    }
+
+    private void evaluateWindow() {
+        if (windowTotal < objective.getMinWindowRequests()) {
+            return;
+        }
+        double burnRate = burnRate(windowSlow, windowTotal);
+        peakBurnRate = Math.max(peakBurnRate, burnRate);
+        if (burnRate >= alertBurnRate && !alerting) {
+            alerting = true;
+            alerts++;
+            LoggerUtil.warn(String.format("SLO %s burning error budget at %.1fx over the last %d s "
+                    + "(%d of %d requests slower)", objective, burnRate, windowSeconds, windowSlow, windowTotal));
+        } else if (burnRate < alertBurnRate && alerting) {
+            alerting = false;
+            LoggerUtil.info(String.format("SLO %s back below %.1fx burn rate", objective, alertBurnRate));
+        }
+    }
+
+    private double burnRate(long slowRequests, long requests) {
+        return (double) slowRequests / requests / objective.getBudget();
+    }
+}
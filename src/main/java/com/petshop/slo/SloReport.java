@@ -0,0 +1,121 @@
+package com.petshop.slo;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Verdict per latency objective at the end of a run
+ * Burn rate is the share of requests slower than the threshold divided by the error budget:
+ * 1.0 spends the budget exactly, above 1.0 the objective is breached over the run. Peak burn is the
+ * highest rate seen in any sliding window that held enough requests to judge.
+ */
+public class SloReport {
+
+    private final List<Row> rows;
+    private final int windowSeconds;
+
+    SloReport(List<Row> rows, int windowSeconds) {
+        this.rows = Collections.unmodifiableList(rows);
+        this.windowSeconds = windowSeconds;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * Whether any objective spent more than its error budget over the run
+     * @return true if at least one objective is breached
+     */
+    public boolean hasBreaches() {
+        return rows.stream().anyMatch(Row::isBreached);
+    }
+
+    /**
+     * Build a plain-text table of the objectives
+     * @return Summary text
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("SLO report (burn rate over the run and peak over %d s windows)%n", windowSeconds));
+        sb.append(String.format("%-40s %9s %7s %11s %8s %8s %7s  %s%n",
+                "Objective", "Requests", "Slow", "Observed", "Burn", "Peak", "Alerts", "Verdict"));
+        for (Row row : rows) {
+            sb.append(String.format("%-40s %9d %7d %8.1f ms %7.2fx %7.2fx %7d  %s%n",
+                    row.objective, row.requests, row.slowRequests, row.observedMicros / 1000.0,
+                    row.burnRate, row.peakBurnRate, row.alerts, row.verdict()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Evaluation of one objective
+     */
+    public static final class Row {
+        private final LatencyObjective objective;
+        private final long requests;
+        private final long slowRequests;
+        private final long observedMicros;
+        private final double burnRate;
+        private final double peakBurnRate;
+        private final int alerts;
+
+        Row(LatencyObjective objective, long requests, long slowRequests, long observedMicros,
+            double burnRate, double peakBurnRate, int alerts) {
+            this.objective = objective;
+            this.requests = requests;
+            this.slowRequests = slowRequests;
+            this.observedMicros = observedMicros;
+            this.burnRate = burnRate;
+            this.peakBurnRate = peakBurnRate;
+            this.alerts = alerts;
+        }
+
+        public LatencyObjective getObjective() {
+            return objective;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getSlowRequests() {
+            return slowRequests;
+        }
+
+        /**
+         * Latency at the objective's percentile over the run
+         * @return Microseconds
+         */
+        public long getObservedMicros() {
+            return observedMicros;
+        }
+
+        public double getBurnRate() {
+            return burnRate;
+        }
+
+        public double getPeakBurnRate() {
+            return peakBurnRate;
+        }
+
+        /**
+         * Times a sliding window crossed slo.burn.alert
+         * @return Alert count
+         */
+        public int getAlerts() {
+            return alerts;
+        }
+
+        public boolean isBreached() {
+            return burnRate > 1;
+        }
+
+        private String verdict() {
+            if (requests == 0) {
+                return "NO DATA";
+            }
+            return isBreached() ? "BREACHED" : "met";
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.petshop.slo;
+
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run-wide evaluation of the latency objectives declared in slo.file
+ * SloFilter feeds every request here by operation name; each objective keeps its burn rate over
+ * the last slo.window.seconds and logs when it crosses slo.burn.alert.
+ */
+public class SloTracker {
+
+    private SloTracker() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Record a request against the objectives of its operation
+     * @param operation Operation name, e.g. "pet.getById"
+     * @param nanos Request latency in nanoseconds
+     */
+    public static void record(String operation, long nanos) {
+        List<ObjectiveTracker> trackers = Trackers.BY_OPERATION.get(operation);
+        if (trackers == null) {
+            return;
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - Trackers.START_NANOS);
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        for (ObjectiveTracker tracker : trackers) {
+            tracker.record(second, micros);
+        }
+    }
+
+    /**
+     * Evaluate every objective over the run so far
+     * @return SloReport
+     */
+    public static SloReport report() {
+        List<SloReport.Row> rows = new ArrayList<>();
+        for (ObjectiveTracker tracker : Trackers.ALL) {
+            rows.add(tracker.toRow());
+        }
+        return new SloReport(rows, ConfigFactory.getConfig().sloWindowSeconds());
+    }
+
+    /**
+     * Load objectives from a properties file, looked up on the classpath first and then on disk
+     * @param location Classpath resource or file path
+     * @return Objectives sorted by key
+     */
+    public static List<LatencyObjective> load(String location) {
+        Properties properties = new Properties();
+        try (InputStream in = open(location)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read SLO file: " + location, e);
+        }
+        List<LatencyObjective> objectives = new ArrayList<>();
+        for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+            objectives.add(LatencyObjective.parse(key, properties.getProperty(key)));
+        }
+        return objectives;
+    }
+
+    private static InputStream open(String location) throws IOException {
+        InputStream resource = SloTracker.class.getClassLoader().getResourceAsStream(location);
+        if (resource != null) {
+            return resource;
+        }
+        Path file = Paths.get(location);
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("SLO file not found on classpath or disk: " + location);
+        }
+        return Files.newInputStream(file);
+    }
+
+    /**
+     * Trackers created on first use from slo.file
+     */
+    private static final class Trackers {
+
+        static final long START_NANOS = System.nanoTime();
+        static final List<ObjectiveTracker> ALL = new ArrayList<>();
+        static final Map<String, List<ObjectiveTracker>> BY_OPERATION = new HashMap<>();
+
+        static {
+            ConfigManager config = ConfigFactory.getConfig();
+            for (LatencyObjective objective : load(config.sloFile())) {
+                ObjectiveTracker tracker = new ObjectiveTracker(objective, config.sloWindowSeconds(),
+                        config.sloBurnAlert());
+                ALL.add(tracker);
+                BY_OPERATION.computeIfAbsent(objective.getOperation(), key -> new ArrayList<>()).add(tracker);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.petshop.soak;
+
+import com.petshop.metrics.MetricsRegistry;
+import com.petshop.metrics.Timer;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Reads client JVM resources through JMX and request latency from the MetricsRegistry timers
+ * Counters (GC time, allocated bytes, timer counts) are cumulative, so each sample reports the
+ * difference from the previous one. Not thread-safe; SoakMonitor calls it from its sampling thread.
+ */
+class JvmSampler {
+
+    /**
+     * Request latency timers, most specific first: HTTP requests when metrics.enabled, else workflow steps
+     */
+    private static final String[] LATENCY_FAMILIES = {
+            "petshop_http_request_duration_seconds", "petshop_workflow_step_duration_seconds"};
+    private static final double[] BUCKET_BOUNDS = Timer.getBucketBoundsSeconds();
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans().stream()
+            // Concurrent cycles (e.g. "G1 Concurrent GC") do not pause the application
+            .filter(gc -> !gc.getName().contains("Concurrent"))
+            .collect(Collectors.toList());
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .collect(Collectors.toList());
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    private final long startNanos = System.nanoTime();
+
+    private long lastNanos = startNanos;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private Map<Long, Long> lastAllocated = new HashMap<>();
+    private long lastRequests;
+    private double lastLatencySeconds;
+    private long[] lastBuckets = new long[BUCKET_BOUNDS.length];
+
+    JvmSampler() {
+        sample();
+    }
+
+    /**
+     * Take a sample covering the time since the previous one
+     * @return Sample
+     */
+    SoakSample sample() {
+        long now = System.nanoTime();
+        double windowSeconds = Math.max(1e-9, (now - lastNanos) / 1e9);
+        lastNanos = now;
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        long gcCountDelta = gcCount - lastGcCount;
+        long gcMillisDelta = gcMillis - lastGcMillis;
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+
+        double[] latency = latencyWindow();
+        return new SoakSample((now - startNanos) / 1e9,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                heapAfterGc(), gcMillisDelta, gcCountDelta,
+                allocatedSinceLastSample() / windowSeconds,
+                threads.getThreadCount(), openFileDescriptors(),
+                (long) latency[0], latency[1], latency[2]);
+    }
+
+    private long heapAfterGc() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (afterGc != null) {
+                used += afterGc.getUsed();
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Sum the per-thread allocation counters; threads that ended since the last sample lose their final partial window
+     */
+    private long allocatedSinceLastSample() {
+        long[] ids = threads.getAllThreadIds();
+        long[] allocated = threads.getThreadAllocatedBytes(ids);
+        Map<Long, Long> current = new HashMap<>(ids.length * 2);
+        long total = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (allocated[i] < 0) {
+                continue;
+            }
+            current.put(ids[i], allocated[i]);
+            total += allocated[i] - lastAllocated.getOrDefault(ids[i], 0L);
+        }
+        lastAllocated = current;
+        return Math.max(0, total);
+    }
+
+    private long openFileDescriptors() {
+        if (os instanceof com.sun.management.UnixOperatingSystemMXBean) {
+            return ((com.sun.management.UnixOperatingSystemMXBean) os).getOpenFileDescriptorCount();
+        }
+        return -1;
+    }
+
+    /**
+     * Requests, mean latency and p99 latency over the window, from the first latency timer family present
+     * @return {requests, mean ms, p99 ms}; latencies are -1 when the window had no requests
+     */
+    private double[] latencyWindow() {
+        long requests = 0;
+        double seconds = 0;
+        long[] buckets = new long[BUCKET_BOUNDS.length];
+        for (String name : LATENCY_FAMILIES) {
+            MetricsRegistry.Family<?> family = MetricsRegistry.getInstance().getFamilies().get(name);
+            if (family == null) {
+                continue;
+            }
+            for (Object child : family.getChildren().values()) {
+                Timer timer = (Timer) child;
+                requests += timer.getCount();
+                seconds += timer.getTotalSeconds();
+                long[] cumulative = timer.getCumulativeBucketCounts();
+                for (int i = 0; i < buckets.length; i++) {
+                    buckets[i] += cumulative[i];
+                }
+            }
+            break;
+        }
+
+        long windowRequests = requests - lastRequests;
+        double windowSeconds = seconds - lastLatencySeconds;
+        long[] windowBuckets = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            windowBuckets[i] = buckets[i] - lastBuckets[i];
+        }
+        lastRequests = requests;
+        lastLatencySeconds = seconds;
+        lastBuckets = buckets;
+
+        if (windowRequests <= 0) {
+            return new double[] {0, -1, -1};
+        }
+        return new double[] {windowRequests, windowSeconds / windowRequests * 1000,
+                percentileSeconds(windowBuckets, windowRequests, 0.99) * 1000};
+    }
+
+    /**
+     * Estimate a percentile from cumulative bucket counts by linear interpolation inside the bucket,
+     * as Prometheus' histogram_quantile does; observations beyond the last bound report that bound
+     */
+    static double percentileSeconds(long[] cumulative, long count, double quantile) {
+        double rank = quantile * count;
+        long previousCount = 0;
+        double previousBound = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            if (cumulative[i] >= rank) {
+                long inBucket = cumulative[i] - previousCount;
+                double fraction = inBucket == 0 ? 1 : (rank - previousCount) / inBucket;
+                return previousBound + (BUCKET_BOUNDS[i] - previousBound) * fraction;
+            }
+            previousCount = cumulative[i];
+            previousBound = BUCKET_BOUNDS[i];
+        }
+        return BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1];
+    }
+}
@@ -0,0 +1,88 @@
+package com.petshop.soak;
+
+import com.petshop.utils.LoggerUtil;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the client JVM at a fixed interval while a soak run is in progress
+ * Each sample covers heap (total and after GC), GC pause time, allocation rate, thread count,
+ * open file descriptors and the request count and latency of the window.
+ */
+public class SoakMonitor {
+
+    private final Duration interval;
+    private final List<SoakSample> samples = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+    private JvmSampler sampler;
+
+    public SoakMonitor(Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Sample interval must be positive");
+        }
+        this.interval = interval;
+    }
+
+    /**
+     * Start sampling on a daemon thread
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            throw new IllegalStateException("Soak monitor already started");
+        }
+        sampler = new JvmSampler();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(this::takeSample, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop sampling and analyse the collected series
+     * @param alpha Significance level of the trend test
+     * @param minGrowthPct Minimum growth over the run, relative to the start, to flag a series
+     * @return SoakReport
+     */
+    public synchronized SoakReport stop(double alpha, double minGrowthPct) {
+        if (scheduler == null) {
+            throw new IllegalStateException("Soak monitor not started");
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(interval.toMillis() + 1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+        return new SoakReport(samples, alpha, minGrowthPct);
+    }
+
+    /**
+     * Get the samples taken so far
+     * @return Samples in time order
+     */
+    public List<SoakSample> getSamples() {
+        return List.copyOf(samples);
+    }
+
+    private void takeSample() {
+        try {
+            SoakSample sample = sampler.sample();
+            samples.add(sample);
+            LoggerUtil.debug(String.format("Soak sample at %.0fs: heap after GC %d MB, %d threads, %d fds, "
+                            + "%d requests, mean %.1f ms", sample.getElapsedSeconds(),
+                    sample.getHeapAfterGcBytes() >> 20, sample.getThreadCount(), sample.getOpenFileDescriptors(),
+                    sample.getRequests(), sample.getMeanLatencyMillis()));
+        } catch (RuntimeException e) {
+            LoggerUtil.warn("Soak sample failed: " + e.getMessage());
+        }
+    }
+}
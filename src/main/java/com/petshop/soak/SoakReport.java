@@ -0,0 +1,213 @@
+package com.petshop.soak;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Samples of a soak run with a trend verdict per series
+ * A series is flagged as growing when Mann-Kendall finds a significant increasing trend and Sen's
+ * slope over the run amounts to at least the configured growth relative to the starting level.
+ * Each resource series is also rank-correlated with mean request latency, to tell client-side
+ * degradation (resource grows, latency follows) from backend degradation (latency grows alone).
+ */
+public class SoakReport {
+
+    static final int MIN_SAMPLES = 10;
+    private static final int MAX_POINTS = 500;
+
+    private final List<SoakSample> samples;
+    private final List<Trend> trends = new ArrayList<>();
+
+    SoakReport(List<SoakSample> samples, double alpha, double minGrowthPct) {
+        this.samples = Collections.unmodifiableList(new ArrayList<>(samples));
+        double[] latency = series(SoakSample::getMeanLatencyMillis);
+        addTrend("heap after GC (MB)", s -> s.getHeapAfterGcBytes() / 1048576.0, latency, alpha, minGrowthPct);
+        addTrend("threads", SoakSample::getThreadCount, latency, alpha, minGrowthPct);
+        addTrend("open fds", SoakSample::getOpenFileDescriptors, latency, alpha, minGrowthPct);
+        addTrend("gc pause (ms/window)", SoakSample::getGcPauseMillis, latency, alpha, minGrowthPct);
+        addTrend("alloc rate (MB/s)", s -> s.getAllocationBytesPerSecond() / 1048576.0, latency, alpha, minGrowthPct);
+        addTrend("mean latency (ms)", SoakSample::getMeanLatencyMillis, null, alpha, minGrowthPct);
+        addTrend("p99 latency (ms)", SoakSample::getP99LatencyMillis, latency, alpha, minGrowthPct);
+    }
+
+    public List<SoakSample> getSamples() {
+        return samples;
+    }
+
+    public List<Trend> getTrends() {
+        return Collections.unmodifiableList(trends);
+    }
+
+    /**
+     * Whether any series grew monotonically
+     * @return true if at least one trend is flagged
+     */
+    public boolean hasGrowth() {
+        return trends.stream().anyMatch(Trend::isGrowing);
+    }
+
+    /**
+     * Write every sample as CSV, one row per window
+     * @param file Target file
+     */
+    public void writeCsv(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write(SoakSample.CSV_HEADER);
+                writer.newLine();
+                for (SoakSample sample : samples) {
+                    writer.write(sample.toCsv());
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write soak samples: " + file, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        long requests = samples.stream().mapToLong(SoakSample::getRequests).sum();
+        sb.append(String.format("Soak run: %.1f min, %d samples, %d requests%n", elapsedMinutes(), samples.size(), requests));
+        if (samples.size() < MIN_SAMPLES) {
+            sb.append(String.format("Too few samples for trend analysis (need %d)%n", MIN_SAMPLES));
+        }
+        sb.append(String.format("%-22s %12s %12s %12s %9s %9s %9s  %s%n",
+                "Series", "Start", "End", "Slope/min", "Growth", "p", "r(lat)", "Verdict"));
+        for (Trend trend : trends) {
+            sb.append(trend).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    private void addTrend(String name, ToDoubleFunction<SoakSample> metric, double[] latency,
+                          double alpha, double minGrowthPct) {
+        double[] values = series(metric);
+        List<double[]> pairs = valid(values, latency);
+        if (pairs.get(0).length == 0) {
+            return;
+        }
+        trends.add(new Trend(name, pairs.get(0), pairs.get(1), elapsedMinutes(), alpha, minGrowthPct));
+    }
+
+    private double[] series(ToDoubleFunction<SoakSample> metric) {
+        return samples.stream().mapToDouble(metric).toArray();
+    }
+
+    private double elapsedMinutes() {
+        return samples.isEmpty() ? 0 : samples.get(samples.size() - 1).getElapsedSeconds() / 60;
+    }
+
+    /**
+     * Drop windows where the series is unavailable (negative); latency pairs are kept aligned,
+     * and windows without latency are dropped from the correlation only
+     */
+    private static List<double[]> valid(double[] values, double[] latency) {
+        List<Double> kept = new ArrayList<>();
+        List<Double> keptLatency = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] >= 0) {
+                kept.add(values[i]);
+                keptLatency.add(latency == null ? -1 : latency[i]);
+            }
+        }
+        List<double[]> pairs = new ArrayList<>();
+        pairs.add(kept.stream().mapToDouble(Double::doubleValue).toArray());
+        pairs.add(keptLatency.stream().mapToDouble(Double::doubleValue).toArray());
+        return pairs;
+    }
+
+    /**
+     * Trend verdict for one series
+     */
+    public static final class Trend {
+        private final String name;
+        private final double start;
+        private final double end;
+        private final double slopePerMinute;
+        private final double growthPct;
+        private final double pValue;
+        private final double latencyCorrelation;
+        private final boolean growing;
+
+        Trend(String name, double[] values, double[] latency, double minutes, double alpha, double minGrowthPct) {
+            this.name = name;
+            double[] points = TrendStatistics.downsample(values, MAX_POINTS);
+            int edge = Math.max(1, points.length / 10);
+            this.start = TrendStatistics.median(Arrays.copyOfRange(points, 0, edge));
+            this.end = TrendStatistics.median(Arrays.copyOfRange(points, points.length - edge, points.length));
+            double slopePerPoint = TrendStatistics.senSlope(points);
+            double totalChange = slopePerPoint * (points.length - 1);
+            this.slopePerMinute = minutes > 0 ? totalChange / minutes : 0;
+            double level = start > 0 ? start : TrendStatistics.median(points);
+            this.growthPct = level > 0 ? totalChange / level * 100 : (totalChange > 0 ? Double.POSITIVE_INFINITY : 0);
+            this.pValue = values.length >= MIN_SAMPLES ? TrendStatistics.mannKendallIncreasing(points) : 1;
+            this.latencyCorrelation = correlation(values, latency);
+            this.growing = pValue < alpha && growthPct >= minGrowthPct;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getSlopePerMinute() {
+            return slopePerMinute;
+        }
+
+        public double getGrowthPct() {
+            return growthPct;
+        }
+
+        public double getPValue() {
+            return pValue;
+        }
+
+        /**
+         * Spearman correlation with mean request latency over the same windows
+         * @return Correlation, NaN when not applicable
+         */
+        public double getLatencyCorrelation() {
+            return latencyCorrelation;
+        }
+
+        public boolean isGrowing() {
+            return growing;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-22s %12.2f %12.2f %12.3f %8.1f%% %9.4f %9s  %s", name, start, end,
+                    slopePerMinute, growthPct, pValue,
+                    Double.isNaN(latencyCorrelation) ? "-" : String.format("%.2f", latencyCorrelation),
+                    growing ? "GROWING" : "stable");
+        }
+
+        private static double correlation(double[] values, double[] latency) {
+            List<double[]> pairs = new ArrayList<>();
+            for (int i = 0; i < values.length; i++) {
+                if (latency[i] >= 0) {
+                    pairs.add(new double[] {values[i], latency[i]});
+                }
+            }
+            if (pairs.size() < MIN_SAMPLES) {
+                return Double.NaN;
+            }
+            double[] a = pairs.stream().mapToDouble(p -> p[0]).toArray();
+            double[] b = pairs.stream().mapToDouble(p -> p[1]).toArray();
+            return TrendStatistics.spearman(TrendStatistics.downsample(a, MAX_POINTS),
+                    TrendStatistics.downsample(b, MAX_POINTS));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.petshop.soak;
+
+import java.util.Locale;
+
+/**
+ * One sampling window of a soak run: client JVM resources plus request latency over the window
+ * Values that are not available on this JVM or had no requests in the window are -1.
+ */
+public final class SoakSample {
+
+    static final String CSV_HEADER = "elapsed_s,heap_used_bytes,heap_after_gc_bytes,gc_pause_ms,gc_count,"
+            + "alloc_bytes_per_s,threads,open_fds,requests,mean_latency_ms,p99_latency_ms";
+
+    private final double elapsedSeconds;
+    private final long heapUsedBytes;
+    private final long heapAfterGcBytes;
+    private final long gcPauseMillis;
+    private final long gcCount;
+    private final double allocationBytesPerSecond;
+    private final int threadCount;
+    private final long openFileDescriptors;
+    private final long requests;
+    private final double meanLatencyMillis;
+    private final double p99LatencyMillis;
+
+    SoakSample(double elapsedSeconds, long heapUsedBytes, long heapAfterGcBytes, long gcPauseMillis, long gcCount,
+               double allocationBytesPerSecond, int threadCount, long openFileDescriptors,
+               long requests, double meanLatencyMillis, double p99LatencyMillis) {
+        this.elapsedSeconds = elapsedSeconds;
+        this.heapUsedBytes = heapUsedBytes;
+        this.heapAfterGcBytes = heapAfterGcBytes;
+        this.gcPauseMillis = gcPauseMillis;
+        this.gcCount = gcCount;
+        this.allocationBytesPerSecond = allocationBytesPerSecond;
+        this.threadCount = threadCount;
+        this.openFileDescriptors = openFileDescriptors;
+        this.requests = requests;
+        this.meanLatencyMillis = meanLatencyMillis;
+        this.p99LatencyMillis = p99LatencyMillis;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    public long getHeapUsedBytes() {
+        return heapUsedBytes;
+    }
+
+    /**
+     * Heap occupied right after the most recent collection, the live-set estimate leaks show up in
+     * @return Bytes
+     */
+    public long getHeapAfterGcBytes() {
+        return heapAfterGcBytes;
+    }
+
+    /**
+     * GC pause time accumulated during the window
+     * @return Milliseconds
+     */
+    public long getGcPauseMillis() {
+        return gcPauseMillis;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public double getAllocationBytesPerSecond() {
+        return allocationBytesPerSecond;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public long getOpenFileDescriptors() {
+        return openFileDescriptors;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public double getMeanLatencyMillis() {
+        return meanLatencyMillis;
+    }
+
+    public double getP99LatencyMillis() {
+        return p99LatencyMillis;
+    }
+
+    String toCsv() {
+        return String.format(Locale.ROOT, "%.1f,%d,%d,%d,%d,%.0f,%d,%d,%d,%.3f,%.3f",
+                elapsedSeconds, heapUsedBytes, heapAfterGcBytes, gcPauseMillis, gcCount, allocationBytesPerSecond,
+                threadCount, openFileDescriptors, requests, meanLatencyMillis, p99LatencyMillis);
+    }
+}
@@ -0,0 +1,166 @@
+package com.petshop.soak;
+
+import java.util.Arrays;
+
+/**
+ * Non-parametric trend statistics for soak time series
+ * Mann-Kendall detects a monotonic trend without assuming linearity or normal noise, Sen's slope
+ * gives a robust growth rate, and Spearman's rank correlation relates two series over time.
+ */
+final class TrendStatistics {
+
+    private TrendStatistics() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * One-sided Mann-Kendall test for an increasing trend, with tie and continuity correction
+     * @param series Values in time order
+     * @return p-value; 1 when the series is too short or constant
+     */
+    static double mannKendallIncreasing(double[] series) {
+        int n = series.length;
+        if (n < 4) {
+            return 1;
+        }
+        long s = 0;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                s += Double.compare(series[j], series[i]);
+            }
+        }
+        double variance = (n * (n - 1.0) * (2.0 * n + 5)) / 18 - tieCorrection(series);
+        if (variance <= 0 || s <= 0) {
+            return 1;
+        }
+        double z = (s - 1) / Math.sqrt(variance);
+        return 1 - normalCdf(z);
+    }
+
+    /**
+     * Sen's slope: median of the slopes between every pair of points
+     * @param series Values in time order, one unit of time apart
+     * @return Change per time unit
+     */
+    static double senSlope(double[] series) {
+        int n = series.length;
+        if (n < 2) {
+            return 0;
+        }
+        double[] slopes = new double[n * (n - 1) / 2];
+        int k = 0;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                slopes[k++] = (series[j] - series[i]) / (j - i);
+            }
+        }
+        return median(slopes);
+    }
+
+    /**
+     * Spearman's rank correlation
+     * @param a First series
+     * @param b Second series, same length
+     * @return Correlation in [-1, 1]; 0 when either series is constant
+     */
+    static double spearman(double[] a, double[] b) {
+        double[] ra = ranks(a);
+        double[] rb = ranks(b);
+        double meanA = Arrays.stream(ra).average().orElse(0);
+        double meanB = Arrays.stream(rb).average().orElse(0);
+        double covariance = 0;
+        double varianceA = 0;
+        double varianceB = 0;
+        for (int i = 0; i < ra.length; i++) {
+            covariance += (ra[i] - meanA) * (rb[i] - meanB);
+            varianceA += (ra[i] - meanA) * (ra[i] - meanA);
+            varianceB += (rb[i] - meanB) * (rb[i] - meanB);
+        }
+        return varianceA == 0 || varianceB == 0 ? 0 : covariance / Math.sqrt(varianceA * varianceB);
+    }
+
+    /**
+     * Average consecutive points so the quadratic tests stay cheap on long runs
+     * @param series Values in time order
+     * @param maxPoints Maximum points to keep
+     * @return The series, or bucket means of it
+     */
+    static double[] downsample(double[] series, int maxPoints) {
+        if (series.length <= maxPoints) {
+            return series;
+        }
+        double[] reduced = new double[maxPoints];
+        for (int i = 0; i < maxPoints; i++) {
+            int from = (int) ((long) i * series.length / maxPoints);
+            int to = (int) ((long) (i + 1) * series.length / maxPoints);
+            double sum = 0;
+            for (int j = from; j < to; j++) {
+                sum += series[j];
+            }
+            reduced[i] = sum / (to - from);
+        }
+        return reduced;
+    }
+
+    static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+    }
+
+    private static double tieCorrection(double[] series) {
+        double[] sorted = series.clone();
+        Arrays.sort(sorted);
+        double correction = 0;
+        int i = 0;
+        while (i < sorted.length) {
+            int j = i;
+            while (j + 1 < sorted.length && sorted[j + 1] == sorted[i]) {
+                j++;
+            }
+            int t = j - i + 1;
+            correction += t * (t - 1.0) * (2.0 * t + 5);
+            i = j + 1;
+        }
+        return correction / 18;
+    }
+
+    private static double[] ranks(double[] values) {
+        Integer[] order = new Integer[values.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> Double.compare(values[x], values[y]));
+        double[] ranks = new double[values.length];
+        int i = 0;
+        while (i < order.length) {
+            int j = i;
+            while (j + 1 < order.length && values[order[j + 1]] == values[order[i]]) {
+                j++;
+            }
+            double averageRank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                ranks[order[k]] = averageRank;
+            }
+            i = j + 1;
+        }
+        return ranks;
+    }
+
+    private static double normalCdf(double z) {
+        return 0.5 * (1 + erf(z / Math.sqrt(2)));
+    }
+
+    /**
+     * Abramowitz and Stegun 7.1.26, absolute error below 1.5e-7
+     */
+    private static double erf(double x) {
+        double sign = Math.signum(x);
+        double a = Math.abs(x);
+        double t = 1 / (1 + 0.3275911 * a);
+        double y = 1 - ((((1.061405429 * t - 1.453152027) * t + 1.421413741) * t - 0.284496736) * t
+                + 0.254829592) * t * Math.exp(-a * a);
+        return sign * y;
+    }
+}
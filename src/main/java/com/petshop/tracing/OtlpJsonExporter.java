@@ -0,0 +1,120 @@
+package com.petshop.tracing;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes spans as OTLP/JSON ExportTraceServiceRequest objects, one per line (JSON Lines)
+ * This matches the OpenTelemetry Collector file exporter format, so the file can be replayed
+ * into a collector with the otlpjsonfile receiver or inspected directly.
+ */
+public class OtlpJsonExporter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private OtlpJsonExporter() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Append a batch of spans as one line to the given file
+     * @param spans Finished spans
+     * @param serviceName service.name resource attribute
+     * @param filePath Target file path
+     */
+    public static void append(List<Span> spans, String serviceName, String filePath) {
+        Path path = Paths.get(filePath).toAbsolutePath();
+        try {
+            Files.createDirectories(path.getParent());
+            try (OutputStream out = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                 JsonGenerator gen = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+                gen.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                writeRequest(gen, spans, serviceName);
+                gen.flush();
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write spans to file: " + filePath, e);
+        }
+    }
+
+    private static void writeRequest(JsonGenerator gen, List<Span> spans, String serviceName) throws IOException {
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("resourceSpans");
+        gen.writeStartObject();
+
+        gen.writeObjectFieldStart("resource");
+        gen.writeArrayFieldStart("attributes");
+        writeAttribute(gen, "service.name", serviceName);
+        gen.writeEndArray();
+        gen.writeEndObject();
+
+        gen.writeArrayFieldStart("scopeSpans");
+        gen.writeStartObject();
+        gen.writeObjectFieldStart("scope");
+        gen.writeStringField("name", "com.petshop.tracing");
+        gen.writeEndObject();
+        gen.writeArrayFieldStart("spans");
+        for (Span span : spans) {
+            writeSpan(gen, span);
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+        gen.writeEndArray();
+
+        gen.writeEndObject();
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static void writeSpan(JsonGenerator gen, Span span) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("traceId", span.getTraceId());
+        gen.writeStringField("spanId", span.getSpanId());
+        if (span.getParentSpanId() != null) {
+            gen.writeStringField("parentSpanId", span.getParentSpanId());
+        }
+        gen.writeStringField("name", span.getName());
+        gen.writeNumberField("kind", span.getKind().getCode());
+        // OTLP/JSON encodes 64-bit integers as strings
+        gen.writeStringField("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        gen.writeStringField("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+        gen.writeArrayFieldStart("attributes");
+        for (Map.Entry<String, Object> attribute : span.getAttributes().entrySet()) {
+            writeAttribute(gen, attribute.getKey(), attribute.getValue());
+        }
+        gen.writeEndArray();
+        gen.writeObjectFieldStart("status");
+        gen.writeNumberField("code", span.isError() ? 2 : 1);
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    private static void writeAttribute(JsonGenerator gen, String key, Object value) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("key", key);
+        gen.writeObjectFieldStart("value");
+        if (value instanceof Long || value instanceof Integer) {
+            gen.writeStringField("intValue", value.toString());
+        } else if (value instanceof Double) {
+            gen.writeNumberField("doubleValue", (Double) value);
+        } else if (value instanceof Boolean) {
+            gen.writeBooleanField("boolValue", (Boolean) value);
+        } else {
+            gen.writeStringField("stringValue", String.valueOf(value));
+        }
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,88 @@
+package com.petshop.tracing;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-thread recorder for the network phases of the request currently being executed
+ * RestAssured sends requests on the calling thread, so the DNS resolver, socket factory and
+ * interceptors installed by TracingHttpClientFactory can report into the same thread-local slot
+ * that TracingFilter reads back.
+ */
+public class PhaseTimings {
+
+    /**
+     * Network phases of a single request
+     */
+    public enum Phase {
+        DNS, CONNECT, TLS, TTFB, DOWNLOAD
+    }
+
+    private static final ThreadLocal<PhaseTimings> CURRENT = ThreadLocal.withInitial(PhaseTimings::new);
+
+    private final Map<Phase, Long> durations = new EnumMap<>(Phase.class);
+    private long requestSentAt;
+    private long firstByteAt;
+
+    private PhaseTimings() {
+    }
+
+    /**
+     * Get the recorder of the current thread
+     * @return PhaseTimings
+     */
+    public static PhaseTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Clear the recorder before a new request
+     */
+    public void reset() {
+        durations.clear();
+        requestSentAt = 0;
+        firstByteAt = 0;
+    }
+
+    /**
+     * Add a measured duration to a phase
+     * @param phase Phase
+     * @param nanos Duration in nanoseconds
+     */
+    public void add(Phase phase, long nanos) {
+        durations.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Mark the moment the connection was ready and the request started to be written
+     */
+    public void markRequestSent() {
+        requestSentAt = System.nanoTime();
+    }
+
+    /**
+     * Mark the moment the response headers arrived
+     */
+    public void markFirstByte() {
+        firstByteAt = System.nanoTime();
+    }
+
+    /**
+     * Derive TTFB and download from the marks, given the time the response was fully read
+     * @param completedAt System.nanoTime() when the body had been read
+     */
+    public void complete(long completedAt) {
+        if (requestSentAt > 0 && firstByteAt >= requestSentAt) {
+            durations.put(Phase.TTFB, firstByteAt - requestSentAt);
+            durations.put(Phase.DOWNLOAD, completedAt - firstByteAt);
+        }
+    }
+
+    /**
+     * Get the recorded durations in nanoseconds
+     * @return Durations by phase (only phases that were observed)
+     */
+    public Map<Phase, Long> getDurations() {
+        return new EnumMap<>(durations);
+    }
+}
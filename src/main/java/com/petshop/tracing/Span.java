@@ -0,0 +1,121 @@
+package com.petshop.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A single timed operation within a trace: a test method or an HTTP request made by it
+ */
+public class Span {
+
+    /**
+     * OTLP span kinds used by this framework
+     */
+    public enum Kind {
+        INTERNAL(1), CLIENT(3);
+
+        private final int code;
+
+        Kind(int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+    }
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String name;
+    private final Kind kind;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private long endEpochNanos;
+    private boolean error;
+
+    Span(String traceId, String spanId, String parentSpanId, String name, Kind kind) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochNanos = Tracer.epochNanos();
+        this.startNanoTime = System.nanoTime();
+    }
+
+    /**
+     * Set an attribute (String, Long, Integer, Double or Boolean)
+     * @param key Attribute key
+     * @param value Attribute value
+     * @return This span
+     */
+    public Span setAttribute(String key, Object value) {
+        if (value != null) {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Mark the span as failed
+     * @return This span
+     */
+    public Span setError() {
+        this.error = true;
+        return this;
+    }
+
+    /**
+     * End the span, using the monotonic clock for its duration
+     */
+    void end() {
+        this.endEpochNanos = startEpochNanos + (System.nanoTime() - startNanoTime);
+    }
+
+    /**
+     * Get the W3C traceparent header value for this span (version 00, sampled)
+     * @return traceparent value
+     */
+    public String toTraceparent() {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    public boolean isError() {
+        return error;
+    }
+}
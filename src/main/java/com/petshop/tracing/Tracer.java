@@ -0,0 +1,129 @@
+package com.petshop.tracing;
+
+import com.petshop.config.ConfigFactory;
+import com.petshop.utils.LoggerUtil;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates spans, tracks the active test span per thread and buffers finished spans for export
+ * Each test method gets its own trace; requests issued from the test thread become its child spans.
+ */
+public class Tracer {
+
+    private static final int FLUSH_THRESHOLD = 1000;
+
+    private static final ThreadLocal<Span> CURRENT_TEST = new ThreadLocal<>();
+    private static final Queue<Span> FINISHED = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger BUFFERED = new AtomicInteger();
+
+    private Tracer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check whether tracing is switched on
+     * @return true if tracing.enabled is set
+     */
+    public static boolean isEnabled() {
+        return ConfigFactory.getConfig().tracingEnabled();
+    }
+
+    /**
+     * Start the root span of a test method on the current thread
+     * @param testName Fully qualified test method name
+     * @return Span
+     */
+    public static Span startTestSpan(String testName) {
+        Span span = new Span(randomHex(16), randomHex(8), null, testName, Span.Kind.INTERNAL);
+        span.setAttribute("test.method", testName);
+        CURRENT_TEST.set(span);
+        return span;
+    }
+
+    /**
+     * End the test span of the current thread
+     * @param status Test outcome, e.g. PASS, FAIL or SKIP
+     */
+    public static void endTestSpan(String status) {
+        Span span = CURRENT_TEST.get();
+        if (span != null) {
+            span.setAttribute("test.status", status);
+            if ("FAIL".equals(status)) {
+                span.setError();
+            }
+            finish(span);
+            CURRENT_TEST.remove();
+        }
+    }
+
+    /**
+     * Start a client span for an outgoing request, parented to the current test span if any
+     * @param name Span name, e.g. "GET /pet/{petId}"
+     * @return Span
+     */
+    public static Span startClientSpan(String name) {
+        Span parent = CURRENT_TEST.get();
+        Span span = parent != null
+                ? new Span(parent.getTraceId(), randomHex(8), parent.getSpanId(), name, Span.Kind.CLIENT)
+                : new Span(randomHex(16), randomHex(8), null, name, Span.Kind.CLIENT);
+        if (parent != null) {
+            span.setAttribute("test.method", parent.getName());
+        }
+        return span;
+    }
+
+    /**
+     * End a span and queue it for export, flushing to file once enough spans are buffered
+     * @param span Span
+     */
+    public static void finish(Span span) {
+        span.end();
+        FINISHED.add(span);
+        if (BUFFERED.incrementAndGet() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    /**
+     * Append all buffered spans to the configured OTLP JSON file
+     */
+    public static synchronized void flush() {
+        List<Span> batch = new ArrayList<>();
+        Span span;
+        while ((span = FINISHED.poll()) != null) {
+            batch.add(span);
+            BUFFERED.decrementAndGet();
+        }
+        if (!batch.isEmpty()) {
+            String file = ConfigFactory.getConfig().tracingExportFile();
+            OtlpJsonExporter.append(batch, ConfigFactory.getConfig().tracingServiceName(), file);
+            LoggerUtil.debug("Exported " + batch.size() + " spans to " + file);
+        }
+    }
+
+    static long epochNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    private static String randomHex(int bytes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder sb = new StringBuilder(bytes * 2);
+        for (int i = 0; i < bytes; i++) {
+            int b = random.nextInt(256);
+            // W3C trace context forbids all-zero ids, so never emit a zero first byte
+            if (i == 0 && b == 0) {
+                b = 1;
+            }
+            sb.append(Character.forDigit(b >> 4, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
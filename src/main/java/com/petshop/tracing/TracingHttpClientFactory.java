@@ -0,0 +1,142 @@
+package com.petshop.tracing;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.BasicClientConnectionManager;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.params.HttpParams;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+
+/**
+ * RestAssured HttpClient factory that instruments the Apache client with phase timings
+ * Builds the same DefaultHttpClient RestAssured uses by default, but with a timing DNS resolver,
+ * socket factories that time TCP connect and TLS handshake separately, and interceptors that mark
+ * the request write and the arrival of the response headers.
+ */
+@SuppressWarnings("deprecation")
+public class TracingHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    @Override
+    public HttpClient createHttpClient() {
+        SchemeRegistry registry = new SchemeRegistry();
+        registry.register(new Scheme("http", 80, new TimingSocketFactory()));
+        registry.register(new Scheme("https", 443, new TimingTlsSocketFactory()));
+
+        DefaultHttpClient client = new DefaultHttpClient(new TimingConnectionManager(registry));
+        client.addRequestInterceptor((request, context) -> PhaseTimings.current().markRequestSent());
+        client.addResponseInterceptor((response, context) -> PhaseTimings.current().markFirstByte());
+        return client;
+    }
+
+    /**
+     * Connection manager whose operator resolves host names through the timing resolver
+     */
+    private static final class TimingConnectionManager extends BasicClientConnectionManager {
+
+        private TimingConnectionManager(SchemeRegistry registry) {
+            super(registry);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry registry) {
+            return new DefaultClientConnectionOperator(registry, new TimingDnsResolver());
+        }
+    }
+
+    /**
+     * DNS resolver recording lookup time into the DNS phase
+     */
+    private static final class TimingDnsResolver implements DnsResolver {
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            long start = System.nanoTime();
+            try {
+                return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            } finally {
+                PhaseTimings.current().add(PhaseTimings.Phase.DNS, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Socket factory recording TCP connect time into the CONNECT phase
+     */
+    private static class TimingSocketFactory implements SchemeSocketFactory {
+
+        private final PlainSocketFactory plain = PlainSocketFactory.getSocketFactory();
+
+        @Override
+        public Socket createSocket(HttpParams params) throws IOException {
+            return plain.createSocket(params);
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remote, InetSocketAddress local,
+                                    HttpParams params) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return plain.connectSocket(socket, remote, local, params);
+            } finally {
+                PhaseTimings.current().add(PhaseTimings.Phase.CONNECT, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return false;
+        }
+    }
+
+    /**
+     * Socket factory that additionally records the TLS handshake into the TLS phase
+     * Must be a separate class: Apache marks schemes with layered factories as secure routes.
+     */
+    private static final class TimingTlsSocketFactory extends TimingSocketFactory
+            implements SchemeLayeredSocketFactory {
+
+        private final SSLSocketFactory tls = SSLSocketFactory.getSocketFactory();
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remote, InetSocketAddress local,
+                                    HttpParams params) throws IOException {
+            Socket connected = super.connectSocket(socket, remote, local, params);
+            String host = remote instanceof HttpInetSocketAddress
+                    ? ((HttpInetSocketAddress) remote).getHttpHost().getHostName()
+                    : remote.getHostName();
+            return createLayeredSocket(connected, host, remote.getPort(), params);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params)
+                throws IOException {
+            long start = System.nanoTime();
+            try {
+                return tls.createLayeredSocket(socket, target, port, params);
+            } finally {
+                PhaseTimings.current().add(PhaseTimings.Phase.TLS, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return tls.isSecure(socket);
+        }
+    }
+}
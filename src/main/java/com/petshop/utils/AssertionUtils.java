@@ -1,8 +1,19 @@
 package com.petshop.utils;
 
+import com.petshop.api.response.ApiResult;
+import com.petshop.api.response.CompiledPath;
+import com.petshop.api.response.PathSet;
+import com.petshop.config.ConfigFactory;
+import com.petshop.results.RegressionReport;
+import com.petshop.slo.SloReport;
 import io.restassured.response.Response;
 import org.testng.Assert;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * Custom Assertion Utility class
  * Follows Single Responsibility Principle - Handles only assertions
@@ -35,6 +46,14 @@ public class AssertionUtils {
                 "Response time exceeded. Expected: <= " + maxTimeInMillis + "ms, Actual: " + actualTime + "ms");
     }
 
+    /**
+     * Assert response time is within the response.time.max.ms ceiling; latency targets belong in slo.file
+     * @param response Response object
+     */
+    public static void assertResponseTime(Response response) {
+        assertResponseTime(response, ConfigFactory.getConfig().responseTimeMaxMs());
+    }
+
     /**
      * Assert response body contains text
      * @param response Response object
@@ -95,7 +114,7 @@ public class AssertionUtils {
      * @param jsonPath JSON path
      */
     public static void assertJsonPathExists(Response response, String jsonPath) {
-        Object value = response.jsonPath().get(jsonPath);
+        Object value = jsonPathValue(response, jsonPath);
         Assert.assertNotNull(value, "JSON path not found: " + jsonPath);
     }
 
@@ -106,9 +125,149 @@ public class AssertionUtils {
      * @param expectedValue Expected value
      */
     public static void assertJsonPathValue(Response response, String jsonPath, Object expectedValue) {
-        Object actualValue = response.jsonPath().get(jsonPath);
+        Object actualValue = jsonPathValue(response, jsonPath);
         Assert.assertEquals(actualValue, expectedValue,
                 "JSON path value mismatch for " + jsonPath);
     }
-}
 
+    /**
+     * Assert several JSON path values in one pass over the body, reporting every mismatch
+     * @param response Response object
+     * @param expectedValues Expected value per JSON path
+     */
+    public static void assertJsonPathValues(Response response, Map<String, ?> expectedValues) {
+        List<String> paths = new ArrayList<>(expectedValues.keySet());
+        assertPathValues(paths, PathSet.of(paths).extract(response), expectedValues);
+    }
+
+    /**
+     * Assert several JSON paths exist in one pass over the body, reporting every missing path
+     * @param response Response object
+     * @param jsonPaths JSON paths
+     */
+    public static void assertJsonPathsExist(Response response, String... jsonPaths) {
+        assertPathsExist(jsonPaths, PathSet.of(jsonPaths).extract(response));
+    }
+
+    /**
+     * Assert status code of a typed result
+     * @param result Typed result
+     * @param expectedStatusCode Expected status code
+     */
+    public static void assertStatusCode(ApiResult<?> result, int expectedStatusCode) {
+        assertStatusCode(result.getResponse(), expectedStatusCode);
+    }
+
+    /**
+     * Assert response time of a typed result
+     * @param result Typed result
+     * @param maxTimeInMillis Maximum allowed time in milliseconds
+     */
+    public static void assertResponseTime(ApiResult<?> result, long maxTimeInMillis) {
+        assertResponseTime(result.getResponse(), maxTimeInMillis);
+    }
+
+    /**
+     * Assert response time of a typed result is within the response.time.max.ms ceiling
+     * @param result Typed result
+     */
+    public static void assertResponseTime(ApiResult<?> result) {
+        assertResponseTime(result.getResponse());
+    }
+
+    /**
+     * Assert content type of a typed result
+     * @param result Typed result
+     * @param expectedContentType Expected content type
+     */
+    public static void assertContentType(ApiResult<?> result, String expectedContentType) {
+        assertContentType(result.getResponse(), expectedContentType);
+    }
+
+    /**
+     * Assert JSON path exists, reading the result's memoized tree
+     * @param result Typed result
+     * @param jsonPath JSON path
+     */
+    public static void assertJsonPathExists(ApiResult<?> result, String jsonPath) {
+        Assert.assertNotNull(result.path(jsonPath), "JSON path not found: " + jsonPath);
+    }
+
+    /**
+     * Assert JSON path value, reading the result's memoized tree
+     * @param result Typed result
+     * @param jsonPath JSON path
+     * @param expectedValue Expected value
+     */
+    public static void assertJsonPathValue(ApiResult<?> result, String jsonPath, Object expectedValue) {
+        Assert.assertEquals(result.path(jsonPath), expectedValue,
+                "JSON path value mismatch for " + jsonPath);
+    }
+
+    /**
+     * Assert several JSON path values of a typed result in one pass, reporting every mismatch
+     * @param result Typed result
+     * @param expectedValues Expected value per JSON path
+     */
+    public static void assertJsonPathValues(ApiResult<?> result, Map<String, ?> expectedValues) {
+        List<String> paths = new ArrayList<>(expectedValues.keySet());
+        assertPathValues(paths, result.paths(PathSet.of(paths)), expectedValues);
+    }
+
+    /**
+     * Assert several JSON paths of a typed result exist in one pass, reporting every missing path
+     * @param result Typed result
+     * @param jsonPaths JSON paths
+     */
+    public static void assertJsonPathsExist(ApiResult<?> result, String... jsonPaths) {
+        assertPathsExist(jsonPaths, result.paths(PathSet.of(jsonPaths)));
+    }
+
+    /**
+     * Assert a run did not regress against its baseline
+     * @param report Regression gate report
+     */
+    public static void assertNoRegression(RegressionReport report) {
+        Assert.assertFalse(report.hasRegressions(), report.summary());
+    }
+
+    /**
+     * Assert no latency objective spent more than its error budget over the run
+     * @param report SLO report
+     */
+    public static void assertSloMet(SloReport report) {
+        Assert.assertFalse(report.hasBreaches(), report.summary());
+    }
+
+    /**
+     * Evaluate one path: compiled and streamed when possible, Groovy JsonPath otherwise
+     */
+    private static Object jsonPathValue(Response response, String jsonPath) {
+        if (!CompiledPath.compile(jsonPath).isSupported()) {
+            return response.jsonPath().get(jsonPath);
+        }
+        return PathSet.of(jsonPath).extract(response.asByteArray())[0];
+    }
+
+    private static void assertPathValues(List<String> paths, Object[] actualValues, Map<String, ?> expectedValues) {
+        StringBuilder mismatches = new StringBuilder();
+        for (int i = 0; i < actualValues.length; i++) {
+            Object expectedValue = expectedValues.get(paths.get(i));
+            if (!Objects.equals(actualValues[i], expectedValue)) {
+                mismatches.append(String.format("%n  %s: expected [%s] but found [%s]",
+                        paths.get(i), expectedValue, actualValues[i]));
+            }
+        }
+        Assert.assertTrue(mismatches.length() == 0, "JSON path value mismatch:" + mismatches);
+    }
+
+    private static void assertPathsExist(String[] paths, Object[] actualValues) {
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < actualValues.length; i++) {
+            if (actualValues[i] == null) {
+                missing.add(paths[i]);
+            }
+        }
+        Assert.assertTrue(missing.isEmpty(), "JSON paths not found: " + missing);
+    }
+}
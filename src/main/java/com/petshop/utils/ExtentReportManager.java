@@ -15,7 +15,7 @@ import java.io.File;
  */
 public class ExtentReportManager {
 
-    private static ExtentReports extent;
+    private static volatile ExtentReports extent;
     private static ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
 
     private ExtentReportManager() {
@@ -24,8 +24,9 @@ public class ExtentReportManager {
 
     /**
      * Initialize Extent Reports
+     * Called on first use if not done earlier
      */
-    public static void initReports() {
+    public static synchronized void initReports() {
         if (extent == null) {
             String reportPath = ConfigFactory.getConfig().reportPath();
             String reportName = ConfigFactory.getConfig().reportName();
@@ -58,6 +59,9 @@ public class ExtentReportManager {
      * @param description Test description
      */
     public static void createTest(String testName, String description) {
+        if (extent == null) {
+            initReports();
+        }
         ExtentTest test = extent.createTest(testName, description);
         extentTest.set(test);
     }
@@ -75,7 +79,7 @@ public class ExtentReportManager {
      * @param message Message to log
      */
     public static void logInfo(String message) {
-        getTest().log(Status.INFO, message);
+        log(Status.INFO, message);
     }
 
     /**
@@ -83,7 +87,7 @@ public class ExtentReportManager {
      * @param message Message to log
      */
     public static void logPass(String message) {
-        getTest().log(Status.PASS, message);
+        log(Status.PASS, message);
     }
 
     /**
@@ -91,7 +95,7 @@ public class ExtentReportManager {
      * @param message Message to log
      */
     public static void logFail(String message) {
-        getTest().log(Status.FAIL, message);
+        log(Status.FAIL, message);
     }
 
     /**
@@ -99,7 +103,7 @@ public class ExtentReportManager {
      * @param message Message to log
      */
     public static void logSkip(String message) {
-        getTest().log(Status.SKIP, message);
+        log(Status.SKIP, message);
     }
 
     /**
@@ -107,7 +111,17 @@ public class ExtentReportManager {
      * @param message Message to log
      */
     public static void logWarning(String message) {
-        getTest().log(Status.WARNING, message);
+        log(Status.WARNING, message);
+    }
+
+    /**
+     * Log to the current thread's test; dropped when the thread has none, as for aggregated data-driven rows
+     */
+    private static void log(Status status, String message) {
+        ExtentTest test = extentTest.get();
+        if (test != null) {
+            test.log(status, message);
+        }
     }
 
     /**
@@ -1,12 +1,22 @@
 package com.petshop.utils;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.petshop.api.payloads.compact.CompactSerializers;
 import io.restassured.response.Response;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * JSON Utility class for JSON operations
@@ -14,21 +24,61 @@ import java.io.IOException;
  */
 public class JsonUtils {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper()
-            .enable(SerializationFeature.INDENT_OUTPUT);
-
     private JsonUtils() {
         // Private constructor to prevent instantiation
     }
 
     /**
-     * Convert object to JSON string
+     * ObjectMapper created on first use
+     */
+    private static final class MapperHolder {
+        private static final ObjectMapper MAPPER = createMapper();
+        private static final ObjectWriter PRETTY_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+    }
+
+    /**
+     * Build the shared ObjectMapper ahead of the first conversion
+     */
+    public static void preload() {
+        MapperHolder.MAPPER.getTypeFactory();
+    }
+
+    /**
+     * Get the shared ObjectMapper, also used by RestAssured for request and response bodies
+     * @return ObjectMapper
+     */
+    public static ObjectMapper getMapper() {
+        return MapperHolder.MAPPER;
+    }
+
+    /**
+     * Create an ObjectMapper tuned for the payload classes
+     * Blackbird replaces reflective getter/setter calls with generated lambdas, the payloads'
+     * NON_NULL / ignoreUnknown annotations become mapper defaults, and features the suite never
+     * relies on (source snippets in error locations, empty-bean checks) are switched off.
+     * Compact payloads serialize through their hand-written serializers.
+     * @return New ObjectMapper
+     */
+    public static ObjectMapper createMapper() {
+        return JsonMapper.builder()
+                .addModule(new BlackbirdModule())
+                .addModule(CompactSerializers.module())
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION)
+                .disable(MapperFeature.USE_GETTERS_AS_SETTERS)
+                .build();
+    }
+
+    /**
+     * Convert object to compact JSON string
      * @param object Object to convert
      * @return JSON string
      */
     public static String toJsonString(Object object) {
         try {
-            return objectMapper.writeValueAsString(object);
+            return MapperHolder.MAPPER.writeValueAsString(object);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to convert object to JSON", e);
         }
@@ -43,7 +93,7 @@ public class JsonUtils {
      */
     public static <T> T fromJsonString(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return MapperHolder.MAPPER.readValue(json, clazz);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to convert JSON to object", e);
         }
@@ -69,7 +119,7 @@ public class JsonUtils {
      */
     public static <T> T readFromFile(String filePath, Class<T> clazz) {
         try {
-            return objectMapper.readValue(new File(filePath), clazz);
+            return MapperHolder.MAPPER.readValue(new File(filePath), clazz);
         } catch (IOException e) {
             throw new RuntimeException("Failed to read JSON from file: " + filePath, e);
         }
@@ -82,7 +132,7 @@ public class JsonUtils {
      */
     public static void writeToFile(Object object, String filePath) {
         try {
-            objectMapper.writeValue(new File(filePath), object);
+            MapperHolder.PRETTY_WRITER.writeValue(new File(filePath), object);
         } catch (IOException e) {
             throw new RuntimeException("Failed to write object to file: " + filePath, e);
         }
@@ -95,11 +145,23 @@ public class JsonUtils {
      */
     public static String prettyPrint(String json) {
         try {
-            Object jsonObject = objectMapper.readValue(json, Object.class);
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonObject);
+            Object jsonObject = MapperHolder.MAPPER.readValue(json, Object.class);
+            return MapperHolder.PRETTY_WRITER.writeValueAsString(jsonObject);
         } catch (JsonProcessingException e) {
             return json;
         }
     }
-}
 
+    /**
+     * Pretty print an already parsed JSON tree
+     * @param tree JSON tree
+     * @return Pretty printed JSON
+     */
+    public static String prettyPrint(JsonNode tree) {
+        try {
+            return MapperHolder.PRETTY_WRITER.writeValueAsString(tree);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to print JSON tree", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.petshop.utils;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Warms expensive singletons off the main thread
+ * Faker locale data, the Jackson ObjectMapper and Extent reports are each built lazily on first use;
+ * preloading them in parallel lets the first request start while they load.
+ */
+public class StartupPreloader {
+
+    private StartupPreloader() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Start loading the lazy singletons on background threads
+     * @return Future completing when all of them are loaded
+     */
+    public static CompletableFuture<Void> preloadAsync() {
+        return CompletableFuture.allOf(
+                runDaemon("preload-faker", TestDataGenerator::preload),
+                runDaemon("preload-jackson", JsonUtils::preload),
+                runDaemon("preload-extent", ExtentReportManager::initReports));
+    }
+
+    private static CompletableFuture<Void> runDaemon(String name, Runnable task) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                task.run();
+                future.complete(null);
+            } catch (RuntimeException e) {
+                LoggerUtil.warn("Preloading " + name + " failed: " + e.getMessage());
+                future.completeExceptionally(e);
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+        return future;
+    }
+}
@@ -18,13 +18,30 @@ import java.util.Random;
  */
 public class TestDataGenerator {
 
-    private static final Faker faker = new Faker();
     private static final Random random = new Random();
 
     private TestDataGenerator() {
         // Private constructor to prevent instantiation
     }
 
+    /**
+     * Faker loads its YAML locale data on construction, so it is created on first use
+     */
+    private static final class FakerHolder {
+        private static final Faker FAKER = new Faker();
+    }
+
+    private static Faker faker() {
+        return FakerHolder.FAKER;
+    }
+
+    /**
+     * Load Faker's locale data ahead of the first generate call
+     */
+    public static void preload() {
+        faker().name().firstName();
+    }
+
     /**
      * Generate random Pet object
      * @return Pet object
@@ -32,19 +49,20 @@ public class TestDataGenerator {
     public static Pet generatePet() {
         return Pet.builder()
                 .id(generateRandomId())
-                .name(faker.animal().name())
+                .name(faker().animal().name())
                 .category(Pet.Category.builder()
                         .id(generateRandomId())
-                        .name(faker.animal().genus())
+                        // javafaker 1.0.2 has no Animal.genus(), only name()
+                        .name(faker().animal().name())
                         .build())
                 .photoUrls(Arrays.asList(
-                        faker.internet().image(),
-                        faker.internet().image()
+                        faker().internet().image(),
+                        faker().internet().image()
                 ))
                 .tags(Arrays.asList(
                         Pet.Tag.builder()
                                 .id(generateRandomId())
-                                .name(faker.lorem().word())
+                                .name(faker().lorem().word())
                                 .build()
                 ))
                 .status(getRandomPetStatus())
@@ -80,12 +98,12 @@ public class TestDataGenerator {
     public static User generateUser() {
         return User.builder()
                 .id(generateRandomId())
-                .username(faker.name().username())
-                .firstName(faker.name().firstName())
-                .lastName(faker.name().lastName())
-                .email(faker.internet().emailAddress())
-                .password(faker.internet().password(8, 12))
-                .phone(faker.phoneNumber().phoneNumber())
+                .username(faker().name().username())
+                .firstName(faker().name().firstName())
+                .lastName(faker().name().lastName())
+                .email(faker().internet().emailAddress())
+                .password(faker().internet().password(8, 12))
+                .phone(faker().phoneNumber().phoneNumber())
                 .userStatus(random.nextInt(3))
                 .build();
     }
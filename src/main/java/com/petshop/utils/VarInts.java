@@ -0,0 +1,47 @@
+package com.petshop.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Unsigned LEB128 variable-length integers for the binary log formats
+ * Follows Single Responsibility Principle - Handles only varint encoding
+ */
+public class VarInts {
+
+    private VarInts() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Write a non-negative value in 1 to 10 bytes, 7 bits per byte
+     * @param out Output stream
+     * @param value Value
+     * @throws IOException If the stream fails
+     */
+    public static void write(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Read a value written by write
+     * @param in Buffer positioned at the value
+     * @return Value
+     */
+    public static long read(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+}
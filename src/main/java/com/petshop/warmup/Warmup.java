@@ -0,0 +1,149 @@
+package com.petshop.warmup;
+
+import com.petshop.api.endpoints.PetEndpoint;
+import com.petshop.api.endpoints.StoreEndpoint;
+import com.petshop.api.endpoints.UserEndpoint;
+import com.petshop.api.payloads.Order;
+import com.petshop.api.payloads.Pet;
+import com.petshop.api.payloads.User;
+import com.petshop.utils.JsonUtils;
+import com.petshop.utils.LoggerUtil;
+import com.petshop.utils.TestDataGenerator;
+import io.restassured.response.Response;
+
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Warmup stage run before the measured tests
+ * Loads and JIT-compiles the serialization paths of every payload class, resolves and connects
+ * to base.url (including the TLS handshake) and sends throwaway calls to every endpoint.
+ * While it runs, MetricsFilter records into separate warmup metrics.
+ */
+public class Warmup {
+
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+
+    private static volatile boolean running;
+
+    private Warmup() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check whether the warmup stage is in progress
+     * @return true while warming up
+     */
+    public static boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Run the warmup stage
+     * @param baseUrl Base URL of the API
+     * @param iterations Throwaway calls per endpoint
+     * @param connections Connections to open to the base URL host
+     * @return Warmup report
+     */
+    public static WarmupReport run(String baseUrl, int iterations, int connections) {
+        WarmupReport report = new WarmupReport();
+        running = true;
+        try {
+            long start = System.nanoTime();
+            warmSerialization(iterations);
+            report.setSerializationMs(elapsedMs(start));
+
+            start = System.nanoTime();
+            warmConnections(URI.create(baseUrl), connections);
+            report.setConnectMs(elapsedMs(start));
+
+            start = System.nanoTime();
+            warmEndpoints(report, iterations);
+            report.setCallsMs(elapsedMs(start));
+        } finally {
+            running = false;
+        }
+        return report;
+    }
+
+    private static void warmSerialization(int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            JsonUtils.fromJsonString(JsonUtils.toJsonString(TestDataGenerator.generatePet()), Pet.class);
+            JsonUtils.fromJsonString(JsonUtils.toJsonString(TestDataGenerator.generateUser()), User.class);
+            JsonUtils.fromJsonString(JsonUtils.toJsonString(TestDataGenerator.generateOrder()), Order.class);
+        }
+    }
+
+    private static void warmConnections(URI baseUri, int connections) {
+        boolean secure = "https".equalsIgnoreCase(baseUri.getScheme());
+        int port = baseUri.getPort() != -1 ? baseUri.getPort() : (secure ? 443 : 80);
+        try {
+            InetAddress address = InetAddress.getByName(baseUri.getHost());
+            for (int i = 0; i < connections; i++) {
+                try (Socket socket = new Socket()) {
+                    socket.connect(new InetSocketAddress(address, port), CONNECT_TIMEOUT_MS);
+                    if (secure) {
+                        handshake(socket, baseUri.getHost(), port);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LoggerUtil.warn("Warmup connection to " + baseUri + " failed: " + e.getMessage());
+        }
+    }
+
+    private static void handshake(Socket socket, String host, int port) throws IOException {
+        SSLSocketFactory factory = (SSLSocketFactory) SSLSocketFactory.getDefault();
+        try (SSLSocket sslSocket = (SSLSocket) factory.createSocket(socket, host, port, false)) {
+            sslSocket.startHandshake();
+        }
+    }
+
+    private static void warmEndpoints(WarmupReport report, int iterations) {
+        PetEndpoint petEndpoint = new PetEndpoint();
+        StoreEndpoint storeEndpoint = new StoreEndpoint();
+        UserEndpoint userEndpoint = new UserEndpoint();
+
+        for (int i = 0; i < iterations; i++) {
+            Pet pet = TestDataGenerator.generatePet();
+            call(report, "POST /pet", () -> petEndpoint.create(pet));
+            call(report, "GET /pet/{petId}", () -> petEndpoint.getById(pet.getId()));
+            call(report, "GET /pet/findByStatus", () -> petEndpoint.findByStatus("available"));
+            call(report, "DELETE /pet/{petId}", () -> petEndpoint.delete(pet.getId()));
+
+            Order order = TestDataGenerator.generateOrder();
+            call(report, "POST /store/order", () -> storeEndpoint.create(order));
+            call(report, "GET /store/order/{orderId}", () -> storeEndpoint.getById(order.getId()));
+            call(report, "GET /store/inventory", storeEndpoint::getInventory);
+            call(report, "DELETE /store/order/{orderId}", () -> storeEndpoint.delete(order.getId()));
+
+            User user = TestDataGenerator.generateUser();
+            call(report, "POST /user", () -> userEndpoint.create(user));
+            call(report, "GET /user/{username}", () -> userEndpoint.getById(user.getUsername()));
+            call(report, "GET /user/login", () -> userEndpoint.login(user.getUsername(), user.getPassword()));
+            call(report, "DELETE /user/{username}", () -> userEndpoint.delete(user.getUsername()));
+        }
+    }
+
+    private static void call(WarmupReport report, String name, Supplier<Response> request) {
+        long start = System.nanoTime();
+        try {
+            request.get().asByteArray();
+            report.recordCall(name, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            report.recordFailure();
+            LoggerUtil.debug("Warmup call " + name + " failed: " + e.getMessage());
+        }
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
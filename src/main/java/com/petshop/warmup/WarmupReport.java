@@ -0,0 +1,68 @@
+package com.petshop.warmup;
+
+import com.petshop.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timings of the warmup stage, kept apart from the measured run
+ */
+public class WarmupReport {
+
+    private final Map<String, LatencyHistogram> calls = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> firstCallMicros = new ConcurrentHashMap<>();
+    private final AtomicInteger failures = new AtomicInteger();
+    private long serializationMs;
+    private long connectMs;
+    private long callsMs;
+
+    void recordCall(String name, long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        firstCallMicros.putIfAbsent(name, micros);
+        calls.computeIfAbsent(name, k -> new LatencyHistogram()).recordMicros(micros);
+    }
+
+    void recordFailure() {
+        failures.incrementAndGet();
+    }
+
+    void setSerializationMs(long serializationMs) {
+        this.serializationMs = serializationMs;
+    }
+
+    void setConnectMs(long connectMs) {
+        this.connectMs = connectMs;
+    }
+
+    void setCallsMs(long callsMs) {
+        this.callsMs = callsMs;
+    }
+
+    public Map<String, LatencyHistogram> getCalls() {
+        return calls;
+    }
+
+    public int getFailures() {
+        return failures.get();
+    }
+
+    public long getTotalMs() {
+        return serializationMs + connectMs + callsMs;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format(
+                "Warmup %d ms (serialization %d ms, connections %d ms, calls %d ms), %d failed calls%n",
+                getTotalMs(), serializationMs, connectMs, callsMs, failures.get()));
+        for (Map.Entry<String, LatencyHistogram> entry : calls.entrySet()) {
+            sb.append(String.format("  %-28s first=%.1fms %s%n", entry.getKey(),
+                    firstCallMicros.get(entry.getKey()) / 1000.0, entry.getValue().summary()));
+        }
+        return sb.toString().trim();
+    }
+}
@@ -0,0 +1,113 @@
+package com.petshop.workflow;
+
+import com.petshop.utils.LoggerUtil;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Runs the same workflow against several environments on one shared load schedule
+ * Instances are started open-loop at a fixed rate: every tick starts instance i in every environment at
+ * the same moment, each environment on its own pool of concurrency threads. An environment that cannot
+ * keep up falls behind the schedule without slowing the others down, which shows as lower throughput
+ * and higher schedule latency (intended start to completion) in the FanOutReport.
+ */
+public class FanOutEngine {
+
+    private final int concurrency;
+    private final double rate;
+
+    /**
+     * @param concurrency Threads per environment
+     * @param rate Workflow instances started per second in each environment
+     */
+    public FanOutEngine(int concurrency, double rate) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        if (!(rate > 0)) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        this.concurrency = concurrency;
+        this.rate = rate;
+    }
+
+    /**
+     * Start instances at the configured rate until the duration has elapsed, then wait for the
+     * instances in progress in every environment
+     * @param workflows Builds the workflow for a base URI, e.g. uri -&gt; PetStoreWorkflows.byName(name, uri)
+     * @param environments Environments; the first one is the baseline of the comparison
+     * @param duration How long to keep starting instances
+     * @return FanOutReport
+     */
+    public FanOutReport run(Function<String, Workflow> workflows, List<TargetEnvironment> environments,
+                            Duration duration) {
+        if (environments.isEmpty()) {
+            throw new IllegalArgumentException("No environments to run against");
+        }
+        WorkflowEngine engine = new WorkflowEngine(concurrency);
+        List<Workflow> definitions = new ArrayList<>();
+        List<FanOutReport.EnvironmentResult> results = new ArrayList<>();
+        List<ExecutorService> pools = new ArrayList<>();
+        String workflowName = null;
+        for (TargetEnvironment environment : environments) {
+            // Distinct names keep the per-step metrics of each environment apart
+            Workflow workflow = workflows.apply(environment.getBaseUri());
+            workflowName = workflowName == null ? workflow.getName() : workflowName;
+            Workflow named = workflow.withName(workflow.getName() + "@" + environment.getName());
+            definitions.add(named);
+            results.add(new FanOutReport.EnvironmentResult(environment, new WorkflowReport(named)));
+            pools.add(Executors.newFixedThreadPool(concurrency));
+        }
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        int scheduled = 0;
+        for (long tick = start; tick - deadline < 0; tick += interval) {
+            long wait = tick - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                pools.forEach(ExecutorService::shutdownNow);
+                throw new IllegalStateException("Fan-out run interrupted");
+            }
+            int instanceId = scheduled++;
+            long intendedStart = tick;
+            for (int i = 0; i < results.size(); i++) {
+                Workflow workflow = definitions.get(i);
+                FanOutReport.EnvironmentResult result = results.get(i);
+                pools.get(i).execute(() -> {
+                    engine.runInstance(workflow, new WorkflowContext(instanceId), result.getWorkflowReport());
+                    result.recordCompletion(intendedStart);
+                });
+            }
+        }
+
+        for (ExecutorService pool : pools) {
+            pool.shutdown();
+        }
+        try {
+            for (ExecutorService pool : pools) {
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            pools.forEach(ExecutorService::shutdownNow);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fan-out run interrupted", e);
+        }
+        for (FanOutReport.EnvironmentResult result : results) {
+            result.finish(start);
+        }
+        FanOutReport report = new FanOutReport(workflowName, rate, scheduled, results);
+        LoggerUtil.info("Fan-out report:\n" + report);
+        return report;
+    }
+}
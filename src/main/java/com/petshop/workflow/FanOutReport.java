@@ -0,0 +1,229 @@
+package com.petshop.workflow;
+
+import com.petshop.metrics.LatencyHistogram;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Side-by-side outcome of a FanOutEngine run: throughput and latency per environment and per step
+ * The first environment is the baseline; the others are compared to it by median latency.
+ */
+public class FanOutReport {
+
+    private static final String CSV_HEADER =
+            "environment,base_uri,step,passed,failed,throughput_per_s,p50_ms,p95_ms,p99_ms,max_ms,p50_vs_baseline";
+    private static final String INSTANCE_ROW = "instance";
+    private static final int CELL_WIDTH = 26;
+
+    private final String workflowName;
+    private final double rate;
+    private final int scheduledInstances;
+    private final List<EnvironmentResult> environments;
+
+    FanOutReport(String workflowName, double rate, int scheduledInstances, List<EnvironmentResult> environments) {
+        this.workflowName = workflowName;
+        this.rate = rate;
+        this.scheduledInstances = scheduledInstances;
+        this.environments = Collections.unmodifiableList(environments);
+    }
+
+    public String getWorkflowName() {
+        return workflowName;
+    }
+
+    /**
+     * Get the number of instances started in each environment
+     * @return Scheduled instances
+     */
+    public int getScheduledInstances() {
+        return scheduledInstances;
+    }
+
+    public List<EnvironmentResult> getEnvironments() {
+        return environments;
+    }
+
+    public EnvironmentResult getBaseline() {
+        return environments.get(0);
+    }
+
+    /**
+     * Write one row per environment and step, plus one "instance" row per environment, as CSV
+     * @param file Target file
+     */
+    public void writeCsv(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write(CSV_HEADER);
+                writer.newLine();
+                for (EnvironmentResult result : environments) {
+                    WorkflowReport report = result.getWorkflowReport();
+                    writer.write(csvRow(result, INSTANCE_ROW, report.getInstancesPassed(),
+                            report.getInstancesFailed(), result.getScheduleLatency(),
+                            getBaseline().getScheduleLatency()));
+                    writer.newLine();
+                    for (WorkflowReport.StepStats stats : report.getSteps()) {
+                        writer.write(csvRow(result, stats.getName(), stats.getSuccesses(), stats.getFailures(),
+                                stats.getLatency(), getBaseline().stepLatency(stats.getName())));
+                        writer.newLine();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write fan-out results: " + file, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        EnvironmentResult baseline = getBaseline();
+        sb.append(String.format("Fan-out %s: %d instances per environment at %.1f/s, baseline %s%n",
+                workflowName, scheduledInstances, rate, baseline.getEnvironment().getName()));
+        sb.append(String.format("%-16s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "Environment", "Passed", "Failed", "Inst/s", "Req/s", "p50 ms", "p95 ms", "p99 ms", "vs base"));
+        for (EnvironmentResult result : environments) {
+            WorkflowReport report = result.getWorkflowReport();
+            LatencyHistogram latency = result.getScheduleLatency();
+            sb.append(String.format("%-16s %8d %8d %9.1f %9.1f %9.1f %9.1f %9.1f %9s%n",
+                    result.getEnvironment().getName(), report.getInstancesPassed(), report.getInstancesFailed(),
+                    report.getThroughput(), result.getRequestsPerSecond(),
+                    millis(latency, 50), millis(latency, 95), millis(latency, 99),
+                    ratio(latency, baseline.getScheduleLatency())));
+        }
+        sb.append("Instance latency runs from the scheduled start, so it includes time queued in the environment")
+                .append(System.lineSeparator()).append(System.lineSeparator());
+
+        sb.append(String.format("%-20s", "Step p50 / p99 ms"));
+        for (EnvironmentResult result : environments) {
+            sb.append(String.format("%" + CELL_WIDTH + "s", result.getEnvironment().getName()));
+        }
+        sb.append(System.lineSeparator());
+        for (WorkflowReport.StepStats baselineStats : baseline.getWorkflowReport().getSteps()) {
+            String step = baselineStats.getName();
+            sb.append(String.format("%-20s", step));
+            for (EnvironmentResult result : environments) {
+                LatencyHistogram latency = result.stepLatency(step);
+                String cell = String.format("%.1f / %.1f", millis(latency, 50), millis(latency, 99));
+                if (result != baseline) {
+                    cell += " (" + ratio(latency, baselineStats.getLatency()) + ")";
+                }
+                sb.append(String.format("%" + CELL_WIDTH + "s", cell));
+            }
+            sb.append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    private String csvRow(EnvironmentResult result, String step, long passed, long failed,
+                          LatencyHistogram latency, LatencyHistogram baselineLatency) {
+        double seconds = result.getWorkflowReport().getElapsedSeconds();
+        double throughput = seconds == 0 ? 0 : (passed + failed) / seconds;
+        return String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%s",
+                result.getEnvironment().getName(), result.getEnvironment().getBaseUri(), step, passed, failed,
+                throughput, millis(latency, 50), millis(latency, 95), millis(latency, 99),
+                latency.getMaxMicros() / 1000.0, ratioValue(latency, baselineLatency));
+    }
+
+    private static double millis(LatencyHistogram latency, double percentile) {
+        return latency.getPercentileMicros(percentile) / 1000.0;
+    }
+
+    private static String ratio(LatencyHistogram latency, LatencyHistogram baseline) {
+        String value = ratioValue(latency, baseline);
+        return value.isEmpty() ? "-" : value + "x";
+    }
+
+    /**
+     * Median latency relative to the baseline's, empty when either side has no observations
+     */
+    private static String ratioValue(LatencyHistogram latency, LatencyHistogram baseline) {
+        long base = baseline.getPercentileMicros(50);
+        if (latency.getCount() == 0 || baseline.getCount() == 0 || base == 0) {
+            return "";
+        }
+        return String.format(Locale.ROOT, "%.2f", (double) latency.getPercentileMicros(50) / base);
+    }
+
+    /**
+     * Results of one environment
+     */
+    public static final class EnvironmentResult {
+        private final TargetEnvironment environment;
+        private final WorkflowReport workflowReport;
+        private final LatencyHistogram scheduleLatency = new LatencyHistogram();
+        private final LongAccumulator lastCompletion = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        EnvironmentResult(TargetEnvironment environment, WorkflowReport workflowReport) {
+            this.environment = environment;
+            this.workflowReport = workflowReport;
+        }
+
+        void recordCompletion(long intendedStartNanos) {
+            long now = System.nanoTime();
+            scheduleLatency.record(now - intendedStartNanos, TimeUnit.NANOSECONDS);
+            lastCompletion.accumulate(now);
+        }
+
+        /**
+         * Close the run: elapsed time ends with this environment's last completed instance
+         */
+        void finish(long startNanos) {
+            long last = lastCompletion.get();
+            workflowReport.setElapsedNanos(last == Long.MIN_VALUE ? 0 : last - startNanos);
+        }
+
+        public TargetEnvironment getEnvironment() {
+            return environment;
+        }
+
+        public WorkflowReport getWorkflowReport() {
+            return workflowReport;
+        }
+
+        /**
+         * Get the latency of whole instances from their scheduled start to completion
+         * @return LatencyHistogram
+         */
+        public LatencyHistogram getScheduleLatency() {
+            return scheduleLatency;
+        }
+
+        /**
+         * Get completed step calls per second
+         * @return Requests per second
+         */
+        public double getRequestsPerSecond() {
+            double seconds = workflowReport.getElapsedSeconds();
+            if (seconds == 0) {
+                return 0;
+            }
+            long requests = 0;
+            for (WorkflowReport.StepStats stats : workflowReport.getSteps()) {
+                requests += stats.getSuccesses() + stats.getFailures();
+            }
+            return requests / seconds;
+        }
+
+        LatencyHistogram stepLatency(String step) {
+            for (WorkflowReport.StepStats stats : workflowReport.getSteps()) {
+                if (stats.getName().equals(step)) {
+                    return stats.getLatency();
+                }
+            }
+            return new LatencyHistogram();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.petshop.workflow;
+
+import com.petshop.api.endpoints.PetEndpoint;
+import com.petshop.api.endpoints.StoreEndpoint;
+import com.petshop.api.endpoints.UserEndpoint;
+import com.petshop.api.payloads.User;
+import com.petshop.utils.TestDataGenerator;
+
+/**
+ * Ready-made workflows for the Petstore API
+ */
+public class PetStoreWorkflows {
+
+    private PetStoreWorkflows() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Look up a ready-made workflow by its name
+     * @param name Workflow name, e.g. "user-pet-order"
+     * @return Workflow
+     */
+    public static Workflow byName(String name) {
+        return byName(name, null);
+    }
+
+    /**
+     * Look up a ready-made workflow by its name, calling another deployment than base.url
+     * @param name Workflow name, e.g. "user-pet-order"
+     * @param baseUri Base URI, or null to follow base.url
+     * @return Workflow
+     */
+    public static Workflow byName(String name, String baseUri) {
+        if ("user-pet-order".equals(name)) {
+            return userPetOrder(baseUri);
+        }
+        throw new IllegalArgumentException("Unknown workflow: " + name);
+    }
+
+    /**
+     * Create a user, log in, create a pet, place an order for it, check inventory, then clean up
+     * @return Workflow
+     */
+    public static Workflow userPetOrder() {
+        return userPetOrder(null);
+    }
+
+    /**
+     * The user-pet-order workflow against a given deployment
+     * @param baseUri Base URI, or null to follow base.url
+     * @return Workflow
+     */
+    public static Workflow userPetOrder(String baseUri) {
+        UserEndpoint userEndpoint = new UserEndpoint(baseUri);
+        PetEndpoint petEndpoint = new PetEndpoint(baseUri);
+        StoreEndpoint storeEndpoint = new StoreEndpoint(baseUri);
+
+        return Workflow.named("user-pet-order")
+                .step("createUser")
+                .call(ctx -> userEndpoint.create(ctx.put("user", TestDataGenerator.generateUser())))
+                .extract((ctx, response) -> ctx.put("username", ctx.<User>get("user").getUsername()))
+                .step("login")
+                .call(ctx -> {
+                    User user = ctx.get("user");
+                    return userEndpoint.login(user.getUsername(), user.getPassword());
+                })
+                .step("createPet")
+                .call(ctx -> petEndpoint.create(ctx.put("pet", TestDataGenerator.generatePet())))
+                .extract((ctx, response) -> ctx.put("petId", response.jsonPath().getLong("id")))
+                .step("placeOrder")
+                .call(ctx -> storeEndpoint.create(
+                        ctx.put("order", TestDataGenerator.generateOrderWithPetId(ctx.get("petId")))))
+                .extract((ctx, response) -> ctx.put("orderId", response.jsonPath().getLong("id")))
+                .step("checkInventory")
+                .call(ctx -> storeEndpoint.getInventory())
+                .cleanup("deleteOrder")
+                .onlyIf(ctx -> ctx.has("orderId"))
+                .call(ctx -> storeEndpoint.delete(ctx.<Long>get("orderId")))
+                .cleanup("deletePet")
+                .onlyIf(ctx -> ctx.has("petId"))
+                .call(ctx -> petEndpoint.delete(ctx.<Long>get("petId")))
+                .cleanup("deleteUser")
+                .onlyIf(ctx -> ctx.has("username"))
+                .call(ctx -> userEndpoint.delete(ctx.<String>get("username")))
+                .build();
+    }
+}
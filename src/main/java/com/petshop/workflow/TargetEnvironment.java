@@ -0,0 +1,65 @@
+package com.petshop.workflow;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A named deployment of the API that a fan-out run calls, e.g. qa=https://qa.example.com/v2
+ */
+public final class TargetEnvironment {
+
+    private final String name;
+    private final String baseUri;
+
+    public TargetEnvironment(String name, String baseUri) {
+        URI uri = URI.create(baseUri);
+        if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+            throw new IllegalArgumentException("Not an http(s) base URI for " + name + ": " + baseUri);
+        }
+        this.name = name;
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Parse a comma separated list of environments
+     * Entries are name=baseUri; an entry without a name is named after its URI.
+     * @param spec List, e.g. "qa=https://qa.example.com/v2,staging=https://staging.example.com/v2"
+     * @return Environments in the given order
+     */
+    public static List<TargetEnvironment> parseList(String spec) {
+        List<TargetEnvironment> environments = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf('=');
+            TargetEnvironment environment = separator < 0
+                    ? new TargetEnvironment(trimmed, trimmed)
+                    : new TargetEnvironment(trimmed.substring(0, separator).trim(),
+                            trimmed.substring(separator + 1).trim());
+            if (!names.add(environment.name)) {
+                throw new IllegalArgumentException("Duplicate environment: " + environment.name);
+            }
+            environments.add(environment);
+        }
+        return environments;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getBaseUri() {
+        return baseUri;
+    }
+
+    @Override
+    public String toString() {
+        return name + "=" + baseUri;
+    }
+}
@@ -0,0 +1,168 @@
+package com.petshop.workflow;
+
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Ordered chain of endpoint calls whose outputs feed later steps through a WorkflowContext
+ * Regular steps stop at the first failure; cleanup steps always run afterwards (subject to their guard).
+ * Follows Builder Pattern:
+ * <pre>
+ * Workflow.named("order-flow")
+ *         .step("createPet").call(ctx -&gt; petEndpoint.create(ctx.put("pet", generatePet())))
+ *         .step("placeOrder").call(ctx -&gt; storeEndpoint.create(...)).extract((ctx, r) -&gt; ...)
+ *         .cleanup("deletePet").onlyIf(ctx -&gt; ctx.has("pet")).call(...)
+ *         .build();
+ * </pre>
+ */
+public class Workflow {
+
+    private final String name;
+    private final List<Step> steps;
+    private final List<Step> cleanupSteps;
+
+    private Workflow(String name, List<Step> steps, List<Step> cleanupSteps) {
+        this.name = name;
+        this.steps = Collections.unmodifiableList(steps);
+        this.cleanupSteps = Collections.unmodifiableList(cleanupSteps);
+    }
+
+    public static Builder named(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Copy of this workflow under another name, sharing the same steps
+     * @param name New name, e.g. "user-pet-order@staging"
+     * @return Workflow
+     */
+    public Workflow withName(String name) {
+        return new Workflow(name, steps, cleanupSteps);
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    public List<Step> getCleanupSteps() {
+        return cleanupSteps;
+    }
+
+    /**
+     * A single endpoint call within a workflow
+     */
+    public static final class Step {
+        private final String name;
+        private Function<WorkflowContext, Response> action;
+        private int expectedStatus = 200;
+        private BiConsumer<WorkflowContext, Response> extractor = (ctx, response) -> { };
+        private Predicate<WorkflowContext> guard = ctx -> true;
+
+        private Step(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        boolean shouldRun(WorkflowContext ctx) {
+            return guard.test(ctx);
+        }
+
+        Response execute(WorkflowContext ctx) {
+            return action.apply(ctx);
+        }
+
+        boolean isSuccess(Response response) {
+            return response.getStatusCode() == expectedStatus;
+        }
+
+        int getExpectedStatus() {
+            return expectedStatus;
+        }
+
+        void extract(WorkflowContext ctx, Response response) {
+            extractor.accept(ctx, response);
+        }
+    }
+
+    /**
+     * Fluent builder; call(), expectStatus(), extract() and onlyIf() apply to the most recently added step
+     */
+    public static final class Builder {
+        private final String name;
+        private final List<Step> steps = new ArrayList<>();
+        private final List<Step> cleanupSteps = new ArrayList<>();
+        private Step current;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder step(String stepName) {
+            current = new Step(stepName);
+            steps.add(current);
+            return this;
+        }
+
+        public Builder cleanup(String stepName) {
+            current = new Step(stepName);
+            cleanupSteps.add(current);
+            return this;
+        }
+
+        public Builder call(Function<WorkflowContext, Response> action) {
+            currentStep().action = action;
+            return this;
+        }
+
+        public Builder expectStatus(int statusCode) {
+            currentStep().expectedStatus = statusCode;
+            return this;
+        }
+
+        public Builder extract(BiConsumer<WorkflowContext, Response> extractor) {
+            currentStep().extractor = extractor;
+            return this;
+        }
+
+        public Builder onlyIf(Predicate<WorkflowContext> guard) {
+            currentStep().guard = guard;
+            return this;
+        }
+
+        public Workflow build() {
+            for (Step step : steps) {
+                requireAction(step);
+            }
+            for (Step step : cleanupSteps) {
+                requireAction(step);
+            }
+            return new Workflow(name, new ArrayList<>(steps), new ArrayList<>(cleanupSteps));
+        }
+
+        private Step currentStep() {
+            if (current == null) {
+                throw new IllegalStateException("Call step() or cleanup() before configuring a step");
+            }
+            return current;
+        }
+
+        private static void requireAction(Step step) {
+            if (step.action == null) {
+                throw new IllegalStateException("Workflow step has no call(): " + step.name);
+            }
+        }
+    }
+}
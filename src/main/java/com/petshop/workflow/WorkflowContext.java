@@ -0,0 +1,53 @@
+package com.petshop.workflow;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-instance state passed from one workflow step to the next
+ * Each running workflow instance owns its own context, so steps never share mutable state.
+ */
+public class WorkflowContext {
+
+    private final int instanceId;
+    private final Map<String, Object> values = new HashMap<>();
+
+    public WorkflowContext(int instanceId) {
+        this.instanceId = instanceId;
+    }
+
+    public int getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Store a value for later steps
+     * @param key Key
+     * @param value Value
+     * @param <T> Value type
+     * @return The stored value, for inline use
+     */
+    public <T> T put(String key, T value) {
+        values.put(key, value);
+        return value;
+    }
+
+    /**
+     * Get a value produced by an earlier step
+     * @param key Key
+     * @param <T> Value type
+     * @return Value
+     * @throws IllegalStateException if no earlier step produced the key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) {
+        if (!values.containsKey(key)) {
+            throw new IllegalStateException("Workflow value not set: " + key);
+        }
+        return (T) values.get(key);
+    }
+
+    public boolean has(String key) {
+        return values.containsKey(key);
+    }
+}
@@ -0,0 +1,143 @@
+package com.petshop.workflow;
+
+import com.petshop.metrics.MetricsRegistry;
+import com.petshop.utils.LoggerUtil;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many independent instances of a Workflow concurrently on top of the endpoint classes
+ * Each instance executes its steps sequentially with its own WorkflowContext; instances run in parallel
+ * on a fixed pool. Per-step latency and outcomes go to a WorkflowReport and to the MetricsRegistry.
+ */
+public class WorkflowEngine {
+
+    private final int concurrency;
+
+    public WorkflowEngine(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Run a number of workflow instances and wait for all of them
+     * @param workflow Workflow definition
+     * @param instances Number of instances to run
+     * @return WorkflowReport
+     */
+    public WorkflowReport run(Workflow workflow, int instances) {
+        WorkflowReport report = new WorkflowReport(workflow);
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        for (int i = 0; i < instances; i++) {
+            int instanceId = i;
+            pool.execute(() -> runInstance(workflow, new WorkflowContext(instanceId), report));
+        }
+        return finish(workflow, pool, report, start);
+    }
+
+    /**
+     * Keep every worker thread starting new workflow instances until the duration has elapsed,
+     * then wait for the instances in progress
+     * @param workflow Workflow definition
+     * @param duration How long to keep starting instances
+     * @return WorkflowReport
+     */
+    public WorkflowReport runFor(Workflow workflow, Duration duration) {
+        WorkflowReport report = new WorkflowReport(workflow);
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        AtomicInteger instanceIds = new AtomicInteger();
+        for (int i = 0; i < concurrency; i++) {
+            pool.execute(() -> {
+                while (System.nanoTime() - deadline < 0 && !Thread.currentThread().isInterrupted()) {
+                    runInstance(workflow, new WorkflowContext(instanceIds.getAndIncrement()), report);
+                }
+            });
+        }
+        return finish(workflow, pool, report, start);
+    }
+
+    private WorkflowReport finish(Workflow workflow, ExecutorService pool, WorkflowReport report, long start) {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Workflow run interrupted: " + workflow.getName(), e);
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        LoggerUtil.info("Workflow report:\n" + report);
+        return report;
+    }
+
+    /**
+     * Run one instance: regular steps until the first failure, then all applicable cleanup steps
+     * @param workflow Workflow definition
+     * @param ctx Instance context
+     * @param report Report to record into
+     * @return true if every regular step succeeded
+     */
+    boolean runInstance(Workflow workflow, WorkflowContext ctx, WorkflowReport report) {
+        boolean success = runSteps(workflow, workflow.getSteps(), ctx, report, true);
+        runSteps(workflow, workflow.getCleanupSteps(), ctx, report, false);
+        report.recordInstance(success);
+        return success;
+    }
+
+    private boolean runSteps(Workflow workflow, List<Workflow.Step> steps, WorkflowContext ctx,
+                             WorkflowReport report, boolean stopOnFailure) {
+        boolean allPassed = true;
+        for (Workflow.Step step : steps) {
+            if (!step.shouldRun(ctx)) {
+                continue;
+            }
+            boolean passed = runStep(workflow, step, ctx, report);
+            allPassed &= passed;
+            if (!passed && stopOnFailure) {
+                return false;
+            }
+        }
+        return allPassed;
+    }
+
+    private boolean runStep(Workflow workflow, Workflow.Step step, WorkflowContext ctx, WorkflowReport report) {
+        long start = System.nanoTime();
+        boolean passed;
+        try {
+            Response response = step.execute(ctx);
+            passed = step.isSuccess(response);
+            if (passed) {
+                step.extract(ctx, response);
+            } else {
+                LoggerUtil.debug("Workflow " + workflow.getName() + "#" + ctx.getInstanceId() + " step "
+                        + step.getName() + " returned " + response.getStatusCode()
+                        + ", expected " + step.getExpectedStatus());
+            }
+        } catch (RuntimeException e) {
+            passed = false;
+            LoggerUtil.debug("Workflow " + workflow.getName() + "#" + ctx.getInstanceId() + " step "
+                    + step.getName() + " failed: " + e.getMessage());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        report.recordStep(step.getName(), passed, elapsed);
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.timer("petshop_workflow_step_duration_seconds", "Workflow step latency",
+                "workflow", workflow.getName(), "step", step.getName()).record(elapsed, TimeUnit.NANOSECONDS);
+        registry.counter("petshop_workflow_steps_total", "Workflow steps executed",
+                "workflow", workflow.getName(), "step", step.getName(), "outcome", passed ? "success" : "failure")
+                .increment();
+        return passed;
+    }
+}
@@ -0,0 +1,124 @@
+package com.petshop.workflow;
+
+import com.petshop.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated outcome of a WorkflowEngine run: instance success rate and per-step latency/success
+ */
+public class WorkflowReport {
+
+    private final String workflowName;
+    private final Map<String, StepStats> steps = new LinkedHashMap<>();
+    private final LongAdder instancesPassed = new LongAdder();
+    private final LongAdder instancesFailed = new LongAdder();
+    private volatile long elapsedNanos;
+
+    WorkflowReport(Workflow workflow) {
+        this.workflowName = workflow.getName();
+        // Pre-populate in definition order so the map is read-only while instances run
+        for (Workflow.Step step : workflow.getSteps()) {
+            steps.put(step.getName(), new StepStats(step.getName()));
+        }
+        for (Workflow.Step step : workflow.getCleanupSteps()) {
+            steps.put(step.getName(), new StepStats(step.getName()));
+        }
+    }
+
+    void recordStep(String stepName, boolean passed, long elapsedNanos) {
+        StepStats stats = steps.get(stepName);
+        (passed ? stats.successes : stats.failures).increment();
+        stats.latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordInstance(boolean passed) {
+        (passed ? instancesPassed : instancesFailed).increment();
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getWorkflowName() {
+        return workflowName;
+    }
+
+    public long getInstancesPassed() {
+        return instancesPassed.sum();
+    }
+
+    public long getInstancesFailed() {
+        return instancesFailed.sum();
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    /**
+     * Get completed workflow instances per second
+     * @return Instances per second
+     */
+    public double getThroughput() {
+        double seconds = getElapsedSeconds();
+        return seconds == 0 ? 0 : (getInstancesPassed() + getInstancesFailed()) / seconds;
+    }
+
+    public List<StepStats> getSteps() {
+        return new ArrayList<>(steps.values());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Workflow %s: %d passed, %d failed in %.2fs (%.1f instances/s)%n",
+                workflowName, getInstancesPassed(), getInstancesFailed(), getElapsedSeconds(), getThroughput()));
+        sb.append(String.format("%-20s %8s %8s %9s %9s %9s %9s%n",
+                "Step", "Success", "Failed", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (StepStats stats : steps.values()) {
+            sb.append(String.format("%-20s %8d %8d %9.1f %9.1f %9.1f %9.1f%n",
+                    stats.name, stats.getSuccesses(), stats.getFailures(),
+                    stats.latency.getPercentileMicros(50) / 1000.0,
+                    stats.latency.getPercentileMicros(95) / 1000.0,
+                    stats.latency.getPercentileMicros(99) / 1000.0,
+                    stats.latency.getMaxMicros() / 1000.0));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Success counts and latency distribution of one step
+     */
+    public static final class StepStats {
+        private final String name;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private StepStats(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSuccesses() {
+            return successes.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.petshop.api.filters;
+
+import com.petshop.api.payloads.compact.CompactJsonWriter;
+import com.petshop.api.payloads.compact.CompactPayloadGenerator;
+import com.petshop.api.payloads.compact.CompactUser;
+import com.petshop.api.specifications.RequestSpecifications;
+import com.petshop.cleanup.ResourceTracker;
+import com.petshop.cleanup.ResourceType;
+import com.petshop.config.ConfigFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * ResourceTrackingFilter Test Cases
+ * Runs against an in-process server, with the filter added explicitly so cleanup.enabled does not matter
+ */
+public class ResourceTrackingFilterTest {
+
+    private static final AtomicLong NEXT_PET_ID = new AtomicLong(5000);
+
+    private HttpServer server;
+    private String baseUri;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(ConfigFactory.getConfig().petEndpoint(), exchange -> {
+            String body = "DELETE".equals(exchange.getRequestMethod())
+                    ? "{\"code\":200}"
+                    : "{\"id\":" + NEXT_PET_ID.incrementAndGet() + ",\"name\":\"Rex\"}";
+            respond(exchange, body);
+        });
+        server.createContext(ConfigFactory.getConfig().userEndpoint(),
+                exchange -> respond(exchange, "{\"code\":200,\"type\":\"unknown\",\"message\":\"1\"}"));
+        server.start();
+        baseUri = "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test(description = "A user created from already serialized bytes is tracked by username")
+    public void testRawUserBodyIsTracked() {
+        CompactUser user = CompactPayloadGenerator.user();
+
+        Response response = request().body(CompactJsonWriter.toBytes(user)).post(userPath(""));
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertTrue(ResourceTracker.isTracked(baseUri, ResourceType.USER, user.getUsername()),
+                "Raw user body was not tracked");
+        ResourceTracker.untrack(baseUri, ResourceType.USER, user.getUsername());
+    }
+
+    @Test(description = "Every user in a createWithArray body is tracked")
+    public void testCreateWithArrayTracksEveryUser() {
+        // The generator refills one user per thread, so serialize each before generating the next
+        String[] usernames = new String[2];
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < usernames.length; i++) {
+            CompactUser user = CompactPayloadGenerator.user();
+            usernames[i] = user.getUsername();
+            body.append(i == 0 ? "" : ",").append(new String(CompactJsonWriter.toBytes(user), StandardCharsets.UTF_8));
+        }
+
+        request().body(body.append(']').toString()).post(userPath("/createWithArray"));
+
+        for (String username : usernames) {
+            Assert.assertTrue(ResourceTracker.isTracked(baseUri, ResourceType.USER, username),
+                    username + " was not tracked");
+            ResourceTracker.untrack(baseUri, ResourceType.USER, username);
+        }
+    }
+
+    @Test(description = "A user body that is not JSON is skipped without failing the request")
+    public void testMalformedUserBodyIsSkipped() {
+        int live = ResourceTracker.getLiveCount();
+
+        Response response = request().body("{not json").post(userPath(""));
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(ResourceTracker.getLiveCount(), live, "Malformed body should not be tracked");
+    }
+
+    @Test(description = "A pet is tracked by the id in the create response and untracked on delete")
+    public void testPetTrackedFromResponseId() {
+        Response created = request().body("{\"name\":\"Rex\"}").post(ConfigFactory.getConfig().petEndpoint());
+        String id = String.valueOf(created.jsonPath().getLong("id"));
+
+        Assert.assertTrue(ResourceTracker.isTracked(baseUri, ResourceType.PET, id), "Pet was not tracked");
+
+        request().delete(ConfigFactory.getConfig().petEndpoint() + "/" + id);
+
+        Assert.assertFalse(ResourceTracker.isTracked(baseUri, ResourceType.PET, id), "Deleted pet is still tracked");
+    }
+
+    private RequestSpecification request() {
+        return given()
+                .spec(RequestSpecifications.getCustomBaseUriSpec(baseUri))
+                .filter(new ResourceTrackingFilter());
+    }
+
+    private static String userPath(String suffix) {
+        return ConfigFactory.getConfig().userEndpoint() + suffix;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
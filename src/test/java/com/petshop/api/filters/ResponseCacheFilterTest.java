@@ -0,0 +1,139 @@
+package com.petshop.api.filters;
+
+import com.petshop.api.specifications.RequestSpecifications;
+import com.petshop.metrics.MetricsRegistry;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * ResponseCacheFilter Test Cases
+ * Runs against an in-process server that counts the requests reaching each path
+ */
+public class ResponseCacheFilterTest {
+
+    private static final AtomicInteger NEXT_PET_ID = new AtomicInteger(1000);
+
+    private final Map<String, AtomicInteger> served = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private String baseUri;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/pet", exchange -> {
+            served.computeIfAbsent(exchange.getRequestURI().getPath(), key -> new AtomicInteger()).incrementAndGet();
+            String apiKey = exchange.getRequestHeaders().getFirst("api_key");
+            byte[] body = ("{\"apiKey\":\"" + (apiKey == null ? "" : apiKey) + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/user", exchange -> {
+            served.computeIfAbsent(exchange.getRequestURI().getPath(), key -> new AtomicInteger()).incrementAndGet();
+            byte[] body = "{\"code\":200}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUri = "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test(description = "A repeated read is served from the cache and counted as a hit")
+    public void testRepeatedReadIsCached() {
+        String path = "/pet/" + NEXT_PET_ID.incrementAndGet();
+        long hits = cacheRequests(path, "hit");
+
+        Response first = request().get(path);
+        Response second = request().get(path);
+
+        Assert.assertEquals(first.getStatusCode(), 200);
+        Assert.assertEquals(second.getStatusCode(), 200);
+        Assert.assertEquals(served(path), 1, "Second read reached the server");
+        Assert.assertEquals(cacheRequests(path, "hit") - hits, 1, "Cache hit not counted");
+    }
+
+    @Test(description = "Reads with different api_key or Accept headers are cached separately")
+    public void testKeyIncludesHeaders() {
+        String path = "/pet/" + NEXT_PET_ID.incrementAndGet();
+
+        Response alice = request().header("api_key", "alice").get(path);
+        Response bob = request().header("api_key", "bob").get(path);
+        request().header("api_key", "bob").accept("application/xml").get(path);
+        request().header("api_key", "bob").get(path);
+
+        Assert.assertEquals(alice.jsonPath().getString("apiKey"), "alice");
+        Assert.assertEquals(bob.jsonPath().getString("apiKey"), "bob", "Served another api_key's response");
+        Assert.assertEquals(served(path), 3, "Each distinct header set should reach the server once");
+    }
+
+    @Test(description = "Cache hits pass through the response logging filter")
+    public void testCacheHitsAreLogged() {
+        String path = "/pet/" + NEXT_PET_ID.incrementAndGet();
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        ResponseLoggingFilter logging = new ResponseLoggingFilter(new PrintStream(log, true));
+
+        request().filter(logging).get(path);
+        request().filter(logging).get(path);
+
+        String logged = log.toString(StandardCharsets.UTF_8);
+        int responses = logged.split("HTTP/1.1 200", -1).length - 1;
+        Assert.assertEquals(responses, 2, "Cache hit was not logged:\n" + logged);
+    }
+
+    @Test(description = "Login and logout are never served from the cache")
+    public void testSessionCallsAreNotCached() {
+        for (String path : new String[] {"/user/login", "/user/logout"}) {
+            request().queryParam("username", "alice").get(path);
+            request().queryParam("username", "alice").get(path);
+
+            Assert.assertEquals(served(path), 2, path + " was served from the cache");
+        }
+    }
+
+    private RequestSpecification request() {
+        return given()
+                .spec(RequestSpecifications.getCustomBaseUriSpec(baseUri))
+                .filter(new ResponseCacheFilter());
+    }
+
+    private int served(String path) {
+        AtomicInteger count = served.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    private static long cacheRequests(String endpoint, String result) {
+        return MetricsRegistry.getInstance().counter("petshop_http_cache_requests_total",
+                "GET requests looked up in the response cache", "endpoint", endpoint, "result", result).get();
+    }
+}
@@ -0,0 +1,118 @@
+package com.petshop.api.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.petshop.utils.JsonUtils;
+import io.restassured.path.json.JsonPath;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CompiledPath Test Cases
+ * Supported paths are checked against RestAssured's Groovy JsonPath, which they stand in for
+ */
+public class CompiledPathTest {
+
+    private static final String PET = "{\"id\":7,\"name\":\"Rex\",\"category\":{\"id\":1,\"name\":\"Dogs\"},"
+            + "\"photoUrls\":[\"a.png\",\"b.png\"],\"tags\":[{\"id\":1,\"name\":\"good\"},{\"id\":2}],"
+            + "\"owner\":null,\"vaccinated\":true,\"matrix\":[[1,2],[3,4]]}";
+    private static final String PETS = "[{\"id\":1,\"name\":\"Rex\",\"tags\":[{\"name\":\"a\"}]},"
+            + "{\"id\":2,\"name\":\"Tom\",\"tags\":[]}]";
+
+    @DataProvider(name = "paths")
+    public Object[][] paths() {
+        return new Object[][] {
+                {PET, "id"},
+                {PET, "category.name"},
+                {PET, "photoUrls[1]"},
+                {PET, "tags[0].name"},
+                {PET, "tags[1].name"},
+                {PET, "tags[5].name"},
+                {PET, "tags.name"},
+                {PET, "tags.id"},
+                {PET, "tags.name[0]"},
+                {PET, "matrix[1][0]"},
+                {PET, "missing"},
+                {PET, "missing.deeper"},
+                {PET, "owner"},
+                {PET, "vaccinated"},
+                {PET, "category"},
+                {PETS, "[1].name"},
+                {PETS, "name"},
+                {PETS, "tags.name"},
+                {PETS, "[0].tags[0].name"},
+        };
+    }
+
+    @Test(dataProvider = "paths", description = "Compiled paths give the same values as RestAssured's JsonPath")
+    public void testMatchesJsonPath(String json, String path) throws IOException {
+        CompiledPath compiled = CompiledPath.compile(path);
+        Assert.assertTrue(compiled.isSupported(), "Path not compiled: " + path);
+
+        Object actual = ApiResult.toValue(compiled.evaluate(JsonUtils.getMapper().readTree(json)));
+        Assert.assertEquals(actual, JsonPath.from(json).get(path), "Value mismatch for " + path);
+    }
+
+    @Test(description = "A field step on an array is spread over its elements")
+    public void testFieldStepOnArraySpreads() throws IOException {
+        JsonNode tree = JsonUtils.getMapper().readTree(PET);
+
+        Assert.assertEquals(ApiResult.toValue(CompiledPath.compile("tags.name").evaluate(tree)),
+                Arrays.asList("good", null));
+        Assert.assertEquals(ApiResult.toValue(CompiledPath.compile("tags.id").evaluate(tree)), List.of(1, 2));
+    }
+
+    @Test(description = "The root path returns the whole body")
+    public void testRootPath() throws IOException {
+        JsonNode tree = JsonUtils.getMapper().readTree(PETS);
+
+        Assert.assertSame(CompiledPath.compile("").evaluate(tree), tree);
+        Assert.assertSame(CompiledPath.compile("$").evaluate(tree), tree);
+        Assert.assertEquals(((List<?>) ApiResult.toValue(CompiledPath.compile("$").evaluate(tree))).size(), 2);
+    }
+
+    @Test(description = "A missing key evaluates to MissingNode")
+    public void testMissingKey() throws IOException {
+        JsonNode tree = JsonUtils.getMapper().readTree(PET);
+
+        Assert.assertTrue(CompiledPath.compile("category.missing").evaluate(tree).isMissingNode());
+        Assert.assertTrue(CompiledPath.compile("photoUrls[9]").evaluate(tree).isMissingNode());
+        Assert.assertNull(ApiResult.toValue(CompiledPath.compile("name.first").evaluate(tree)));
+    }
+
+    @Test(description = "Nested objects are returned as maps")
+    public void testNestedObject() throws IOException {
+        JsonNode tree = JsonUtils.getMapper().readTree(PET);
+
+        Assert.assertEquals(ApiResult.toValue(CompiledPath.compile("category").evaluate(tree)),
+                Map.of("id", 1, "name", "Dogs"));
+    }
+
+    @DataProvider(name = "unsupported")
+    public Object[][] unsupported() {
+        return new Object[][] {
+                {"tags.find { it.name == 'good' }"},
+                {"tags.size()"},
+                {"tags[-1]"},
+                {"tags[0]name"},
+                {"tags[].name"},
+                {"category..name"},
+                {"name[0"},
+                {"'quoted'"},
+        };
+    }
+
+    @Test(dataProvider = "unsupported", description = "Paths outside the compiled subset are left to JsonPath")
+    public void testUnsupportedPaths(String path) {
+        CompiledPath compiled = CompiledPath.compile(path);
+
+        Assert.assertFalse(compiled.isSupported(), "Path should not compile: " + path);
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> compiled.evaluate(JsonUtils.getMapper().nullNode()));
+    }
+}
@@ -0,0 +1,110 @@
+package com.petshop.api.response;
+
+import com.petshop.utils.JsonUtils;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PathSet Test Cases
+ * Streaming extraction over bytes must agree with extraction from a parsed tree and with JsonPath
+ */
+public class PathSetTest {
+
+    private static final String PET = "{\"id\":7,\"name\":\"Rex\",\"category\":{\"id\":1,\"name\":\"Dogs\"},"
+            + "\"photoUrls\":[\"a.png\",\"b.png\"],\"tags\":[{\"id\":1,\"name\":\"good\"},{\"id\":2}],"
+            + "\"owner\":null,\"vaccinated\":true}";
+    private static final String PETS = "[{\"id\":1,\"name\":\"Rex\",\"tags\":[{\"name\":\"a\"}]},"
+            + "{\"id\":2,\"name\":\"Tom\",\"tags\":[]}]";
+
+    @Test(description = "Nested fields and indexes are extracted in one pass")
+    public void testNestedFieldsAndIndexes() throws IOException {
+        PathSet paths = PathSet.of("id", "category.name", "photoUrls[1]", "tags[0].name", "vaccinated");
+
+        assertExtracts(paths, PET, 7, "Dogs", "b.png", "good", true);
+    }
+
+    @Test(description = "Field steps on arrays are spread over the elements")
+    public void testFieldStepOnArray() throws IOException {
+        PathSet paths = PathSet.of("tags.name", "tags.id", "tags.name[0]");
+
+        assertExtracts(paths, PET, Arrays.asList("good", null), List.of(1, 2), "good");
+    }
+
+    @Test(description = "A spread path and an indexed path through the same array are both served")
+    public void testSpreadAndIndexThroughSameArray() throws IOException {
+        PathSet paths = PathSet.of("tags[1].id", "tags.id", "id");
+
+        assertExtracts(paths, PET, 2, List.of(1, 2), 7);
+    }
+
+    @Test(description = "Missing keys and JSON null extract as null")
+    public void testMissingKeys() throws IOException {
+        PathSet paths = PathSet.of("missing", "category.missing", "tags[9].name", "owner");
+
+        assertExtracts(paths, PET, null, null, null, null);
+    }
+
+    @Test(description = "Bodies with an array at the root support indexes and spread field steps")
+    public void testRootArray() throws IOException {
+        PathSet paths = PathSet.of("[1].name", "name", "tags.name", "[0].tags[0].name");
+
+        assertExtracts(paths, PETS, "Tom", List.of("Rex", "Tom"), List.of(List.of("a"), List.of()), "a");
+    }
+
+    @Test(description = "A path that ends at a container also serves paths below it")
+    public void testContainerAndChildPaths() throws IOException {
+        PathSet paths = PathSet.of("category", "category.name");
+
+        assertExtracts(paths, PET, Map.of("id", 1, "name", "Dogs"), "Dogs");
+    }
+
+    @Test(description = "An empty body extracts nothing")
+    public void testEmptyBody() {
+        Assert.assertEquals(PathSet.of("id").extract(new byte[0]), new Object[] {null});
+    }
+
+    @Test(description = "Sets are cached by their paths")
+    public void testCached() {
+        Assert.assertSame(PathSet.of("id", "name"), PathSet.of(Arrays.asList("id", "name")));
+    }
+
+    @Test(description = "Paths outside the compiled subset fall back to JsonPath when read from a response")
+    public void testUnsupportedPathFallsBack() {
+        Response response = new ResponseBuilder().setStatusCode(200).setContentType("application/json")
+                .setBody(PET).build();
+        PathSet paths = PathSet.of("id", "tags.size()", "tags.findAll { it.id > 1 }.id");
+
+        Assert.assertEquals(paths.extract(response), new Object[] {7, 2, List.of(2)});
+        Assert.assertEquals(paths.extract(PET.getBytes(StandardCharsets.UTF_8)), new Object[] {7, null, null},
+                "Unsupported paths should be left to the fallback");
+    }
+
+    private static void assertExtracts(PathSet paths, String json, Object... expected) throws IOException {
+        Object[] values = paths.extract(json.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(values, expected, "Streamed values");
+        assertMatchesTree(paths, json);
+    }
+
+    /**
+     * Streaming, tree and JsonPath extraction all agree
+     */
+    private static void assertMatchesTree(PathSet paths, String json) throws IOException {
+        Object[] streamed = paths.extract(json.getBytes(StandardCharsets.UTF_8));
+        Object[] fromTree = paths.extract(JsonUtils.getMapper().readTree(json));
+        JsonPath jsonPath = JsonPath.from(json);
+        for (int i = 0; i < paths.size(); i++) {
+            String path = paths.getPath(i).getExpression();
+            Assert.assertEquals(streamed[i], fromTree[i], "Streamed and tree values differ for " + path);
+            Assert.assertEquals(streamed[i], jsonPath.get(path), "Value differs from JsonPath for " + path);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.petshop.api.transport;
+
+import com.petshop.api.specifications.RequestSpecifications;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Http2TransportFilter Test Cases
+ * Runs against an in-process server that echoes the Cookie header after a short delay, echoes request bodies
+ * and serves a body with an encoding the transport does not decode
+ */
+public class Http2TransportFilterTest {
+
+    private static final long SERVER_DELAY_MS = 20;
+    private static final byte[] ENCODED_BODY = {0x1b, 0x03, 0x00, (byte) 0xf8, 0x25, 0x00, 0x42};
+
+    private HttpServer server;
+    private String baseUri;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/echo", exchange -> {
+            try {
+                Thread.sleep(SERVER_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+            byte[] body = ("{\"cookie\":\"" + (cookie == null ? "" : cookie) + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Set-Cookie", "session=abc123; Path=/");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/upload", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/brotli", exchange -> {
+            exchange.getResponseHeaders().add("Content-Encoding", "br");
+            exchange.sendResponseHeaders(200, ENCODED_BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(ENCODED_BODY);
+            }
+        });
+        server.start();
+        baseUri = "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test(description = "Response time is recorded for requests sent over the HTTP/2 transport")
+    public void testResponseTimeIsRecorded() {
+        Response response = given()
+                .spec(RequestSpecifications.getCustomBaseUriSpec(baseUri))
+                .filter(new Http2TransportFilter())
+                .when()
+                .get("/echo");
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertTrue(response.getTime() > 0, "Response time not recorded: " + response.getTime());
+        Assert.assertTrue(response.getTime() >= SERVER_DELAY_MS, "Response time shorter than the server delay");
+    }
+
+    @Test(description = "Request cookies are forwarded and response cookies are parsed over the HTTP/2 transport")
+    public void testCookiesAreForwarded() {
+        Response response = given()
+                .spec(RequestSpecifications.getCustomBaseUriSpec(baseUri))
+                .filter(new Http2TransportFilter())
+                .cookie("user", "alice")
+                .cookie("theme", "dark")
+                .when()
+                .get("/echo");
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        String cookie = response.jsonPath().getString("cookie");
+        Assert.assertTrue(cookie.contains("user=alice"), "Cookie not forwarded: " + cookie);
+        Assert.assertTrue(cookie.contains("theme=dark"), "Cookie not forwarded: " + cookie);
+        Assert.assertEquals(response.getCookie("session"), "abc123", "Response cookie not parsed");
+    }
+
+    @Test(description = "A file body is sent as its contents over the HTTP/2 transport")
+    public void testFileBodyIsSent() throws IOException {
+        Path file = Files.createTempFile("http2-body", ".json");
+        try {
+            Files.writeString(file, "{\"name\":\"Rex\"}");
+            Response response = given()
+                    .spec(RequestSpecifications.getCustomBaseUriSpec(baseUri))
+                    .filter(new Http2TransportFilter())
+                    .body(file.toFile())
+                    .when()
+                    .post("/upload");
+
+            Assert.assertEquals(response.asString(), "{\"name\":\"Rex\"}", "File body not sent as its contents");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(description = "A body in an encoding other than gzip or deflate is returned as received")
+    public void testUnknownEncodingIsNotInflated() {
+        Response response = given()
+                .spec(RequestSpecifications.getCustomBaseUriSpec(baseUri))
+                .filter(new Http2TransportFilter())
+                .when()
+                .get("/brotli");
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.asByteArray(), ENCODED_BODY, "br body was altered");
+    }
+}
@@ -1,12 +1,36 @@
 package com.petshop.base;
 
+import com.petshop.api.filters.CompressionStats;
+import com.petshop.api.filters.ResponseCacheFilter;
+import com.petshop.cleanup.ResourceTracker;
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+import com.petshop.config.ConfigWatcher;
+import com.petshop.fixtures.Fixtures;
 import com.petshop.listeners.TestListener;
+import com.petshop.metrics.MetricsRegistry;
+import com.petshop.metrics.PrometheusExporter;
+import com.petshop.replay.TrafficCapture;
+import com.petshop.results.RegressionGate;
+import com.petshop.results.RegressionReport;
+import com.petshop.results.ResultStore;
+import com.petshop.slo.SloReport;
+import com.petshop.slo.SloTracker;
+import com.petshop.tracing.Tracer;
+import com.petshop.utils.AssertionUtils;
 import com.petshop.utils.ExtentReportManager;
+import com.petshop.utils.LoggerUtil;
+import com.petshop.utils.StartupPreloader;
+import com.petshop.warmup.Warmup;
 import io.restassured.RestAssured;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Listeners;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
 /**
  * Base Test class for all test classes
  * Follows DRY principle and provides common setup/teardown
@@ -16,17 +40,106 @@ public class BaseTest {
 
     @BeforeSuite(alwaysRun = true)
     public void setupSuite() {
-        // Initialize Extent Reports
-        ExtentReportManager.initReports();
+        // Load Faker, Jackson and Extent Reports in the background; each also loads on first use
+        StartupPreloader.preloadAsync();
         
         // Configure RestAssured
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+
+        // Expose metrics for scraping during the run
+        ConfigManager config = ConfigFactory.getConfig();
+        if (config.metricsEnabled() && config.metricsExportPort() > 0) {
+            PrometheusExporter.startServer(MetricsRegistry.getInstance(), config.metricsExportHost(),
+                    config.metricsExportPort());
+        }
+        if (config.cleanupEnabled()) {
+            ResourceTracker.start();
+        }
+        if (config.configReloadEnabled()) {
+            ConfigWatcher.start();
+        }
+
+        // Warm up JIT, serialization and connections before anything is measured
+        if (config.warmupEnabled()) {
+            LoggerUtil.info(Warmup.run(config.baseUrl(), config.warmupIterations(), config.warmupConnections()).toString());
+            ResponseCacheFilter.getCache().clear();
+            CompressionStats.reset();
+        }
     }
 
     @AfterSuite(alwaysRun = true)
     public void tearDownSuite() {
+        ConfigWatcher.stop();
+
+        // Close the result file and traffic log and take the SLO report first, so teardown deletes are not part of the run's traffic
+        ConfigManager config = ConfigFactory.getConfig();
+        RegressionReport regressionReport = null;
+        if (config.resultsEnabled()) {
+            regressionReport = runRegressionGate(config, ResultStore.close());
+        }
+        if (config.captureEnabled()) {
+            TrafficCapture.close();
+        }
+        SloReport sloReport = null;
+        if (config.sloEnabled()) {
+            sloReport = SloTracker.report();
+            LoggerUtil.info(sloReport.summary());
+        }
+
+        // Delete pooled fixtures before metrics and traces are exported
+        Fixtures.shutdown();
+
+        if (config.cleanupEnabled()) {
+            LoggerUtil.info("Cleanup report:\n" + ResourceTracker.cleanUpAll().summary());
+        }
+        if (config.compressionEnabled()) {
+            LoggerUtil.info("Compression report:\n" + CompressionStats.report());
+        }
+        if (config.metricsEnabled()) {
+            PrometheusExporter.writeToFile(MetricsRegistry.getInstance(), config.metricsExportFile());
+            PrometheusExporter.stopServer();
+        }
+        if (config.tracingEnabled()) {
+            Tracer.flush();
+        }
+
         // Flush Extent Reports
         ExtentReportManager.flushReports();
+
+        // Fail the suite last, so reports and exports above are still written
+        if (regressionReport != null) {
+            AssertionUtils.assertNoRegression(regressionReport);
+        }
+        if (sloReport != null) {
+            AssertionUtils.assertSloMet(sloReport);
+        }
+    }
+
+    /**
+     * Compare this run against the stored baseline, or store it as the new baseline
+     * @param config Configuration
+     * @param resultFile This run's result file, or null if nothing was recorded
+     * @return Regression report, or null if the gate did not run
+     */
+    private RegressionReport runRegressionGate(ConfigManager config, Path resultFile) {
+        if (!config.gateEnabled() || resultFile == null) {
+            return null;
+        }
+        Path baselineDir = Paths.get(config.gateBaselineDir());
+        if (config.gateUpdateBaseline()) {
+            ResultStore.saveBaseline(resultFile, baselineDir);
+            LoggerUtil.info("Stored " + resultFile + " as regression baseline in " + baselineDir);
+            return null;
+        }
+        List<Path> baselineFiles = ResultStore.resultFiles(baselineDir);
+        if (baselineFiles.isEmpty()) {
+            LoggerUtil.warn("Regression gate skipped: no baseline in " + baselineDir
+                    + " (run once with gate.update.baseline=true)");
+            return null;
+        }
+        RegressionReport report = RegressionGate.fromConfig().compare(baselineFiles, List.of(resultFile));
+        LoggerUtil.info(report.summary());
+        return report;
     }
 }
 
@@ -0,0 +1,103 @@
+package com.petshop.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petshop.api.payloads.Order;
+import com.petshop.api.payloads.Pet;
+import com.petshop.api.payloads.User;
+import com.petshop.utils.JsonUtils;
+import com.petshop.utils.TestDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH throughput of Pet/Order/User serialization and deserialization: a plain ObjectMapper versus
+ * the shared mapper from JsonUtils (Blackbird, trimmed features). JMH forks JVMs from the current
+ * classpath, so launch it with exec:exec rather than exec:java:
+ *
+ *   mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *       -Dexec.args="-cp %classpath com.petshop.benchmarks.JsonMapperBenchmark"
+ *
+ *   -Dbench.forks       forked JVMs per benchmark (default 1)
+ *   -Dbench.iterations  measurement iterations of one second (default 5)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonMapperBenchmark {
+
+    @Param({"default", "shared"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+    private Pet pet;
+    private Order order;
+    private User user;
+    private byte[] petJson;
+    private byte[] orderJson;
+    private byte[] userJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = "shared".equals(mapper) ? JsonUtils.createMapper() : new ObjectMapper();
+        pet = TestDataGenerator.generatePet();
+        order = TestDataGenerator.generateOrder();
+        user = TestDataGenerator.generateUser();
+        petJson = objectMapper.writeValueAsBytes(pet);
+        orderJson = objectMapper.writeValueAsBytes(order);
+        userJson = objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] serializePet() throws IOException {
+        return objectMapper.writeValueAsBytes(pet);
+    }
+
+    @Benchmark
+    public byte[] serializeOrder() throws IOException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws IOException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public Pet deserializePet() throws IOException {
+        return objectMapper.readValue(petJson, Pet.class);
+    }
+
+    @Benchmark
+    public Order deserializeOrder() throws IOException {
+        return objectMapper.readValue(orderJson, Order.class);
+    }
+
+    @Benchmark
+    public User deserializeUser() throws IOException {
+        return objectMapper.readValue(userJson, User.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonMapperBenchmark.class.getSimpleName())
+                .forks(Integer.getInteger("bench.forks", 1))
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(Integer.getInteger("bench.iterations", 5))
+                .measurementTime(TimeValue.seconds(1))
+                .build()).run();
+    }
+}
@@ -0,0 +1,85 @@
+package com.petshop.benchmarks;
+
+import com.petshop.api.endpoints.PetEndpoint;
+import com.petshop.api.endpoints.StoreEndpoint;
+import com.petshop.api.endpoints.UserEndpoint;
+import com.petshop.api.payloads.compact.CompactJsonWriter;
+import com.petshop.api.payloads.compact.CompactPayloadGenerator;
+import com.petshop.utils.JsonUtils;
+import com.petshop.utils.TestDataGenerator;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Allocation per payload and per request: POJO + Faker + ObjectMapper versus compact payloads
+ * Allocation is read from the current thread's allocation counter, so numbers are exact bytes
+ * rather than GC estimates:
+ *
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.petshop.benchmarks.PayloadAllocationBenchmark \
+ *       -Dbench.iterations=200000 -Dbench.requests=2000
+ *
+ *   -Dbench.iterations payload build + serialize cycles per variant (default 200000)
+ *   -Dbench.requests   also send this many create requests per variant to base.url (default 0, off)
+ */
+public class PayloadAllocationBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        int iterations = Integer.getInteger("bench.iterations", 200_000);
+        int requests = Integer.getInteger("bench.requests", 0);
+
+        System.out.printf("%-22s %10s %12s %12s%n", "Variant", "Ops", "Bytes/op", "ns/op");
+        measure("pet pojo+mapper", iterations,
+                () -> JsonUtils.toJsonString(TestDataGenerator.generatePet()));
+        measure("pet compact", iterations,
+                () -> CompactJsonWriter.toBytes(CompactPayloadGenerator.pet()));
+        measure("order pojo+mapper", iterations,
+                () -> JsonUtils.toJsonString(TestDataGenerator.generateOrder()));
+        measure("order compact", iterations,
+                () -> CompactJsonWriter.toBytes(CompactPayloadGenerator.order()));
+        measure("user pojo+mapper", iterations,
+                () -> JsonUtils.toJsonString(TestDataGenerator.generateUser()));
+        measure("user compact", iterations,
+                () -> CompactJsonWriter.toBytes(CompactPayloadGenerator.user()));
+
+        if (requests > 0) {
+            PetEndpoint pets = new PetEndpoint();
+            StoreEndpoint store = new StoreEndpoint();
+            UserEndpoint users = new UserEndpoint();
+            measure("POST /pet pojo", requests, () -> pets.create(TestDataGenerator.generatePet()));
+            measure("POST /pet compact", requests,
+                    () -> pets.createRaw(CompactJsonWriter.toBytes(CompactPayloadGenerator.pet())));
+            measure("POST /order pojo", requests, () -> store.create(TestDataGenerator.generateOrder()));
+            measure("POST /order compact", requests,
+                    () -> store.createRaw(CompactJsonWriter.toBytes(CompactPayloadGenerator.order())));
+            measure("POST /user pojo", requests, () -> users.create(TestDataGenerator.generateUser()));
+            measure("POST /user compact", requests,
+                    () -> users.createRaw(CompactJsonWriter.toBytes(CompactPayloadGenerator.user())));
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Warm up with a tenth of the operations, then measure allocation and time on this thread
+     */
+    private static void measure(String variant, int ops, Supplier<Object> operation) {
+        Object sink = null;
+        for (int i = 0; i < Math.max(ops / 10, 1); i++) {
+            sink = operation.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ops; i++) {
+            sink = operation.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("%-22s %10d %12d %12d%s%n", variant, ops, allocated / ops, elapsed / ops,
+                sink == null ? " (no result)" : "");
+    }
+}
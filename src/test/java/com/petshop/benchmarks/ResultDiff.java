@@ -0,0 +1,113 @@
+package com.petshop.benchmarks;
+
+import com.petshop.config.ConfigFactory;
+import com.petshop.metrics.LatencyHistogram;
+import com.petshop.results.RegressionGate;
+import com.petshop.results.RegressionReport;
+import com.petshop.results.ResultStore;
+import com.petshop.results.RunSummary;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Compares the latency distributions and throughput of two runs recorded with results.enabled=true
+ * Each argument is a result file or a directory whose .psr files are merged (e.g. one per distributed
+ * worker). Without arguments the two newest files in results.dir are compared, older one as baseline.
+ *
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.petshop.benchmarks.ResultDiff \
+ *       -Dexec.args="baseline.psr candidate.psr" -Ddiff.threshold.pct=10 -Ddiff.min.samples=20
+ *
+ * Endpoints whose p50 or p99 grew, or whose throughput fell, by more than the threshold are flagged
+ * as regressions and make the exit code 1. Endpoints with fewer samples on either side are not judged.
+ * With -Ddiff.gate=true the exit code comes from the statistical RegressionGate (gate.* settings) instead.
+ */
+public class ResultDiff {
+
+    public static void main(String[] args) {
+        double thresholdPct = Double.parseDouble(System.getProperty("diff.threshold.pct", "10"));
+        long minSamples = Long.getLong("diff.min.samples", 20);
+
+        List<Path> baselineFiles;
+        List<Path> candidateFiles;
+        if (args.length == 2) {
+            baselineFiles = ResultStore.resultFiles(Paths.get(args[0]));
+            candidateFiles = ResultStore.resultFiles(Paths.get(args[1]));
+        } else if (args.length == 0) {
+            List<Path> newest = ResultStore.resultFiles(Paths.get(ConfigFactory.getConfig().resultsDir()));
+            if (newest.size() < 2) {
+                System.err.println("Need two result files in " + ConfigFactory.getConfig().resultsDir());
+                System.exit(2);
+            }
+            baselineFiles = List.of(newest.get(newest.size() - 2));
+            candidateFiles = List.of(newest.get(newest.size() - 1));
+        } else {
+            System.err.println("Usage: ResultDiff [<baseline file or dir> <candidate file or dir>]");
+            System.exit(2);
+            return;
+        }
+
+        RunSummary baseline = RunSummary.of(baselineFiles.toArray(new Path[0]));
+        RunSummary candidate = RunSummary.of(candidateFiles.toArray(new Path[0]));
+        System.out.printf("Baseline:  %s (%d requests in %.1fs)%n", baselineFiles,
+                baseline.getTotal().getCount(), baseline.getDurationSeconds());
+        System.out.printf("Candidate: %s (%d requests in %.1fs)%n", candidateFiles,
+                candidate.getTotal().getCount(), candidate.getDurationSeconds());
+        System.out.printf("%-36s %15s %21s %21s %21s %s%n",
+                "Endpoint", "Count", "p50 ms", "p99 ms", "Req/s", "");
+
+        TreeSet<String> endpoints = new TreeSet<>(baseline.getEndpoints().keySet());
+        endpoints.addAll(candidate.getEndpoints().keySet());
+        List<String> regressions = new ArrayList<>();
+        for (String endpoint : endpoints) {
+            RunSummary.EndpointStats before = baseline.getEndpoints().get(endpoint);
+            RunSummary.EndpointStats after = candidate.getEndpoints().get(endpoint);
+            if (before == null || after == null) {
+                System.out.printf("%-36s %15s%n", endpoint, before == null ? "new" : "removed");
+                continue;
+            }
+            double p50Change = change(percentileMs(before, 50), percentileMs(after, 50));
+            double p99Change = change(percentileMs(before, 99), percentileMs(after, 99));
+            double throughputChange = change(baseline.getThroughput(before), candidate.getThroughput(after));
+            boolean judged = before.getCount() >= minSamples && after.getCount() >= minSamples;
+            boolean regressed = judged && (p50Change > thresholdPct || p99Change > thresholdPct
+                    || throughputChange < -thresholdPct);
+            if (regressed) {
+                regressions.add(endpoint);
+            }
+            System.out.printf("%-36s %7d>%-7d %7.1f>%-7.1f%+5.0f%% %7.1f>%-7.1f%+5.0f%% %7.1f>%-7.1f%+5.0f%% %s%n",
+                    endpoint, before.getCount(), after.getCount(),
+                    percentileMs(before, 50), percentileMs(after, 50), p50Change,
+                    percentileMs(before, 99), percentileMs(after, 99), p99Change,
+                    baseline.getThroughput(before), candidate.getThroughput(after), throughputChange,
+                    regressed ? "REGRESSION" : judged ? "" : "(too few samples)");
+        }
+        System.out.printf("%-36s %7d>%-7d %51s %7.1f>%-7.1f%n", "Total",
+                baseline.getTotal().getCount(), candidate.getTotal().getCount(), "",
+                baseline.getThroughput(baseline.getTotal()), candidate.getThroughput(candidate.getTotal()));
+
+        if (Boolean.getBoolean("diff.gate")) {
+            RegressionReport report = RegressionGate.fromConfig().compare(baselineFiles, candidateFiles);
+            System.out.print(report.summary());
+            System.exit(report.hasRegressions() ? 1 : 0);
+        }
+        if (!regressions.isEmpty()) {
+            System.out.printf("%d endpoint(s) regressed by more than %.0f%%: %s%n",
+                    regressions.size(), thresholdPct, regressions);
+        }
+        System.exit(regressions.isEmpty() ? 0 : 1);
+    }
+
+    private static double percentileMs(RunSummary.EndpointStats stats, double percentile) {
+        LatencyHistogram latency = stats.getLatency();
+        return latency.getPercentileMicros(percentile) / 1000.0;
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+}
@@ -0,0 +1,67 @@
+package com.petshop.benchmarks;
+
+import com.petshop.api.specifications.RequestSpecifications;
+import com.petshop.config.ConfigFactory;
+import com.petshop.replay.CapturedRequest;
+import com.petshop.replay.ReplayEngine;
+import com.petshop.replay.TrafficCapture;
+import com.petshop.replay.TrafficLog;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Replays a traffic log captured with capture.enabled=true and compares recorded with replayed latency
+ *
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.petshop.benchmarks.TrafficReplay \
+ *       -Dreplay.file=test-output/capture/capture-....ptl -Dreplay.speed=1 -Dreplay.concurrency=64
+ *
+ *   -Dreplay.speed    1 = original pace, 4 = four times faster, 0 = as fast as possible
+ *   -Dreplay.base.url replay against another backend (default base.url)
+ *   -Dreplay.api.key  send an api_key header, as RequestSpecifications.getAuthRequestSpec does
+ * Without replay.file the newest log in capture.dir is used.
+ */
+public class TrafficReplay {
+
+    public static void main(String[] args) throws IOException {
+        Path file = System.getProperty("replay.file") != null
+                ? Paths.get(System.getProperty("replay.file"))
+                : newestLog(Paths.get(ConfigFactory.getConfig().captureDir()));
+        double speed = Double.parseDouble(System.getProperty("replay.speed", "1"));
+        int concurrency = Integer.getInteger("replay.concurrency", 64);
+
+        List<CapturedRequest> requests = TrafficLog.read(file);
+        System.out.printf("Replaying %d requests from %s%n", requests.size(), file);
+        new ReplayEngine(spec(), concurrency, speed).run(requests);
+        System.exit(0);
+    }
+
+    private static RequestSpecification spec() {
+        String baseUrl = System.getProperty("replay.base.url", ConfigFactory.getConfig().baseUrl());
+        String apiKey = System.getProperty("replay.api.key");
+        RequestSpecification spec = RequestSpecifications.getReplayRequestSpec(baseUrl);
+        if (apiKey != null) {
+            spec = new RequestSpecBuilder().addRequestSpecification(spec).addHeader("api_key", apiKey).build();
+        }
+        return spec;
+    }
+
+    private static Path newestLog(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("No traffic logs in " + dir + "; set replay.file");
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(TrafficCapture.FILE_SUFFIX))
+                    .max(Comparator.comparing(path -> path.toFile().lastModified()))
+                    .orElseThrow(() -> new IllegalArgumentException("No traffic logs in " + dir + "; set replay.file"));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.petshop.benchmarks;
+
+import com.petshop.api.transport.Http2TransportFilter;
+import com.petshop.config.ConfigFactory;
+import io.restassured.RestAssured;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput and connection-count benchmark: Apache (HTTP/1.1) versus JDK HttpClient (HTTP/2) transport
+ * Point base.url at a local stub (ideally one that speaks h2 or h2c) before running:
+ *
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.petshop.benchmarks.TransportBenchmark \
+ *       -Dbench.levels=100,1000,10000 -Dbench.path=/store/inventory
+ *
+ * Peak connections are sampled from /proc/net/tcp(6), so that column is only available on Linux.
+ */
+public class TransportBenchmark {
+
+    private static final String TCP_ESTABLISHED = "01";
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = ConfigFactory.getConfig().baseUrl();
+        String path = System.getProperty("bench.path", ConfigFactory.getConfig().storeEndpoint() + "/inventory");
+        String[] levels = System.getProperty("bench.levels", "100,1000,10000").split(",");
+        URI target = URI.create(baseUrl + path);
+        int port = target.getPort() != -1 ? target.getPort() : ("https".equals(target.getScheme()) ? 443 : 80);
+
+        System.out.printf("Target: %s%n", target);
+        System.out.printf("%-8s %9s %9s %7s %9s %10s %12s%n",
+                "Transport", "In-flight", "Requests", "Errors", "Seconds", "Req/s", "Peak conns");
+        for (String level : levels) {
+            int inFlight = Integer.parseInt(level.trim());
+            int requests = Math.max(inFlight * 2, 2000);
+            print("apache", inFlight, requests, port, () -> runApache(target, inFlight, requests));
+            print("http2", inFlight, requests, port, () -> runHttp2(target, inFlight, requests));
+        }
+        System.exit(0);
+    }
+
+    /**
+     * RestAssured's default transport is blocking, so in-flight requests are bounded by worker threads
+     */
+    private static int runApache(URI target, int inFlight, int requests) throws InterruptedException {
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(requests);
+        ExecutorService pool = Executors.newFixedThreadPool(inFlight);
+        for (int i = 0; i < requests; i++) {
+            pool.execute(() -> {
+                try {
+                    if (RestAssured.given().get(target).getStatusCode() >= 400) {
+                        errors.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    errors.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        pool.shutdownNow();
+        return errors.get();
+    }
+
+    /**
+     * The JDK client is asynchronous, so in-flight requests are bounded only by a semaphore
+     */
+    private static int runHttp2(URI target, int inFlight, int requests) throws InterruptedException {
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(requests);
+        Semaphore permits = new Semaphore(inFlight);
+        HttpRequest request = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(60)).GET().build();
+        for (int i = 0; i < requests; i++) {
+            permits.acquire();
+            Http2TransportFilter.getClient()
+                    .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                        permits.release();
+                        done.countDown();
+                    });
+        }
+        done.await();
+        return errors.get();
+    }
+
+    private static void print(String transport, int inFlight, int requests, int port, Run run) throws Exception {
+        ConnectionSampler sampler = new ConnectionSampler(port);
+        Thread samplerThread = new Thread(sampler, "connection-sampler");
+        samplerThread.setDaemon(true);
+        samplerThread.start();
+
+        long start = System.nanoTime();
+        int errors = run.execute();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        sampler.stop();
+        samplerThread.join(TimeUnit.SECONDS.toMillis(1));
+        System.out.printf("%-8s %9d %9d %7d %9.2f %10.0f %12s%n", transport, inFlight, requests, errors,
+                seconds, requests / seconds, sampler.peak < 0 ? "n/a" : String.valueOf(sampler.peak));
+    }
+
+    @FunctionalInterface
+    private interface Run {
+        int execute() throws Exception;
+    }
+
+    /**
+     * Samples the number of established TCP connections to the target port
+     */
+    private static final class ConnectionSampler implements Runnable {
+        private final String portHex;
+        private volatile boolean running = true;
+        private volatile int peak = -1;
+
+        private ConnectionSampler(int port) {
+            this.portHex = String.format("%04X", port);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                int v4 = count(Paths.get("/proc/net/tcp"));
+                int v6 = count(Paths.get("/proc/net/tcp6"));
+                if (v4 >= 0 || v6 >= 0) {
+                    peak = Math.max(peak, Math.max(v4, 0) + Math.max(v6, 0));
+                }
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        private void stop() {
+            running = false;
+        }
+
+        private int count(Path table) {
+            if (!Files.isReadable(table)) {
+                return -1;
+            }
+            try {
+                List<String> lines = Files.readAllLines(table);
+                int count = 0;
+                for (String line : lines.subList(1, lines.size())) {
+                    String[] cols = line.trim().split("\\s+");
+                    if (cols[2].endsWith(":" + portHex) && TCP_ESTABLISHED.equals(cols[3])) {
+                        count++;
+                    }
+                }
+                return count;
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.petshop.dataproviders;
+
+import java.util.function.Supplier;
+
+/**
+ * One row of a data-driven test whose payload is built on first get()
+ * TestNG collects every row of a parallel DataProvider before the first invocation starts, so rows
+ * carry only a recipe; generation or parsing then runs on the data-provider threads, in parallel.
+ * A row is used by the one invocation it was handed to and is not thread-safe.
+ */
+public final class DataRow<T> {
+
+    private final String name;
+    private final Supplier<T> supplier;
+    private T payload;
+
+    DataRow(String name, Supplier<T> supplier) {
+        this.name = name;
+        this.supplier = supplier;
+    }
+
+    /**
+     * Get the payload, building it on the first call
+     * @return Payload
+     */
+    public T get() {
+        if (payload == null) {
+            payload = supplier.get();
+        }
+        return payload;
+    }
+
+    /**
+     * Row label shown in TestNG results and failure samples, e.g. "pet#42" or "pets.jsonl:17"
+     * @return Row name
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+}
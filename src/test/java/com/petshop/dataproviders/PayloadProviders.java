@@ -0,0 +1,165 @@
+package com.petshop.dataproviders;
+
+import com.petshop.api.payloads.Order;
+import com.petshop.api.payloads.Pet;
+import com.petshop.api.payloads.User;
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+import com.petshop.utils.JsonUtils;
+import com.petshop.utils.TestDataGenerator;
+import org.testng.annotations.DataProvider;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * Parallel DataProviders feeding Pets, Users and Orders to data-driven tests
+ * Each provider yields data.count rows, generated by TestDataGenerator or, when data.<type>.file is set,
+ * read from a JSON Lines file (one payload per line) that is streamed rather than loaded. Rows are lazy
+ * DataRows, so payloads are built on the data-provider threads; size those with the suite's
+ * data-provider-thread-count.
+ */
+public class PayloadProviders {
+
+    private PayloadProviders() {
+        // Private constructor to prevent instantiation
+    }
+
+    @DataProvider(name = "pets", parallel = true)
+    public static Iterator<Object[]> pets() {
+        ConfigManager config = ConfigFactory.getConfig();
+        return rows("pet", config.dataPetsFile(), Pet.class, TestDataGenerator::generatePet, config.dataCount());
+    }
+
+    @DataProvider(name = "users", parallel = true)
+    public static Iterator<Object[]> users() {
+        ConfigManager config = ConfigFactory.getConfig();
+        return rows("user", config.dataUsersFile(), User.class, TestDataGenerator::generateUser, config.dataCount());
+    }
+
+    @DataProvider(name = "orders", parallel = true)
+    public static Iterator<Object[]> orders() {
+        ConfigManager config = ConfigFactory.getConfig();
+        return rows("order", config.dataOrdersFile(), Order.class, TestDataGenerator::generateOrder,
+                config.dataCount());
+    }
+
+    private static <T> Iterator<Object[]> rows(String type, String file, Class<T> payloadType,
+                                               Supplier<T> generator, int count) {
+        if (file == null || file.isBlank()) {
+            return new GeneratedRows<>(type, generator, count);
+        }
+        return new JsonLinesRows<>(Paths.get(file), payloadType, count);
+    }
+
+    /**
+     * Rows whose payloads come from a generator
+     */
+    private static final class GeneratedRows<T> implements Iterator<Object[]> {
+
+        private final String type;
+        private final Supplier<T> generator;
+        private final int count;
+        private int index;
+
+        GeneratedRows(String type, Supplier<T> generator, int count) {
+            this.type = type;
+            this.generator = generator;
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return new Object[] {new DataRow<>(type + "#" + index++, generator)};
+        }
+    }
+
+    /**
+     * Rows read line by line from a JSON Lines file; each line is parsed by the invocation that gets it
+     */
+    private static final class JsonLinesRows<T> implements Iterator<Object[]> {
+
+        private final Path file;
+        private final Class<T> payloadType;
+        private final int count;
+        private final BufferedReader reader;
+        private int returned;
+        private int lineNumber;
+        private String nextLine;
+
+        JsonLinesRows(Path file, Class<T> payloadType, int count) {
+            this.file = file;
+            this.payloadType = payloadType;
+            this.count = count;
+            try {
+                this.reader = Files.newBufferedReader(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open data file: " + file, e);
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String json = nextLine;
+            DataRow<T> row = new DataRow<>(file.getFileName() + ":" + lineNumber,
+                    () -> JsonUtils.fromJsonString(json, payloadType));
+            returned++;
+            advance();
+            return new Object[] {row};
+        }
+
+        private void advance() {
+            nextLine = null;
+            if (returned >= count) {
+                close();
+                return;
+            }
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (!line.isBlank()) {
+                        nextLine = line;
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Failed to read data file: " + file, e);
+            }
+            close();
+        }
+
+        private void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // Nothing left to read
+            }
+        }
+    }
+}
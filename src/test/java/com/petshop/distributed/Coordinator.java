@@ -0,0 +1,263 @@
+package com.petshop.distributed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator for distributed runs across several worker JVMs
+ * Spawns dist.workers local Worker JVMs and optionally waits for dist.remote.workers more to connect from the LAN,
+ * hands each worker a shard, prints live progress and finally merges the workers' histograms into one report.
+ *
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.petshop.distributed.Coordinator \
+ *       -Ddist.workers=4 -Ddist.mode=workflow -Ddist.instances=2000 -Ddist.concurrency=16
+ *
+ *   -Ddist.mode=suite -Ddist.classes=com.petshop.tests.PetApiTest,com.petshop.tests.UserApiTest,...
+ *       shards test classes round-robin instead of workflow instances; latencies are then whole-test durations.
+ *   -Ddist.bind=0.0.0.0 -Ddist.port=7070 -Ddist.remote.workers=2
+ *       accepts workers started elsewhere with: Worker <coordinator-host> 7070 <worker-id>
+ */
+public class Coordinator {
+
+    private static final long ACCEPT_TIMEOUT_MS = 120_000;
+
+    private final List<WorkerConnection> connections = new ArrayList<>();
+    private final ConcurrentHashMap<String, long[]> progress = new ConcurrentHashMap<>();
+
+    public static void main(String[] args) throws Exception {
+        int localWorkers = Integer.getInteger("dist.workers", 2);
+        int remoteWorkers = Integer.getInteger("dist.remote.workers", 0);
+        int totalWorkers = localWorkers + remoteWorkers;
+        if (totalWorkers < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        String bindAddress = System.getProperty("dist.bind", "127.0.0.1");
+        int port = Integer.getInteger("dist.port", 0);
+
+        Coordinator coordinator = new Coordinator();
+        ShardResult merged;
+        try (ServerSocket server = new ServerSocket(port, totalWorkers, InetAddress.getByName(bindAddress))) {
+            server.setSoTimeout((int) ACCEPT_TIMEOUT_MS);
+            System.out.printf("Coordinator listening on %s:%d for %d workers%n",
+                    bindAddress, server.getLocalPort(), totalWorkers);
+
+            List<Process> processes = spawnLocalWorkers(localWorkers, server.getLocalPort());
+            merged = coordinator.run(server, totalWorkers);
+            for (Process process : processes) {
+                process.waitFor(30, TimeUnit.SECONDS);
+            }
+        }
+
+        System.out.println();
+        System.out.println("Merged report:");
+        if (Protocol.MODE_SUITE.equals(System.getProperty("dist.mode", Protocol.MODE_WORKFLOW))) {
+            // Suite shards time whole test methods, including setup and every request a test makes
+            System.out.print(merged.format("Test (whole-test duration)"));
+        } else {
+            System.out.print(merged);
+        }
+        for (String failure : merged.getFailures()) {
+            System.out.println("  FAILED " + failure);
+        }
+        System.exit(merged.getFailedOperations() == 0 ? 0 : 1);
+    }
+
+    private ShardResult run(ServerSocket server, int totalWorkers) throws IOException, InterruptedException {
+        for (int shard = 0; shard < totalWorkers; shard++) {
+            Socket socket = server.accept();
+            WorkerConnection connection = new WorkerConnection(socket, shard, totalWorkers);
+            connection.handshake();
+            connections.add(connection);
+            System.out.printf("Worker %s (pid %d, %s) joined as shard %d/%d%n", connection.workerId,
+                    connection.pid, socket.getInetAddress().getHostAddress(), shard + 1, totalWorkers);
+        }
+
+        ScheduledExecutorService printer = Executors.newSingleThreadScheduledExecutor();
+        long start = System.nanoTime();
+        printer.scheduleAtFixedRate(() -> printProgress(start), 1, 1, TimeUnit.SECONDS);
+
+        List<Thread> readers = new ArrayList<>();
+        for (WorkerConnection connection : connections) {
+            Thread reader = new Thread(connection::readUntilDone, "coordinator-" + connection.workerId);
+            reader.start();
+            readers.add(reader);
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        printer.shutdownNow();
+        printProgress(start);
+
+        ShardResult merged = new ShardResult();
+        for (WorkerConnection connection : connections) {
+            if (connection.result != null) {
+                System.out.printf("Worker %s: %s", connection.workerId, firstLine(connection.result.toString()));
+                merged.merge(connection.result);
+            } else {
+                System.out.printf("Worker %s: no result (%s)%n", connection.workerId, connection.error);
+                merged.addFailure("worker " + connection.workerId + ": " + connection.error);
+                merged.record("worker " + connection.workerId, false, 0);
+            }
+        }
+        return merged;
+    }
+
+    private void printProgress(long startNanos) {
+        long completed = 0;
+        long failed = 0;
+        for (long[] counts : progress.values()) {
+            completed += counts[0];
+            failed += counts[1];
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("[%6.1fs] %d completed, %d failed, %.1f ops/s across %d workers%n",
+                seconds, completed, failed, seconds == 0 ? 0 : (completed + failed) / seconds, progress.size());
+    }
+
+    private static List<Process> spawnLocalWorkers(int count, int port) throws IOException {
+        Path logDir = Paths.get("target", "distributed");
+        Files.createDirectories(logDir);
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        String jvmArgs = System.getProperty("dist.jvm.args", "");
+
+        List<Process> processes = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            List<String> command = new ArrayList<>();
+            command.add(java);
+            if (!jvmArgs.isBlank()) {
+                command.addAll(Arrays.asList(jvmArgs.trim().split("\\s+")));
+            }
+            command.addAll(Arrays.asList("-cp", classPath(),
+                    Worker.class.getName(), "127.0.0.1", String.valueOf(port), "local-" + i));
+            File log = logDir.resolve("worker-" + i + ".log").toFile();
+            processes.add(new ProcessBuilder(command).redirectErrorStream(true)
+                    .redirectOutput(log).start());
+        }
+        return processes;
+    }
+
+    /**
+     * Get the classpath for worker JVMs; under exec:java the test classpath lives in the context class loader
+     * @return Classpath string
+     */
+    private static String classPath() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader instanceof URLClassLoader) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : ((URLClassLoader) loader).getURLs()) {
+                try {
+                    entries.add(Paths.get(url.toURI()).toString());
+                } catch (URISyntaxException e) {
+                    throw new IllegalStateException("Unsupported classpath entry: " + url, e);
+                }
+            }
+            return String.join(File.pathSeparator, entries);
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    private static String firstLine(String text) {
+        int newline = text.indexOf('\n');
+        return newline < 0 ? text + System.lineSeparator() : text.substring(0, newline + 1);
+    }
+
+    /**
+     * Connection to one worker and the shard assigned to it
+     */
+    private final class WorkerConnection {
+        private final Socket socket;
+        private final int shard;
+        private final int shardCount;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private String workerId;
+        private long pid;
+        private volatile ShardResult result;
+        private volatile String error;
+
+        WorkerConnection(Socket socket, int shard, int shardCount) throws IOException {
+            this.socket = socket;
+            this.shard = shard;
+            this.shardCount = shardCount;
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        void handshake() throws IOException {
+            if (in.readByte() != Protocol.HELLO) {
+                throw new IOException("Expected HELLO from worker");
+            }
+            workerId = in.readUTF();
+            pid = in.readLong();
+            progress.put(workerId, new long[2]);
+
+            out.writeByte(Protocol.TASK);
+            String mode = System.getProperty("dist.mode", Protocol.MODE_WORKFLOW);
+            out.writeUTF(mode);
+            if (Protocol.MODE_WORKFLOW.equals(mode)) {
+                int instances = Integer.getInteger("dist.instances", 200);
+                out.writeUTF(System.getProperty("dist.workflow", "user-pet-order"));
+                out.writeInt(instances / shardCount + (shard < instances % shardCount ? 1 : 0));
+                out.writeInt(Integer.getInteger("dist.concurrency", 8));
+            } else if (Protocol.MODE_SUITE.equals(mode)) {
+                out.writeUTF(classesForShard());
+            } else {
+                throw new IllegalArgumentException("Unknown dist.mode: " + mode);
+            }
+            out.flush();
+        }
+
+        private String classesForShard() {
+            String[] classes = System.getProperty("dist.classes",
+                    "com.petshop.tests.PetApiTest,com.petshop.tests.UserApiTest,com.petshop.tests.StoreApiTest")
+                    .split(",");
+            List<String> assigned = new ArrayList<>();
+            for (int i = shard; i < classes.length; i += shardCount) {
+                assigned.add(classes[i].trim());
+            }
+            return String.join(",", assigned);
+        }
+
+        void readUntilDone() {
+            try (Socket ignored = socket) {
+                while (true) {
+                    byte type = in.readByte();
+                    if (type == Protocol.PROGRESS) {
+                        progress.put(workerId, new long[]{in.readLong(), in.readLong()});
+                    } else if (type == Protocol.RESULT) {
+                        result = ShardResult.readFrom(in);
+                        return;
+                    } else if (type == Protocol.ERROR) {
+                        error = in.readUTF();
+                        return;
+                    } else {
+                        error = "unexpected frame type " + type;
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                error = "connection lost: " + e.getMessage();
+            }
+        }
+    }
+}
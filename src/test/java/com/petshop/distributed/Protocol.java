@@ -0,0 +1,72 @@
+package com.petshop.distributed;
+
+import com.petshop.metrics.LatencyHistogram;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Wire format shared by Coordinator and Worker
+ * Every frame is a type byte followed by a type-specific payload written with DataOutputStream.
+ */
+final class Protocol {
+
+    /** Worker to coordinator: worker ID (UTF), process ID (long) */
+    static final byte HELLO = 1;
+    /** Coordinator to worker: mode (UTF), then mode-specific arguments */
+    static final byte TASK = 2;
+    /** Worker to coordinator: completed (long), failed (long) */
+    static final byte PROGRESS = 3;
+    /** Worker to coordinator: ShardResult */
+    static final byte RESULT = 4;
+    /** Worker to coordinator: error message (UTF) */
+    static final byte ERROR = 5;
+
+    static final String MODE_WORKFLOW = "workflow";
+    static final String MODE_SUITE = "suite";
+
+    private Protocol() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Write a histogram as its non-empty buckets
+     * @param out Output stream
+     * @param histogram Histogram
+     * @throws IOException On write failure
+     */
+    static void writeHistogram(DataOutputStream out, LatencyHistogram histogram) throws IOException {
+        long[] counts = histogram.getBucketCounts();
+        int nonEmpty = 0;
+        for (long count : counts) {
+            if (count != 0) {
+                nonEmpty++;
+            }
+        }
+        out.writeInt(counts.length);
+        out.writeInt(nonEmpty);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                out.writeInt(i);
+                out.writeLong(counts[i]);
+            }
+        }
+        out.writeLong(histogram.getMaxMicros());
+    }
+
+    /**
+     * Read a histogram written by writeHistogram
+     * @param in Input stream
+     * @return Histogram
+     * @throws IOException On read failure
+     */
+    static LatencyHistogram readHistogram(DataInputStream in) throws IOException {
+        long[] counts = new long[in.readInt()];
+        int nonEmpty = in.readInt();
+        for (int i = 0; i < nonEmpty; i++) {
+            counts[in.readInt()] = in.readLong();
+        }
+        return LatencyHistogram.fromBucketCounts(counts, in.readLong());
+    }
+}
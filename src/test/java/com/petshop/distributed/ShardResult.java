@@ -0,0 +1,164 @@
+package com.petshop.distributed;
+
+import com.petshop.metrics.LatencyHistogram;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of one shard, or of several shards merged together
+ * Holds success/failure counts and a latency histogram per named operation (workflow step or test method).
+ * Workflow steps are timed per step; tests are timed from start to end of the test method.
+ */
+final class ShardResult {
+
+    private long elapsedNanos;
+    private final Map<String, Stat> stats = new LinkedHashMap<>();
+    private final List<String> failures = new ArrayList<>();
+
+    synchronized void record(String name, boolean passed, long micros) {
+        Stat stat = stats.computeIfAbsent(name, k -> new Stat(new LatencyHistogram()));
+        if (passed) {
+            stat.successes++;
+        } else {
+            stat.failures++;
+        }
+        stat.latency.recordMicros(micros);
+    }
+
+    synchronized void addStat(String name, long successes, long failures, LatencyHistogram latency) {
+        Stat stat = stats.computeIfAbsent(name, k -> new Stat(new LatencyHistogram()));
+        stat.successes += successes;
+        stat.failures += failures;
+        stat.latency.merge(latency);
+    }
+
+    synchronized void addFailure(String description) {
+        failures.add(description);
+    }
+
+    synchronized void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Fold another shard into this one; elapsed time is the slowest shard's
+     * @param other Shard result
+     */
+    synchronized void merge(ShardResult other) {
+        for (Map.Entry<String, Stat> entry : other.stats.entrySet()) {
+            Stat stat = entry.getValue();
+            addStat(entry.getKey(), stat.successes, stat.failures, stat.latency);
+        }
+        failures.addAll(other.failures);
+        elapsedNanos = Math.max(elapsedNanos, other.elapsedNanos);
+    }
+
+    synchronized long getOperations() {
+        long total = 0;
+        for (Stat stat : stats.values()) {
+            total += stat.successes + stat.failures;
+        }
+        return total;
+    }
+
+    synchronized long getFailedOperations() {
+        long total = 0;
+        for (Stat stat : stats.values()) {
+            total += stat.failures;
+        }
+        return total;
+    }
+
+    synchronized List<String> getFailures() {
+        return new ArrayList<>(failures);
+    }
+
+    synchronized double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(elapsedNanos);
+        out.writeInt(stats.size());
+        for (Map.Entry<String, Stat> entry : stats.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue().successes);
+            out.writeLong(entry.getValue().failures);
+            Protocol.writeHistogram(out, entry.getValue().latency);
+        }
+        out.writeInt(failures.size());
+        for (String failure : failures) {
+            out.writeUTF(failure);
+        }
+    }
+
+    static ShardResult readFrom(DataInputStream in) throws IOException {
+        ShardResult result = new ShardResult();
+        result.elapsedNanos = in.readLong();
+        int statCount = in.readInt();
+        for (int i = 0; i < statCount; i++) {
+            String name = in.readUTF();
+            long successes = in.readLong();
+            long failures = in.readLong();
+            result.addStat(name, successes, failures, Protocol.readHistogram(in));
+        }
+        int failureCount = in.readInt();
+        for (int i = 0; i < failureCount; i++) {
+            result.failures.add(in.readUTF());
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return format("Operation");
+    }
+
+    /**
+     * Format the report table
+     * @param heading Heading of the operation column, e.g. "Test" when the latencies are test durations
+     * @return Report
+     */
+    synchronized String format(String heading) {
+        double seconds = getElapsedSeconds();
+        StringBuilder sb = new StringBuilder(String.format("%d operations, %d failed in %.2fs (%.1f ops/s)%n",
+                getOperations(), getFailedOperations(), seconds, seconds == 0 ? 0 : getOperations() / seconds));
+        int width = heading.length();
+        for (String operation : stats.keySet()) {
+            width = Math.max(width, operation.length());
+        }
+        String header = "%-" + width + "s %8s %8s %9s %9s %9s %9s%n";
+        String row = "%-" + width + "s %8d %8d %9.1f %9.1f %9.1f %9.1f%n";
+        sb.append(String.format(header,
+                heading, "Success", "Failed", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, Stat> entry : stats.entrySet()) {
+            Stat stat = entry.getValue();
+            sb.append(String.format(row, entry.getKey(),
+                    stat.successes, stat.failures,
+                    stat.latency.getPercentileMicros(50) / 1000.0,
+                    stat.latency.getPercentileMicros(95) / 1000.0,
+                    stat.latency.getPercentileMicros(99) / 1000.0,
+                    stat.latency.getMaxMicros() / 1000.0));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Counts and latency of one operation
+     */
+    private static final class Stat {
+        private long successes;
+        private long failures;
+        private final LatencyHistogram latency;
+
+        private Stat(LatencyHistogram latency) {
+            this.latency = latency;
+        }
+    }
+}
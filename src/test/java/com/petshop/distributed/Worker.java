@@ -0,0 +1,215 @@
+package com.petshop.distributed;
+
+import com.petshop.metrics.Counter;
+import com.petshop.metrics.MetricsRegistry;
+import com.petshop.workflow.PetStoreWorkflows;
+import com.petshop.workflow.Workflow;
+import com.petshop.workflow.WorkflowEngine;
+import com.petshop.workflow.WorkflowReport;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Worker JVM for distributed runs
+ * Connects to a Coordinator, receives its shard (a slice of workflow instances or a set of test classes),
+ * runs it with the existing endpoint classes and streams progress and the final results back.
+ *
+ *   java -cp <test classpath> com.petshop.distributed.Worker <coordinator-host> <port> <worker-id>
+ */
+public class Worker {
+
+    private static final long PROGRESS_INTERVAL_MS = 1000;
+
+    private final DataOutputStream out;
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private Worker(DataOutputStream out) {
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: Worker <coordinator-host> <port> <worker-id>");
+            System.exit(2);
+        }
+        try (Socket socket = new Socket(args[0], Integer.parseInt(args[1]))) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            new Worker(out).serve(args[2], in);
+        }
+        System.exit(0);
+    }
+
+    private void serve(String workerId, DataInputStream in) throws IOException {
+        synchronized (out) {
+            out.writeByte(Protocol.HELLO);
+            out.writeUTF(workerId);
+            out.writeLong(ProcessHandle.current().pid());
+            out.flush();
+        }
+        if (in.readByte() != Protocol.TASK) {
+            throw new IOException("Expected a task from the coordinator");
+        }
+
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "worker-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        progress.scheduleAtFixedRate(this::sendProgress, PROGRESS_INTERVAL_MS, PROGRESS_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+        try {
+            String mode = in.readUTF();
+            ShardResult result;
+            if (Protocol.MODE_WORKFLOW.equals(mode)) {
+                result = runWorkflow(in.readUTF(), in.readInt(), in.readInt());
+            } else if (Protocol.MODE_SUITE.equals(mode)) {
+                result = runSuite(in.readUTF());
+            } else {
+                throw new IllegalArgumentException("Unknown mode: " + mode);
+            }
+            progress.shutdownNow();
+            sendProgress();
+            synchronized (out) {
+                out.writeByte(Protocol.RESULT);
+                result.writeTo(out);
+                out.flush();
+            }
+        } catch (RuntimeException e) {
+            progress.shutdownNow();
+            synchronized (out) {
+                out.writeByte(Protocol.ERROR);
+                out.writeUTF(String.valueOf(e));
+                out.flush();
+            }
+        }
+    }
+
+    private ShardResult runWorkflow(String name, int instances, int concurrency) {
+        Workflow workflow = PetStoreWorkflows.byName(name);
+        ShardResult result = new ShardResult();
+        if (instances > 0) {
+            ScheduledExecutorService counter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "worker-step-counter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            counter.scheduleAtFixedRate(this::countWorkflowSteps, 0, PROGRESS_INTERVAL_MS / 2, TimeUnit.MILLISECONDS);
+            WorkflowReport report = new WorkflowEngine(concurrency).run(workflow, instances);
+            counter.shutdownNow();
+            countWorkflowSteps();
+
+            for (WorkflowReport.StepStats step : report.getSteps()) {
+                result.addStat(name + "." + step.getName(), step.getSuccesses(), step.getFailures(), step.getLatency());
+            }
+            result.setElapsedNanos((long) (report.getElapsedSeconds() * 1e9));
+        }
+        return result;
+    }
+
+    private ShardResult runSuite(String classNames) {
+        List<Class<?>> classes = new ArrayList<>();
+        for (String className : classNames.split(",")) {
+            if (!className.isBlank()) {
+                try {
+                    classes.add(Class.forName(className.trim()));
+                } catch (ClassNotFoundException e) {
+                    throw new IllegalArgumentException("Test class not found: " + className, e);
+                }
+            }
+        }
+
+        ShardResult result = new ShardResult();
+        if (classes.isEmpty()) {
+            return result;
+        }
+        TestNG testng = new TestNG();
+        testng.setTestClasses(classes.toArray(new Class<?>[0]));
+        testng.setUseDefaultListeners(false);
+        testng.addListener(new ITestListener() {
+            @Override
+            public void onTestSuccess(ITestResult testResult) {
+                record(result, testResult, true);
+            }
+
+            @Override
+            public void onTestFailure(ITestResult testResult) {
+                record(result, testResult, false);
+                result.addFailure(operationName(testResult) + ": " + testResult.getThrowable());
+            }
+
+            @Override
+            public void onTestSkipped(ITestResult testResult) {
+                record(result, testResult, false);
+                result.addFailure(operationName(testResult) + ": skipped");
+            }
+        });
+
+        long start = System.nanoTime();
+        testng.run();
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Record a test's outcome and its whole duration, not the latency of the requests it made
+     */
+    private void record(ShardResult result, ITestResult testResult, boolean passed) {
+        long micros = TimeUnit.MILLISECONDS.toMicros(Math.max(0, testResult.getEndMillis() - testResult.getStartMillis()));
+        result.record(operationName(testResult), passed, micros);
+        (passed ? completed : failed).incrementAndGet();
+    }
+
+    private static String operationName(ITestResult testResult) {
+        return testResult.getTestClass().getRealClass().getSimpleName() + "." + testResult.getMethod().getMethodName();
+    }
+
+    private void countWorkflowSteps() {
+        MetricsRegistry.Family<?> family = MetricsRegistry.getInstance().getFamilies().get("petshop_workflow_steps_total");
+        if (family == null) {
+            return;
+        }
+        long success = 0;
+        long failure = 0;
+        for (Map.Entry<String, ?> child : family.getChildren().entrySet()) {
+            long count = ((Counter) child.getValue()).get();
+            if (child.getKey().contains("outcome=\"failure\"")) {
+                failure += count;
+            } else {
+                success += count;
+            }
+        }
+        completed.set(success);
+        failed.set(failure);
+    }
+
+    private void sendProgress() {
+        try {
+            synchronized (out) {
+                out.writeByte(Protocol.PROGRESS);
+                out.writeLong(completed.get());
+                out.writeLong(failed.get());
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Lost connection to coordinator", e);
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.petshop.fanout;
+
+import com.petshop.cleanup.ResourceTracker;
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+import com.petshop.workflow.FanOutEngine;
+import com.petshop.workflow.FanOutReport;
+import com.petshop.workflow.PetStoreWorkflows;
+import com.petshop.workflow.TargetEnvironment;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Fan-out run: the same workflow against several environments on one load schedule
+ * fanout.workflow is started fanout.rate times per second in every fanout.environments entry for
+ * fanout.duration.seconds; instance i starts in all environments at the same moment, so differences in
+ * throughput and latency come from the environments and not from the load. The side-by-side comparison
+ * is printed and written as CSV to fanout.dir.
+ *
+ *   fanout.environments=qa=https://qa.example.com/v2,staging=https://staging.example.com/v2
+ *
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.petshop.fanout.FanOutRunner
+ *
+ * The workflow deletes what it creates. With cleanup.enabled, anything it leaves behind is deleted
+ * at the end of the run from the environment it was created in.
+ */
+public class FanOutRunner {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) {
+        ConfigManager config = ConfigFactory.getConfig();
+        List<TargetEnvironment> environments = TargetEnvironment.parseList(config.fanoutEnvironments());
+        if (environments.size() < 2) {
+            throw new IllegalArgumentException("fanout.environments needs at least two entries: "
+                    + config.fanoutEnvironments());
+        }
+        String workflow = config.fanoutWorkflow();
+        PetStoreWorkflows.byName(workflow);
+
+        System.out.printf("Fan-out run of %s against %s at %.1f instances/s for %d s, %d threads each%n",
+                workflow, environments, config.fanoutRate(), config.fanoutDurationSeconds(),
+                config.fanoutConcurrency());
+
+        FanOutReport report = new FanOutEngine(config.fanoutConcurrency(), config.fanoutRate())
+                .run(baseUri -> PetStoreWorkflows.byName(workflow, baseUri), environments,
+                        Duration.ofSeconds(config.fanoutDurationSeconds()));
+
+        Path csv = Paths.get(config.fanoutDir(), "fanout-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".csv");
+        report.writeCsv(csv);
+        System.out.println();
+        System.out.print(report);
+        System.out.println("Comparison written to " + csv);
+
+        if (config.cleanupEnabled()) {
+            System.out.println(ResourceTracker.cleanUpAll().summary());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.petshop.listeners;
+
+import com.petshop.metrics.LatencyHistogram;
+import com.petshop.utils.ExtentReportManager;
+import com.petshop.utils.LoggerUtil;
+import org.testng.ITestResult;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the invocations of data-driven test methods into one report entry per method
+ * Thousands of DataProvider rows would otherwise become thousands of Extent nodes and log lines;
+ * instead each method gets pass/fail/skip counts, throughput, invocation duration percentiles and
+ * the first few failures, published when the test context finishes.
+ */
+class DataDrivenReport {
+
+    private static final int MAX_FAILURE_SAMPLES = 10;
+    private static final Map<String, MethodStats> STATS = new ConcurrentHashMap<>();
+
+    private DataDrivenReport() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check whether a result belongs to a method fed by a DataProvider
+     * @param result Test result
+     * @return true if the invocation is aggregated rather than reported on its own
+     */
+    static boolean isAggregated(ITestResult result) {
+        return result.getMethod().isDataDriven();
+    }
+
+    /**
+     * Add one finished invocation to its method's aggregate
+     * @param result Test result
+     */
+    static void record(ITestResult result) {
+        String key = result.getTestClass().getName() + "." + result.getMethod().getMethodName();
+        STATS.computeIfAbsent(key, k -> new MethodStats(result.getMethod().getDescription())).add(result);
+    }
+
+    /**
+     * Write one Extent node and one log summary per aggregated method, then reset
+     */
+    static void publish() {
+        for (Map.Entry<String, MethodStats> entry : new TreeMap<>(STATS).entrySet()) {
+            entry.getValue().publish(entry.getKey());
+        }
+        STATS.clear();
+    }
+
+    /**
+     * Counters for the invocations of one test method
+     */
+    private static final class MethodStats {
+
+        private final String description;
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LatencyHistogram durations = new LatencyHistogram();
+        private final LongAccumulator firstStart = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator lastEnd = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        private final Queue<String> failureSamples = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger failureSampleCount = new AtomicInteger();
+
+        MethodStats(String description) {
+            this.description = description;
+        }
+
+        void add(ITestResult result) {
+            switch (result.getStatus()) {
+                case ITestResult.SUCCESS:
+                    passed.increment();
+                    break;
+                case ITestResult.FAILURE:
+                    failed.increment();
+                    sampleFailure(result);
+                    break;
+                default:
+                    skipped.increment();
+                    break;
+            }
+            durations.record(result.getEndMillis() - result.getStartMillis(), TimeUnit.MILLISECONDS);
+            firstStart.accumulate(result.getStartMillis());
+            lastEnd.accumulate(result.getEndMillis());
+        }
+
+        void publish(String methodName) {
+            long invocations = passed.sum() + failed.sum() + skipped.sum();
+            double seconds = Math.max(0.001, (lastEnd.get() - firstStart.get()) / 1000.0);
+            String summary = String.format("%s: %d rows in %.1f s (%.1f/s), %d passed, %d failed, %d skipped; "
+                            + "invocation p50=%.0fms p95=%.0fms p99=%.0fms max=%.0fms", methodName, invocations,
+                    seconds, invocations / seconds, passed.sum(), failed.sum(), skipped.sum(),
+                    durations.getPercentileMicros(50) / 1000.0, durations.getPercentileMicros(95) / 1000.0,
+                    durations.getPercentileMicros(99) / 1000.0, durations.getMaxMicros() / 1000.0);
+            LoggerUtil.info("Data-driven " + summary);
+
+            ExtentReportManager.createTest(methodName + " [" + invocations + " rows]",
+                    description != null ? description : methodName);
+            ExtentReportManager.logInfo(summary);
+            for (String sample : failureSamples) {
+                ExtentReportManager.logFail(sample);
+            }
+            if (failed.sum() > 0) {
+                ExtentReportManager.logFail(failed.sum() + " of " + invocations + " rows failed"
+                        + (failed.sum() > failureSamples.size() ? "; first " + failureSamples.size() + " shown" : ""));
+            } else if (passed.sum() > 0) {
+                ExtentReportManager.logPass("All " + passed.sum() + " executed rows passed");
+            } else {
+                ExtentReportManager.logSkip("No rows executed");
+            }
+            ExtentReportManager.removeTest();
+        }
+
+        private void sampleFailure(ITestResult result) {
+            if (failureSampleCount.getAndIncrement() >= MAX_FAILURE_SAMPLES) {
+                return;
+            }
+            Object[] parameters = result.getParameters();
+            String row = parameters.length > 0 ? String.valueOf(parameters[0]) : "row";
+            Throwable throwable = result.getThrowable();
+            failureSamples.add(row + ": " + (throwable != null ? throwable.getMessage() : "failed"));
+        }
+    }
+}
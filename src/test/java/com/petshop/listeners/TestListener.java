@@ -1,5 +1,9 @@
 package com.petshop.listeners;
 
+import com.petshop.cleanup.ResourceTracker;
+import com.petshop.fixtures.Fixtures;
+import com.petshop.results.ResultStore;
+import com.petshop.tracing.Tracer;
 import com.petshop.utils.ExtentReportManager;
 import com.petshop.utils.LoggerUtil;
 import org.testng.ITestContext;
@@ -9,6 +13,8 @@ import org.testng.ITestResult;
 /**
  * TestNG Listener for test execution events
  * Follows Observer Pattern - Listens to test events
+ * Invocations of data-driven methods are aggregated per method by DataDrivenReport instead of
+ * getting their own Extent node.
  */
 public class TestListener implements ITestListener {
 
@@ -19,6 +25,7 @@ public class TestListener implements ITestListener {
 
     @Override
     public void onFinish(ITestContext context) {
+        DataDrivenReport.publish();
         LoggerUtil.info("Test Suite Finished: " + context.getName());
     }
 
@@ -27,6 +34,18 @@ public class TestListener implements ITestListener {
         String testName = result.getMethod().getMethodName();
         String description = result.getMethod().getDescription();
         
+        if (Tracer.isEnabled()) {
+            Tracer.startTestSpan(result.getTestClass().getName() + "." + testName);
+        }
+        if (ResultStore.isEnabled()) {
+            ResultStore.startTest(result.getTestClass().getName() + "." + testName);
+        }
+        if (DataDrivenReport.isAggregated(result)) {
+            // Detach any earlier test's node so logging from this invocation goes nowhere
+            LoggerUtil.debug("Test Started: " + testName + " " + rowOf(result));
+            ExtentReportManager.removeTest();
+            return;
+        }
         LoggerUtil.info("Test Started: " + testName);
         ExtentReportManager.createTest(testName, description != null ? description : testName);
         ExtentReportManager.logInfo("Test execution started: " + testName);
@@ -35,6 +54,14 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestSuccess(ITestResult result) {
         String testName = result.getMethod().getMethodName();
+        endTestSpan("PASS");
+        ResultStore.endTest();
+        Fixtures.releaseAll();
+        releaseResources();
+        if (DataDrivenReport.isAggregated(result)) {
+            DataDrivenReport.record(result);
+            return;
+        }
         LoggerUtil.info("Test Passed: " + testName);
         ExtentReportManager.logPass("Test passed successfully: " + testName);
     }
@@ -44,6 +71,16 @@ public class TestListener implements ITestListener {
         String testName = result.getMethod().getMethodName();
         Throwable throwable = result.getThrowable();
         
+        endTestSpan("FAIL");
+        ResultStore.endTest();
+        Fixtures.releaseAll();
+        releaseResources();
+        if (DataDrivenReport.isAggregated(result)) {
+            LoggerUtil.error("Test Failed: " + testName + " " + rowOf(result) + ": "
+                    + (throwable != null ? throwable.getMessage() : "no exception"));
+            DataDrivenReport.record(result);
+            return;
+        }
         LoggerUtil.error("Test Failed: " + testName, throwable);
         ExtentReportManager.logFail("Test failed: " + testName);
         
@@ -56,6 +93,15 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestSkipped(ITestResult result) {
         String testName = result.getMethod().getMethodName();
+        endTestSpan("SKIP");
+        ResultStore.endTest();
+        Fixtures.releaseAll();
+        releaseResources();
+        if (DataDrivenReport.isAggregated(result)) {
+            LoggerUtil.debug("Test Skipped: " + testName + " " + rowOf(result));
+            DataDrivenReport.record(result);
+            return;
+        }
         LoggerUtil.warn("Test Skipped: " + testName);
         ExtentReportManager.createTest(testName, "Test was skipped");
         ExtentReportManager.logSkip("Test skipped: " + testName);
@@ -66,6 +112,35 @@ public class TestListener implements ITestListener {
         // Not implemented
     }
 
+    /**
+     * End the trace span of the current test, if tracing is enabled
+     * @param status Test outcome
+     */
+    private void endTestSpan(String status) {
+        if (Tracer.isEnabled()) {
+            Tracer.endTestSpan(status);
+        }
+    }
+
+    /**
+     * Hand resources created by the current test to the tracker for cleanup
+     */
+    private void releaseResources() {
+        if (ResourceTracker.isEnabled()) {
+            ResourceTracker.releaseCurrentThread();
+        }
+    }
+
+    /**
+     * Get the DataProvider row of an invocation, e.g. "[pet#42]"
+     * @param result Test result
+     * @return Row label
+     */
+    private String rowOf(ITestResult result) {
+        Object[] parameters = result.getParameters();
+        return parameters.length > 0 ? "[" + parameters[0] + "]" : "";
+    }
+
     /**
      * Get stack trace as string
      * @param throwable Throwable
@@ -0,0 +1,107 @@
+package com.petshop.scheduler;
+
+import com.petshop.utils.LoggerUtil;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports the critical path of a suite run from measured test durations
+ * Follows Observer Pattern - Listens to suite completion
+ */
+public class CriticalPathReporter implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, ITestResult> results = new HashMap<>();
+        for (ISuiteResult suiteResult : suite.getResults().values()) {
+            ITestContext context = suiteResult.getTestContext();
+            collect(results, context.getPassedTests().getAllResults());
+            collect(results, context.getFailedTests().getAllResults());
+            collect(results, context.getSkippedTests().getAllResults());
+        }
+        if (results.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> finishTimes = new HashMap<>();
+        Map<String, String> predecessors = new HashMap<>();
+        long totalWork = 0;
+        long firstStart = Long.MAX_VALUE;
+        long lastEnd = Long.MIN_VALUE;
+        String tail = null;
+
+        for (Map.Entry<String, ITestResult> entry : results.entrySet()) {
+            ITestResult result = entry.getValue();
+            totalWork += duration(result);
+            firstStart = Math.min(firstStart, result.getStartMillis());
+            lastEnd = Math.max(lastEnd, result.getEndMillis());
+
+            long finish = finishTime(entry.getKey(), results, finishTimes, predecessors);
+            if (tail == null || finish > finishTimes.get(tail)) {
+                tail = entry.getKey();
+            }
+        }
+
+        List<String> path = new ArrayList<>();
+        for (String node = tail; node != null; node = predecessors.get(node)) {
+            path.add(node.substring(node.lastIndexOf('.', node.lastIndexOf('.') - 1) + 1)
+                    + " (" + duration(results.get(node)) + " ms)");
+        }
+        Collections.reverse(path);
+
+        long wallClock = Math.max(1, lastEnd - firstStart);
+        LoggerUtil.info(String.format(
+                "Critical path %d ms of %d ms wall-clock, %d ms total work, parallelism %.2fx: %s",
+                finishTimes.get(tail), wallClock, totalWork, (double) totalWork / wallClock,
+                String.join(" -> ", path)));
+    }
+
+    private static void collect(Map<String, ITestResult> results, Iterable<ITestResult> source) {
+        for (ITestResult result : source) {
+            results.put(result.getMethod().getQualifiedName(), result);
+        }
+    }
+
+    private static long finishTime(String name, Map<String, ITestResult> results,
+                                   Map<String, Long> finishTimes, Map<String, String> predecessors) {
+        Long known = finishTimes.get(name);
+        if (known != null) {
+            return known;
+        }
+        finishTimes.put(name, 0L); // guards against cycles while recursing
+
+        ITestNGMethod method = results.get(name).getMethod();
+        long longestUpstream = 0;
+        for (String upstream : method.getMethodsDependedUpon()) {
+            String qualified = upstream.contains(".")
+                    ? upstream
+                    : method.getRealClass().getName() + "." + upstream;
+            if (!results.containsKey(qualified)) {
+                continue;
+            }
+            long upstreamFinish = finishTime(qualified, results, finishTimes, predecessors);
+            if (upstreamFinish > longestUpstream) {
+                longestUpstream = upstreamFinish;
+                predecessors.put(name, qualified);
+            }
+        }
+
+        long finish = longestUpstream + duration(results.get(name));
+        finishTimes.put(name, finish);
+        return finish;
+    }
+
+    private static long duration(ITestResult result) {
+        return Math.max(0, result.getEndMillis() - result.getStartMillis());
+    }
+}
@@ -0,0 +1,150 @@
+package com.petshop.scheduler;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the real dependency DAG of a test class for parallel="methods" runs
+ * Combines dependsOnMethods with @SharedState conflicts and ranks methods by downstream chain length
+ *
+ * Two methods conflict when they share a state key and at least one of them writes it;
+ * the one with the lower declared priority runs first and the other gains a dependsOnMethods edge.
+ * Because the edge is a real dependency, a failed upstream method skips its conflicting successors.
+ * Declared priority is replaced with the negated rank so TestNG starts critical-path heads first.
+ * Methods working on their own Fixtures leases share nothing and get no edges, so they all start at once.
+ */
+public class DataFlowTransformer implements IAnnotationTransformer {
+
+    private static final Map<Class<?>, ClassPlan> PLANS = new ConcurrentHashMap<>();
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass,
+                          Constructor testConstructor, Method testMethod) {
+        if (testMethod == null) {
+            return;
+        }
+
+        ClassPlan plan = PLANS.computeIfAbsent(testMethod.getDeclaringClass(), ClassPlan::new);
+        String name = testMethod.getName();
+
+        Set<String> dependsOn = new LinkedHashSet<>(Arrays.asList(annotation.getDependsOnMethods()));
+        dependsOn.addAll(plan.getDataFlowDependencies(name));
+        annotation.setDependsOnMethods(dependsOn.toArray(new String[0]));
+        annotation.setPriority(-plan.getRank(name));
+    }
+
+    /**
+     * Dependency graph of the @Test methods declared on one class
+     */
+    static final class ClassPlan {
+
+        private final Map<String, Set<String>> dataFlowDependencies = new HashMap<>();
+        private final Map<String, Set<String>> dependents = new HashMap<>();
+        private final Map<String, Integer> ranks = new HashMap<>();
+
+        ClassPlan(Class<?> testClass) {
+            List<Method> methods = new ArrayList<>();
+            for (Method method : testClass.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Test.class)) {
+                    methods.add(method);
+                }
+            }
+            methods.sort(Comparator.comparingInt((Method m) -> m.getAnnotation(Test.class).priority())
+                    .thenComparing(Method::getName));
+
+            Map<String, Method> byName = new LinkedHashMap<>();
+            for (Method method : methods) {
+                byName.put(method.getName(), method);
+                dependents.put(method.getName(), new HashSet<>());
+            }
+
+            for (Method method : methods) {
+                for (String declared : method.getAnnotation(Test.class).dependsOnMethods()) {
+                    String upstream = declared.substring(declared.lastIndexOf('.') + 1);
+                    if (byName.containsKey(upstream)) {
+                        dependents.get(upstream).add(method.getName());
+                    }
+                }
+            }
+
+            for (int later = 1; later < methods.size(); later++) {
+                for (int earlier = 0; earlier < later; earlier++) {
+                    Method first = methods.get(earlier);
+                    Method second = methods.get(later);
+                    if (conflicts(first.getAnnotation(SharedState.class), second.getAnnotation(SharedState.class))) {
+                        dataFlowDependencies.computeIfAbsent(second.getName(), k -> new LinkedHashSet<>())
+                                .add(first.getName());
+                        dependents.get(first.getName()).add(second.getName());
+                    }
+                }
+            }
+
+            for (String name : byName.keySet()) {
+                rank(name, new HashSet<>());
+            }
+        }
+
+        Set<String> getDataFlowDependencies(String methodName) {
+            return dataFlowDependencies.getOrDefault(methodName, Collections.emptySet());
+        }
+
+        int getRank(String methodName) {
+            return ranks.getOrDefault(methodName, 1);
+        }
+
+        private int rank(String name, Set<String> visiting) {
+            Integer known = ranks.get(name);
+            if (known != null) {
+                return known;
+            }
+            if (!visiting.add(name)) {
+                return 0; // cycle - TestNG reports it when building its own graph
+            }
+
+            int longest = 0;
+            for (String dependent : dependents.getOrDefault(name, Collections.emptySet())) {
+                longest = Math.max(longest, rank(dependent, visiting));
+            }
+            visiting.remove(name);
+            ranks.put(name, longest + 1);
+            return longest + 1;
+        }
+
+        private static boolean conflicts(SharedState first, SharedState second) {
+            if (first == null || second == null) {
+                return false;
+            }
+            return intersects(first.writes(), second.reads())
+                    || intersects(first.writes(), second.writes())
+                    || intersects(first.reads(), second.writes());
+        }
+
+        private static boolean intersects(String[] left, String[] right) {
+            for (String key : left) {
+                for (String other : right) {
+                    if (key.equals(other)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
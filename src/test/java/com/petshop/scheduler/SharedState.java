@@ -0,0 +1,27 @@
+package com.petshop.scheduler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the shared state a test method reads and writes
+ * Used by DataFlowTransformer to order conflicting methods when running in parallel. Resources leased
+ * from Fixtures belong to one invocation and need no declaration; this is for state that fixtures
+ * cannot isolate, such as the server's login session.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SharedState {
+
+    /**
+     * State keys the method only reads
+     */
+    String[] reads() default {};
+
+    /**
+     * State keys the method creates, mutates or deletes
+     */
+    String[] writes() default {};
+}
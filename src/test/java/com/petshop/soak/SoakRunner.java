@@ -0,0 +1,85 @@
+package com.petshop.soak;
+
+import com.petshop.config.ConfigFactory;
+import com.petshop.config.ConfigManager;
+import com.petshop.config.ConfigWatcher;
+import com.petshop.workflow.PetStoreWorkflows;
+import com.petshop.workflow.WorkflowEngine;
+import com.petshop.workflow.WorkflowReport;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Soak run: loops the configured workflows for a fixed duration while sampling the client JVM
+ * Every soak.workflows entry runs on its own WorkflowEngine with soak.concurrency threads until
+ * soak.duration.minutes have passed. After soak.warmup.seconds, heap, GC, allocation, threads, open file
+ * descriptors and request latency are sampled every soak.sample.interval.seconds; the samples are written as CSV to soak.dir
+ * and the run exits with 1 when any series grew monotonically.
+ *
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.petshop.soak.SoakRunner
+ *
+ * With config.reload.enabled, base.url and timeouts can be changed in the classpath config.properties
+ * while the run goes on.
+ *
+ * TestNG classes are not looped here: the fixture pools are shut down with the first suite and cannot
+ * be restarted in the same JVM.
+ */
+public class SoakRunner {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) throws Exception {
+        ConfigManager config = ConfigFactory.getConfig();
+        List<String> workflows = Arrays.stream(config.soakWorkflows().split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toList());
+        if (workflows.isEmpty()) {
+            throw new IllegalArgumentException("soak.workflows is empty");
+        }
+        workflows.forEach(PetStoreWorkflows::byName);
+        Duration duration = Duration.ofMillis((long) (config.soakDurationMinutes() * 60_000));
+
+        System.out.printf("Soak run of %s for %.1f min, %d threads each, sampling every %d s%n",
+                workflows, config.soakDurationMinutes(), config.soakConcurrency(),
+                config.soakSampleIntervalSeconds());
+
+        if (config.configReloadEnabled()) {
+            ConfigWatcher.start();
+        }
+        ExecutorService drivers = Executors.newFixedThreadPool(workflows.size());
+        List<Future<WorkflowReport>> runs = new ArrayList<>();
+        for (String name : workflows) {
+            runs.add(drivers.submit(() ->
+                    new WorkflowEngine(config.soakConcurrency()).runFor(PetStoreWorkflows.byName(name), duration)));
+        }
+        // Connection pools, caches and JIT fill up at first; sampling that would read as growth
+        Thread.sleep(Math.min(config.soakWarmupSeconds() * 1000L, duration.toMillis()));
+        SoakMonitor monitor = new SoakMonitor(Duration.ofSeconds(config.soakSampleIntervalSeconds()));
+        monitor.start();
+        for (Future<WorkflowReport> run : runs) {
+            System.out.print(run.get());
+        }
+        drivers.shutdown();
+        SoakReport report = monitor.stop(config.soakTrendAlpha(), config.soakGrowthMinPct());
+
+        Path csv = Paths.get(config.soakDir(), "soak-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".csv");
+        report.writeCsv(csv);
+        System.out.println();
+        System.out.print(report);
+        System.out.println("Samples written to " + csv);
+        System.exit(report.hasGrowth() ? 1 : 0);
+    }
+}
@@ -0,0 +1,82 @@
+package com.petshop.tests;
+
+import com.petshop.api.endpoints.PetEndpoint;
+import com.petshop.api.endpoints.StoreEndpoint;
+import com.petshop.api.endpoints.UserEndpoint;
+import com.petshop.api.payloads.Order;
+import com.petshop.api.payloads.Pet;
+import com.petshop.api.payloads.User;
+import com.petshop.api.response.ApiResult;
+import com.petshop.base.BaseTest;
+import com.petshop.dataproviders.DataRow;
+import com.petshop.dataproviders.PayloadProviders;
+import com.petshop.utils.AssertionUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Data-driven API Test Cases
+ * Runs a create, read and delete round trip for every row of the Pet, User and Order providers;
+ * results are reported per method, not per row. Run with: mvn test -Pdata-driven
+ */
+public class DataDrivenApiTest extends BaseTest {
+
+    private PetEndpoint petEndpoint;
+    private UserEndpoint userEndpoint;
+    private StoreEndpoint storeEndpoint;
+
+    @BeforeClass
+    public void setup() {
+        petEndpoint = new PetEndpoint();
+        userEndpoint = new UserEndpoint();
+        storeEndpoint = new StoreEndpoint();
+    }
+
+    @Test(dataProvider = "pets", dataProviderClass = PayloadProviders.class,
+            description = "Create, read and delete a pet per data row")
+    public void testPetRoundTrip(DataRow<Pet> row) {
+        Pet pet = row.get();
+
+        ApiResult<Pet> created = petEndpoint.createTyped(pet);
+        AssertionUtils.assertStatusCode(created, 200);
+        Long id = created.as().getId();
+
+        ApiResult<Pet> retrieved = petEndpoint.getByIdTyped(id);
+        AssertionUtils.assertStatusCode(retrieved, 200);
+        Assert.assertEquals(retrieved.as().getName(), pet.getName(), "Pet name mismatch");
+
+        AssertionUtils.assertStatusCode(petEndpoint.deleteTyped(id), 200);
+    }
+
+    @Test(dataProvider = "users", dataProviderClass = PayloadProviders.class,
+            description = "Create, log in and delete a user per data row")
+    public void testUserRoundTrip(DataRow<User> row) {
+        User user = row.get();
+
+        AssertionUtils.assertStatusCode(userEndpoint.createTyped(user), 200);
+        AssertionUtils.assertStatusCode(userEndpoint.login(user.getUsername(), user.getPassword()), 200);
+
+        ApiResult<User> retrieved = userEndpoint.getByIdTyped(user.getUsername());
+        AssertionUtils.assertStatusCode(retrieved, 200);
+        Assert.assertEquals(retrieved.as().getEmail(), user.getEmail(), "Email mismatch");
+
+        AssertionUtils.assertStatusCode(userEndpoint.deleteTyped(user.getUsername()), 200);
+    }
+
+    @Test(dataProvider = "orders", dataProviderClass = PayloadProviders.class,
+            description = "Place, read and delete an order per data row")
+    public void testOrderRoundTrip(DataRow<Order> row) {
+        Order order = row.get();
+
+        ApiResult<Order> placed = storeEndpoint.createTyped(order);
+        AssertionUtils.assertStatusCode(placed, 200);
+        Long id = placed.as().getId();
+
+        ApiResult<Order> retrieved = storeEndpoint.getByIdTyped(id);
+        AssertionUtils.assertStatusCode(retrieved, 200);
+        Assert.assertEquals(retrieved.as().getPetId(), order.getPetId(), "Order pet ID mismatch");
+
+        AssertionUtils.assertStatusCode(storeEndpoint.deleteTyped(id), 200);
+    }
+}
@@ -2,7 +2,9 @@ package com.petshop.tests;
 
 import com.petshop.api.endpoints.PetEndpoint;
 import com.petshop.api.payloads.Pet;
+import com.petshop.api.response.ApiResult;
 import com.petshop.base.BaseTest;
+import com.petshop.fixtures.Fixtures;
 import com.petshop.utils.AssertionUtils;
 import com.petshop.utils.ExtentReportManager;
 import com.petshop.utils.JsonUtils;
@@ -19,7 +21,6 @@ import org.testng.annotations.Test;
 public class PetApiTest extends BaseTest {
 
     private PetEndpoint petEndpoint;
-    private Pet testPet;
 
     @BeforeClass
     public void setup() {
@@ -29,61 +30,62 @@ public class PetApiTest extends BaseTest {
     @Test(priority = 1, description = "Create a new pet with valid data")
     public void testCreatePet() {
         ExtentReportManager.logInfo("Generating test pet data");
-        testPet = TestDataGenerator.generatePet();
+        Pet testPet = TestDataGenerator.generatePet();
 
         ExtentReportManager.logInfo("Sending POST request to create pet");
-        Response response = petEndpoint.create(testPet);
+        ApiResult<Pet> result = petEndpoint.createTyped(testPet);
 
-        ExtentReportManager.logInfo("Response: " + JsonUtils.prettyPrint(response.asString()));
+        ExtentReportManager.logInfo("Response: " + result.prettyPrint());
 
         // Assertions
-        AssertionUtils.assertStatusCode(response, 200);
-        AssertionUtils.assertContentType(response, "application/json");
-        AssertionUtils.assertResponseTime(response, 5000);
+        AssertionUtils.assertStatusCode(result, 200);
+        AssertionUtils.assertContentType(result, "application/json");
+        AssertionUtils.assertResponseTime(result);
 
-        Pet createdPet = JsonUtils.fromResponse(response, Pet.class);
+        Pet createdPet = result.as();
         Assert.assertEquals(createdPet.getName(), testPet.getName(), "Pet name mismatch");
         Assert.assertEquals(createdPet.getStatus(), testPet.getStatus(), "Pet status mismatch");
 
-        // Store the created pet ID for subsequent tests
-        testPet.setId(createdPet.getId());
-
         ExtentReportManager.logPass("Pet created successfully with ID: " + createdPet.getId());
     }
 
-    @Test(priority = 2, description = "Get pet by ID", dependsOnMethods = "testCreatePet")
+    @Test(priority = 2, description = "Get pet by ID")
     public void testGetPetById() {
+        Pet testPet = Fixtures.readOnlyPet();
+
         ExtentReportManager.logInfo("Sending GET request to retrieve pet by ID: " + testPet.getId());
-        Response response = petEndpoint.getById(testPet.getId());
+        ApiResult<Pet> result = petEndpoint.getByIdTyped(testPet.getId());
 
-        ExtentReportManager.logInfo("Response: " + JsonUtils.prettyPrint(response.asString()));
+        ExtentReportManager.logInfo("Response: " + result.prettyPrint());
 
         // Assertions
-        AssertionUtils.assertStatusCode(response, 200);
-        AssertionUtils.assertJsonPathExists(response, "id");
-        AssertionUtils.assertJsonPathValue(response, "name", testPet.getName());
+        AssertionUtils.assertStatusCode(result, 200);
+        AssertionUtils.assertJsonPathExists(result, "id");
+        AssertionUtils.assertJsonPathValue(result, "name", testPet.getName());
 
-        Pet retrievedPet = JsonUtils.fromResponse(response, Pet.class);
+        Pet retrievedPet = result.as();
         Assert.assertEquals(retrievedPet.getId(), testPet.getId(), "Pet ID mismatch");
 
         ExtentReportManager.logPass("Pet retrieved successfully: " + retrievedPet.getName());
     }
 
-    @Test(priority = 3, description = "Update pet information", dependsOnMethods = "testCreatePet")
+    @Test(priority = 3, description = "Update pet information")
     public void testUpdatePet() {
+        Pet testPet = Fixtures.pet();
+
         ExtentReportManager.logInfo("Updating pet name");
         testPet.setName("Updated " + testPet.getName());
         testPet.setStatus("sold");
 
         ExtentReportManager.logInfo("Sending PUT request to update pet");
-        Response response = petEndpoint.update(testPet);
+        ApiResult<Pet> result = petEndpoint.updateTyped(testPet);
 
-        ExtentReportManager.logInfo("Response: " + JsonUtils.prettyPrint(response.asString()));
+        ExtentReportManager.logInfo("Response: " + result.prettyPrint());
 
         // Assertions
-        AssertionUtils.assertStatusCode(response, 200);
+        AssertionUtils.assertStatusCode(result, 200);
 
-        Pet updatedPet = JsonUtils.fromResponse(response, Pet.class);
+        Pet updatedPet = result.as();
         Assert.assertEquals(updatedPet.getName(), testPet.getName(), "Updated pet name mismatch");
         Assert.assertEquals(updatedPet.getStatus(), "sold", "Updated pet status mismatch");
 
@@ -95,22 +97,24 @@ public class PetApiTest extends BaseTest {
         String status = "available";
         ExtentReportManager.logInfo("Searching for pets with status: " + status);
 
-        Response response = petEndpoint.findByStatus(status);
+        ApiResult<Pet[]> result = petEndpoint.findByStatusTyped(status);
 
-        ExtentReportManager.logInfo("Response status code: " + response.getStatusCode());
+        ExtentReportManager.logInfo("Response status code: " + result.getStatusCode());
 
         // Assertions
-        AssertionUtils.assertStatusCode(response, 200);
-        AssertionUtils.assertContentType(response, "application/json");
+        AssertionUtils.assertStatusCode(result, 200);
+        AssertionUtils.assertContentType(result, "application/json");
 
-        Pet[] pets = JsonUtils.fromResponse(response, Pet[].class);
+        Pet[] pets = result.as();
         Assert.assertTrue(pets.length > 0, "No pets found with status: " + status);
 
         ExtentReportManager.logPass("Found " + pets.length + " pets with status: " + status);
     }
 
-    @Test(priority = 5, description = "Delete pet by ID", dependsOnMethods = "testCreatePet")
+    @Test(priority = 5, description = "Delete pet by ID")
     public void testDeletePet() {
+        Pet testPet = Fixtures.pet();
+
         ExtentReportManager.logInfo("Sending DELETE request for pet ID: " + testPet.getId());
         Response response = petEndpoint.delete(testPet.getId());
 
@@ -122,8 +126,11 @@ public class PetApiTest extends BaseTest {
         ExtentReportManager.logPass("Pet deleted successfully");
     }
 
-    @Test(priority = 6, description = "Verify deleted pet returns 404", dependsOnMethods = "testDeletePet")
+    @Test(priority = 6, description = "Verify deleted pet returns 404")
     public void testGetDeletedPet() {
+        Pet testPet = Fixtures.pet();
+        AssertionUtils.assertStatusCode(petEndpoint.delete(testPet.getId()), 200);
+
         ExtentReportManager.logInfo("Attempting to retrieve deleted pet");
         Response response = petEndpoint.getById(testPet.getId());
 
@@ -2,7 +2,9 @@ package com.petshop.tests;
 
 import com.petshop.api.endpoints.StoreEndpoint;
 import com.petshop.api.payloads.Order;
+import com.petshop.api.response.ApiResult;
 import com.petshop.base.BaseTest;
+import com.petshop.fixtures.Fixtures;
 import com.petshop.utils.AssertionUtils;
 import com.petshop.utils.ExtentReportManager;
 import com.petshop.utils.JsonUtils;
@@ -19,7 +21,6 @@ import org.testng.annotations.Test;
 public class StoreApiTest extends BaseTest {
 
     private StoreEndpoint storeEndpoint;
-    private Order testOrder;
 
     @BeforeClass
     public void setup() {
@@ -29,41 +30,40 @@ public class StoreApiTest extends BaseTest {
     @Test(priority = 1, description = "Place a new order")
     public void testPlaceOrder() {
         ExtentReportManager.logInfo("Generating test order data");
-        testOrder = TestDataGenerator.generateOrder();
+        Order testOrder = TestDataGenerator.generateOrder();
 
         ExtentReportManager.logInfo("Sending POST request to place order");
-        Response response = storeEndpoint.create(testOrder);
+        ApiResult<Order> result = storeEndpoint.createTyped(testOrder);
 
-        ExtentReportManager.logInfo("Response: " + JsonUtils.prettyPrint(response.asString()));
+        ExtentReportManager.logInfo("Response: " + result.prettyPrint());
 
         // Assertions
-        AssertionUtils.assertStatusCode(response, 200);
-        AssertionUtils.assertContentType(response, "application/json");
-        AssertionUtils.assertResponseTime(response, 5000);
+        AssertionUtils.assertStatusCode(result, 200);
+        AssertionUtils.assertContentType(result, "application/json");
+        AssertionUtils.assertResponseTime(result);
 
-        Order createdOrder = JsonUtils.fromResponse(response, Order.class);
+        Order createdOrder = result.as();
         Assert.assertEquals(createdOrder.getPetId(), testOrder.getPetId(), "Pet ID mismatch");
         Assert.assertEquals(createdOrder.getQuantity(), testOrder.getQuantity(), "Quantity mismatch");
 
-        // Store the created order ID for subsequent tests
-        testOrder.setId(createdOrder.getId());
-
         ExtentReportManager.logPass("Order placed successfully with ID: " + createdOrder.getId());
     }
 
-    @Test(priority = 2, description = "Get order by ID", dependsOnMethods = "testPlaceOrder")
+    @Test(priority = 2, description = "Get order by ID")
     public void testGetOrderById() {
+        Order testOrder = Fixtures.readOnlyOrder();
+
         ExtentReportManager.logInfo("Sending GET request to retrieve order by ID: " + testOrder.getId());
-        Response response = storeEndpoint.getById(testOrder.getId());
+        ApiResult<Order> result = storeEndpoint.getByIdTyped(testOrder.getId());
 
-        ExtentReportManager.logInfo("Response: " + JsonUtils.prettyPrint(response.asString()));
+        ExtentReportManager.logInfo("Response: " + result.prettyPrint());
 
         // Assertions
-        AssertionUtils.assertStatusCode(response, 200);
-        AssertionUtils.assertJsonPathExists(response, "id");
-        AssertionUtils.assertJsonPathValue(response, "id", testOrder.getId().intValue());
+        AssertionUtils.assertStatusCode(result, 200);
+        AssertionUtils.assertJsonPathExists(result, "id");
+        AssertionUtils.assertJsonPathValue(result, "id", testOrder.getId().intValue());
 
-        Order retrievedOrder = JsonUtils.fromResponse(response, Order.class);
+        Order retrievedOrder = result.as();
         Assert.assertEquals(retrievedOrder.getId(), testOrder.getId(), "Order ID mismatch");
 
         ExtentReportManager.logPass("Order retrieved successfully");
@@ -79,13 +79,15 @@ public class StoreApiTest extends BaseTest {
         // Assertions
         AssertionUtils.assertStatusCode(response, 200);
         AssertionUtils.assertContentType(response, "application/json");
-        AssertionUtils.assertResponseTime(response, 5000);
+        AssertionUtils.assertResponseTime(response);
 
         ExtentReportManager.logPass("Store inventory retrieved successfully");
     }
 
-    @Test(priority = 4, description = "Delete order by ID", dependsOnMethods = "testPlaceOrder")
+    @Test(priority = 4, description = "Delete order by ID")
     public void testDeleteOrder() {
+        Order testOrder = Fixtures.order();
+
         ExtentReportManager.logInfo("Sending DELETE request for order ID: " + testOrder.getId());
         Response response = storeEndpoint.delete(testOrder.getId());
 
@@ -97,8 +99,11 @@ public class StoreApiTest extends BaseTest {
         ExtentReportManager.logPass("Order deleted successfully");
     }
 
-    @Test(priority = 5, description = "Verify deleted order returns 404", dependsOnMethods = "testDeleteOrder")
+    @Test(priority = 5, description = "Verify deleted order returns 404")
     public void testGetDeletedOrder() {
+        Order testOrder = Fixtures.order();
+        AssertionUtils.assertStatusCode(storeEndpoint.delete(testOrder.getId()), 200);
+
         ExtentReportManager.logInfo("Attempting to retrieve deleted order");
         Response response = storeEndpoint.getById(testOrder.getId());
 
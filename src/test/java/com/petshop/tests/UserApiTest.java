@@ -2,13 +2,22 @@ package com.petshop.tests;
 
 import com.petshop.api.endpoints.UserEndpoint;
 import com.petshop.api.payloads.User;
+import com.petshop.api.payloads.compact.CompactJsonWriter;
+import com.petshop.api.payloads.compact.CompactPayloadGenerator;
+import com.petshop.api.payloads.compact.CompactUser;
+import com.petshop.api.response.ApiResult;
 import com.petshop.base.BaseTest;
+import com.petshop.cleanup.ResourceTracker;
+import com.petshop.cleanup.ResourceType;
+import com.petshop.fixtures.Fixtures;
+import com.petshop.scheduler.SharedState;
 import com.petshop.utils.AssertionUtils;
 import com.petshop.utils.ExtentReportManager;
 import com.petshop.utils.JsonUtils;
 import com.petshop.utils.TestDataGenerator;
 import io.restassured.response.Response;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
@@ -21,7 +30,6 @@ import java.util.List;
 public class UserApiTest extends BaseTest {
 
     private UserEndpoint userEndpoint;
-    private User testUser;
 
     @BeforeClass
     public void setup() {
@@ -31,7 +39,7 @@ public class UserApiTest extends BaseTest {
     @Test(priority = 1, description = "Create a new user with valid data")
     public void testCreateUser() {
         ExtentReportManager.logInfo("Generating test user data");
-        testUser = TestDataGenerator.generateUser();
+        User testUser = TestDataGenerator.generateUser();
 
         ExtentReportManager.logInfo("Sending POST request to create user");
         Response response = userEndpoint.create(testUser);
@@ -40,30 +48,53 @@ public class UserApiTest extends BaseTest {
 
         // Assertions
         AssertionUtils.assertStatusCode(response, 200);
-        AssertionUtils.assertResponseTime(response, 5000);
+        AssertionUtils.assertResponseTime(response);
 
         ExtentReportManager.logPass("User created successfully: " + testUser.getUsername());
     }
 
-    @Test(priority = 2, description = "Get user by username", dependsOnMethods = "testCreateUser")
+    @Test(priority = 1, description = "Create a user from a serialized JSON body and track it for cleanup")
+    public void testCreateRawUserIsTracked() {
+        if (!ResourceTracker.isEnabled()) {
+            throw new SkipException("cleanup.enabled is off, nothing is tracked");
+        }
+        CompactUser testUser = CompactPayloadGenerator.user();
+
+        ExtentReportManager.logInfo("Sending POST request with a serialized user body");
+        Response response = userEndpoint.createRaw(CompactJsonWriter.toBytes(testUser));
+
+        // Assertions
+        AssertionUtils.assertStatusCode(response, 200);
+        boolean tracked = ResourceTracker.isTracked(userEndpoint.getBaseUri(), ResourceType.USER,
+                testUser.getUsername());
+        Assert.assertTrue(tracked, "User created from raw bytes is not tracked: " + testUser.getUsername());
+
+        ExtentReportManager.logPass("Raw user tracked for cleanup: " + testUser.getUsername());
+    }
+
+    @Test(priority = 2, description = "Get user by username")
     public void testGetUserByUsername() {
+        User testUser = Fixtures.readOnlyUser();
+
         ExtentReportManager.logInfo("Sending GET request to retrieve user: " + testUser.getUsername());
-        Response response = userEndpoint.getById(testUser.getUsername());
+        ApiResult<User> result = userEndpoint.getByIdTyped(testUser.getUsername());
 
-        ExtentReportManager.logInfo("Response: " + JsonUtils.prettyPrint(response.asString()));
+        ExtentReportManager.logInfo("Response: " + result.prettyPrint());
 
         // Assertions
-        AssertionUtils.assertStatusCode(response, 200);
-        AssertionUtils.assertJsonPathValue(response, "username", testUser.getUsername());
+        AssertionUtils.assertStatusCode(result, 200);
+        AssertionUtils.assertJsonPathValue(result, "username", testUser.getUsername());
 
-        User retrievedUser = JsonUtils.fromResponse(response, User.class);
+        User retrievedUser = result.as();
         Assert.assertEquals(retrievedUser.getEmail(), testUser.getEmail(), "Email mismatch");
 
         ExtentReportManager.logPass("User retrieved successfully");
     }
 
-    @Test(priority = 3, description = "Update user information", dependsOnMethods = "testCreateUser")
+    @Test(priority = 3, description = "Update user information")
     public void testUpdateUser() {
+        User testUser = Fixtures.user();
+
         ExtentReportManager.logInfo("Updating user information");
         testUser.setFirstName("Updated" + testUser.getFirstName());
         testUser.setEmail("updated_" + testUser.getEmail());
@@ -79,8 +110,11 @@ public class UserApiTest extends BaseTest {
         ExtentReportManager.logPass("User updated successfully");
     }
 
-    @Test(priority = 4, description = "User login with valid credentials", dependsOnMethods = "testCreateUser")
+    @Test(priority = 4, description = "User login with valid credentials")
+    @SharedState(writes = "session")
     public void testUserLogin() {
+        User testUser = Fixtures.readOnlyUser();
+
         ExtentReportManager.logInfo("Testing user login");
         Response response = userEndpoint.login(testUser.getUsername(), testUser.getPassword());
 
@@ -94,6 +128,7 @@ public class UserApiTest extends BaseTest {
     }
 
     @Test(priority = 5, description = "User logout")
+    @SharedState(writes = "session")
     public void testUserLogout() {
         ExtentReportManager.logInfo("Testing user logout");
         Response response = userEndpoint.logout();
@@ -122,8 +157,10 @@ public class UserApiTest extends BaseTest {
         ExtentReportManager.logPass("Multiple users created successfully");
     }
 
-    @Test(priority = 7, description = "Delete user", dependsOnMethods = "testCreateUser")
+    @Test(priority = 7, description = "Delete user")
     public void testDeleteUser() {
+        User testUser = Fixtures.user();
+
         ExtentReportManager.logInfo("Sending DELETE request for user: " + testUser.getUsername());
         Response response = userEndpoint.delete(testUser.getUsername());
 
@@ -135,8 +172,11 @@ public class UserApiTest extends BaseTest {
         ExtentReportManager.logPass("User deleted successfully");
     }
 
-    @Test(priority = 8, description = "Verify deleted user returns 404", dependsOnMethods = "testDeleteUser")
+    @Test(priority = 8, description = "Verify deleted user returns 404")
     public void testGetDeletedUser() {
+        User testUser = Fixtures.user();
+        AssertionUtils.assertStatusCode(userEndpoint.delete(testUser.getUsername()), 200);
+
         ExtentReportManager.logInfo("Attempting to retrieve deleted user");
         Response response = userEndpoint.getById(testUser.getUsername());
 
@@ -149,6 +189,7 @@ public class UserApiTest extends BaseTest {
     }
 
     @Test(priority = 9, description = "User login with invalid credentials - negative test")
+    @SharedState(writes = "session")
     public void testUserLoginWithInvalidCredentials() {
         ExtentReportManager.logInfo("Testing user login with invalid credentials");
         Response response = userEndpoint.login("invalidUser", "invalidPassword");